@@ -2,6 +2,7 @@ package com.financialplanner.moduleapi;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Entry point for the ModuleApiApplication, enabling it as a Spring Boot application.
@@ -13,7 +14,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * - com.financialplanner.moduledisplaybc
  * - com.financialplanner.moduleapi
  * It is designed to initiate and bootstrap the application using the Spring framework.
+ * Scheduling is enabled for background maintenance such as ledger pre-warming.
  */
+@EnableScheduling
 @SpringBootApplication(scanBasePackages = {
     "com.financialplanner.moduleapi",
     "com.financialplanner.moduleauth",
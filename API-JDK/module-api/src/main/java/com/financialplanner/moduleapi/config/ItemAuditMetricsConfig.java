@@ -0,0 +1,49 @@
+package com.financialplanner.moduleapi.config;
+
+import com.financialplanner.moduleitemsbc.application.audit.ItemAuditLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Configuration class that publishes the item audit log writer's state as Micrometer meters, listed under
+ * {@code /actuator/metrics}: the queue depth ({@code items.audit.queue.size}), entries by outcome
+ * ({@code items.audit.entries} tagged written, dropped or failed), entries that found the queue full
+ * ({@code items.audit.overflows}), the queue-to-insert latency of written entries ({@code items.audit.latency})
+ * and the duration of each batch insert ({@code items.audit.batch.write}).
+ */
+@Configuration
+public class ItemAuditMetricsConfig {
+
+    @Bean
+    public MeterBinder itemAuditMetrics(ItemAuditLog auditLog) {
+        return registry -> {
+            Gauge.builder("items.audit.queue.size", auditLog, ItemAuditLog::queueSize)
+                 .register(registry);
+            counter(registry, "items.audit.entries", auditLog, ItemAuditLog::writtenCount, "result", "written");
+            counter(registry, "items.audit.entries", auditLog, ItemAuditLog::droppedCount, "result", "dropped");
+            counter(registry, "items.audit.entries", auditLog, ItemAuditLog::failedCount, "result", "failed");
+            counter(registry, "items.audit.overflows", auditLog, ItemAuditLog::overflowCount);
+            FunctionTimer.builder("items.audit.latency", auditLog, ItemAuditLog::writtenCount,
+                                  ItemAuditLog::latencyTotalNanos, TimeUnit.NANOSECONDS)
+                         .register(registry);
+            FunctionTimer.builder("items.audit.batch.write", auditLog, ItemAuditLog::batchCount,
+                                  ItemAuditLog::batchTotalNanos, TimeUnit.NANOSECONDS)
+                         .register(registry);
+        };
+    }
+
+    private static void counter(MeterRegistry registry, String name, ItemAuditLog auditLog,
+                                ToDoubleFunction<ItemAuditLog> count, String... tags) {
+        FunctionCounter.builder(name, auditLog, count)
+                       .tags(tags)
+                       .register(registry);
+    }
+}
@@ -0,0 +1,61 @@
+package com.financialplanner.moduleapi.config;
+
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.cache.CacheRegions;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Configuration class that publishes the Hibernate second-level cache statistics as Micrometer counters,
+ * listed under {@code /actuator/metrics}. Each region reports {@code hibernate.cache.requests} tagged with
+ * the hit or miss result and {@code hibernate.cache.puts}. The counters read zero unless
+ * {@code hibernate.generate_statistics} is enabled.
+ */
+@Configuration
+public class SecondLevelCacheMetricsConfig {
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                                                    .getStatistics();
+        return registry -> {
+            bindRegion(registry, statistics, CacheRegions.REFERENCE_DATA,
+                       s -> s.getDomainDataRegionStatistics(CacheRegions.REFERENCE_DATA));
+            bindRegion(registry, statistics, CacheRegions.ITEM_LISTS,
+                       s -> s.getQueryRegionStatistics(CacheRegions.ITEM_LISTS));
+        };
+    }
+
+    private static void bindRegion(MeterRegistry registry, Statistics statistics,
+                                   String region, Function<Statistics, CacheRegionStatistics> regionStatistics) {
+        counter(registry, "hibernate.cache.requests", statistics, region, regionStatistics,
+                CacheRegionStatistics::getHitCount, "result", "hit");
+        counter(registry, "hibernate.cache.requests", statistics, region, regionStatistics,
+                CacheRegionStatistics::getMissCount, "result", "miss");
+        counter(registry, "hibernate.cache.puts", statistics, region, regionStatistics,
+                CacheRegionStatistics::getPutCount);
+    }
+
+    private static void counter(MeterRegistry registry, String name,
+                                Statistics statistics, String region,
+                                Function<Statistics, CacheRegionStatistics> regionStatistics,
+                                ToLongFunction<CacheRegionStatistics> count, String... tags) {
+        FunctionCounter.builder(name, statistics, s -> {
+                           // Query regions only exist once their first query ran
+                           CacheRegionStatistics r = regionStatistics.apply(s);
+                           return r == null ? 0 : count.applyAsLong(r);
+                       })
+                       .tag("region", region)
+                       .tags(tags)
+                       .register(registry);
+    }
+}
@@ -0,0 +1,28 @@
+package com.financialplanner.moduleapi.config;
+
+import com.financialplanner.modulecommonbc.sharding.ShardRoutingDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class that applies the Flyway migrations to every shard when sharding is enabled.
+ * The auto-configured Flyway would only reach the directory shard through the routing datasource, so each
+ * shard's pool is migrated in turn with the same settings and locations.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.sharding", name = "enabled", havingValue = "true")
+public class ShardMigrationConfig {
+    @Bean
+    public FlywayMigrationStrategy shardMigrationStrategy(ShardRoutingDataSource shardRoutingDataSource) {
+        return flyway -> shardRoutingDataSource.getResolvedDataSources()
+                                               .values()
+                                               .forEach(shard -> Flyway.configure()
+                                                                       .configuration(flyway.getConfiguration())
+                                                                       .dataSource(shard)
+                                                                       .load()
+                                                                       .migrate());
+    }
+}
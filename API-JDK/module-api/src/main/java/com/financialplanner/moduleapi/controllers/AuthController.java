@@ -8,6 +8,7 @@ import com.financialplanner.moduleauth.application.service.RefreshTokenServiceIm
 import com.financialplanner.moduleauth.domain.service.AuthService;
 import com.financialplanner.moduleauth.domain.service.UserRolesService;
 import com.financialplanner.moduleauth.infrastructure.persistence.entity.User;
+import com.financialplanner.moduledisplaybc.cache.LedgerPrewarmScheduler;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -27,17 +28,20 @@ public class AuthController {
     private final JwtService jwtService;
     private final ApiResponseFactory responseFactory;
     private final UserRolesService userRolesService;
+    private final LedgerPrewarmScheduler ledgerPrewarmScheduler;
 
     public AuthController(AuthService authService,
                           RefreshTokenServiceImpl refreshTokenService,
                           JwtService jwtService,
                           ApiResponseFactory responseFactory,
-                          UserRolesService userRolesService) {
-        this.authService         = authService;
-        this.refreshTokenService = refreshTokenService;
-        this.jwtService          = jwtService;
-        this.responseFactory     = responseFactory;
-        this.userRolesService    = userRolesService;
+                          UserRolesService userRolesService,
+                          LedgerPrewarmScheduler ledgerPrewarmScheduler) {
+        this.authService            = authService;
+        this.refreshTokenService    = refreshTokenService;
+        this.jwtService             = jwtService;
+        this.responseFactory        = responseFactory;
+        this.userRolesService       = userRolesService;
+        this.ledgerPrewarmScheduler = ledgerPrewarmScheduler;
     }
 
     @PostMapping("/register")
@@ -70,6 +74,9 @@ public class AuthController {
 
         User user = authService.login(request.email(), request.password());
 
+        // Warm the dashboard ledger in the background while the client handles the login response
+        ledgerPrewarmScheduler.recordActivity(user.getUserId());
+
         var roleNames = userRolesService.getRoleNamesForUser(user.getId());
 
         var accessToken = jwtService.generateToken(user.getEmail(), Map.of("roles", roleNames));
@@ -3,16 +3,38 @@ package com.financialplanner.moduleapi.controllers;
 
 //import com.financialplanner.modulecommonbc.ledger.LedgerRequest;
 import com.financialplanner.moduleapi.dtos.item.ItemResponse;
+import com.financialplanner.moduledisplaybc.cache.LedgerCache;
 import com.financialplanner.moduledisplaybc.model.Ledger;
 import com.financialplanner.moduledisplaybc.model.LedgerDto;
+import com.financialplanner.moduledisplaybc.model.LedgerJob;
+import com.financialplanner.moduledisplaybc.model.LedgerJobStatus;
 import com.financialplanner.moduledisplaybc.model.LedgerRequest;
+import com.financialplanner.moduledisplaybc.model.MonthlyTotal;
+import com.financialplanner.moduledisplaybc.service.LedgerBatchListener;
+import com.financialplanner.moduledisplaybc.service.LedgerExportService;
+import com.financialplanner.moduledisplaybc.service.LedgerJobService;
 import com.financialplanner.moduledisplaybc.service.LedgerReadoutService;
+import com.financialplanner.moduledisplaybc.service.LedgerStreamService;
 import com.financialplanner.moduleapi.response.ApiResponse;
 import com.financialplanner.moduleapi.response.ApiResponseFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Optional;
 
 import static org.springframework.data.jpa.domain.AbstractPersistable_.id;
 
@@ -20,20 +42,199 @@ import static org.springframework.data.jpa.domain.AbstractPersistable_.id;
 @RequestMapping("/display")
 public class DisplayController {
 
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType APPLICATION_NDJSON = new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+    private static final long LEDGER_STREAM_TIMEOUT_MS = 300000; // 5 minutes
+    private static final int FLAT_BUFFER_SIZE = 64 * 1024;
+
     private final LedgerReadoutService ledgerReadoutService;
+    private final LedgerExportService ledgerExportService;
+    private final LedgerJobService ledgerJobService;
+    private final LedgerStreamService ledgerStreamService;
+    private final LedgerCache ledgerCache;
     private final ApiResponseFactory responseFactory;
+    private final JsonMapper jsonMapper;
 
-    public DisplayController(LedgerReadoutService ledgerReadoutService, ApiResponseFactory responseFactory) {
+    public DisplayController(LedgerReadoutService ledgerReadoutService, LedgerExportService ledgerExportService,
+                             LedgerJobService ledgerJobService, LedgerStreamService ledgerStreamService,
+                             LedgerCache ledgerCache, ApiResponseFactory responseFactory, JsonMapper jsonMapper) {
         this.ledgerReadoutService = ledgerReadoutService;
+        this.ledgerExportService = ledgerExportService;
+        this.ledgerJobService = ledgerJobService;
+        this.ledgerStreamService = ledgerStreamService;
+        this.ledgerCache = ledgerCache;
         this.responseFactory = responseFactory;
+        this.jsonMapper = jsonMapper;
     }
 
     @PostMapping("/ledger")
     public ResponseEntity<ApiResponse<List<LedgerDto>>> buildLedger(@RequestBody LedgerRequest request) {
 
+        // Serve pre-warmed or recently built ledgers from the cache (stored already sanitized)
+        Optional<List<LedgerDto>> cached = ledgerCache.get(request);
+        if (cached.isPresent()) {
+            return ResponseEntity.ok(responseFactory.successSanitized(cached.get(), "Items retrieved successfully"));
+        }
+
+        long stamp = ledgerCache.stamp();
         List<LedgerDto> ledger = ledgerReadoutService.buildLedgerReadout(request);
         // Build sanitized ApiResponse using ResponseFactory
         ApiResponse<List<LedgerDto>> body = responseFactory.success(ledger, "Items retrieved successfully");
+        ledgerCache.put(request, ledger, stamp);
         return ResponseEntity.ok(body);
     }
+
+    /**
+     * Streams the ledger in flat form as newline-delimited JSON: one sanitized {@link Ledger} row per
+     * occurrence carrying the day summary, plus a summary-only row for each day without occurrences.
+     * Suited to grid views that would otherwise have to walk the nested {@link LedgerDto#getItems()} lists.
+     * Rows are written as the ledger is walked, so long date ranges are never held in memory.
+     *
+     * @param request the ledger request holding the user ID and date range
+     * @return a streaming NDJSON response with the rows in date order
+     */
+    @PostMapping("/ledger/flat")
+    public ResponseEntity<StreamingResponseBody> buildFlatLedger(@RequestBody LedgerRequest request) {
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), FLAT_BUFFER_SIZE);
+            try {
+                ledgerExportService.forEachSanitizedRow(request, row -> {
+                    try {
+                        writer.write(jsonMapper.writeValueAsString(row));
+                        writer.write('\n');
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                             .contentType(APPLICATION_NDJSON)
+                             .body(body);
+    }
+
+    /**
+     * Returns the credit and debit totals of each calendar month in the ledger range. Summed in the database
+     * when the range lies inside the materialized occurrence horizon, otherwise aggregated from the ledger.
+     *
+     * @param request the ledger request holding the user ID and date range
+     * @return the sanitized monthly totals in month order
+     */
+    @PostMapping("/ledger/monthly-totals")
+    public ResponseEntity<ApiResponse<List<MonthlyTotal>>> buildMonthlyTotals(@RequestBody LedgerRequest request) {
+        List<MonthlyTotal> totals = ledgerReadoutService.buildMonthlyTotals(request);
+        ApiResponse<List<MonthlyTotal>> body = responseFactory.success(totals, "Monthly totals retrieved successfully");
+        return ResponseEntity.ok(body);
+    }
+
+    /**
+     * Exports the ledger as a CSV attachment with one row per occurrence (and one summary row per empty day).
+     * The body is streamed while the ledger is walked, so large date ranges do not build the nested
+     * {@link LedgerDto} table or a JSON document in memory.
+     *
+     * @param request the ledger request holding the user ID and date range
+     * @return a streaming CSV response
+     */
+    @PostMapping("/ledger/export")
+    public ResponseEntity<StreamingResponseBody> exportLedger(@RequestBody LedgerRequest request) {
+        StreamingResponseBody body = out -> ledgerExportService.exportCsv(request, out);
+        return ResponseEntity.ok()
+                             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"ledger.csv\"")
+                             .contentType(TEXT_CSV)
+                             .body(body);
+    }
+
+    /**
+     * Streams the ledger over Server-Sent Events in calendar-month batches. Each {@code ledger} event carries
+     * the sanitized {@link LedgerDto} rows of one month, in date order, as soon as that month is finalized;
+     * a final {@code complete} event marks the end of the ledger.
+     *
+     * @param request the ledger request holding the user ID and date range
+     * @return the event emitter the months are pushed through
+     */
+    @PostMapping(value = "/ledger/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLedger(@RequestBody LedgerRequest request) {
+        SseEmitter emitter = new SseEmitter(LEDGER_STREAM_TIMEOUT_MS);
+        ledgerStreamService.streamByMonth(request, new LedgerBatchListener() {
+            @Override
+            public void onBatch(List<LedgerDto> batch) {
+                try {
+                    emitter.send(SseEmitter.event().name("ledger").data(batch, MediaType.APPLICATION_JSON));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                try {
+                    emitter.send(SseEmitter.event().name("complete").data("done"));
+                    emitter.complete();
+                } catch (IOException ex) {
+                    emitter.completeWithError(ex);
+                }
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                emitter.completeWithError(error);
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * Queues a ledger build on the background job executor and returns immediately.
+     * Intended for long horizons that would otherwise hold a request thread until the whole ledger is built.
+     *
+     * @param request the ledger request holding the user ID and date range
+     * @return HTTP 202 with the job snapshot and a Location header pointing at its status resource
+     */
+    @PostMapping("/ledger/jobs")
+    public ResponseEntity<ApiResponse<LedgerJob>> submitLedgerJob(@RequestBody LedgerRequest request) {
+        LedgerJob job = ledgerJobService.submit(request);
+        URI location = URI.create("/display/ledger/jobs/" + job.getJobId());
+        ApiResponse<LedgerJob> body = responseFactory.accepted(job, "Ledger job queued");
+        return ResponseEntity.accepted()
+                             .location(location)
+                             .body(body);
+    }
+
+    /**
+     * Returns the status and progress of a ledger job.
+     *
+     * @param jobId the job identifier returned on submission
+     * @return the current job snapshot
+     */
+    @GetMapping("/ledger/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<LedgerJob>> getLedgerJob(@PathVariable("jobId") String jobId) {
+        LedgerJob job = ledgerJobService.getJob(jobId);
+        ApiResponse<LedgerJob> body = responseFactory.success(job, "Ledger job retrieved successfully");
+        return ResponseEntity.ok(body);
+    }
+
+    /**
+     * Returns the ledger computed by a job. While the job is still queued or running the response is
+     * HTTP 202 pointing back at the status resource; a failed job yields HTTP 500.
+     *
+     * @param jobId the job identifier returned on submission
+     * @return the sanitized ledger once the job has completed
+     */
+    @GetMapping("/ledger/jobs/{jobId}/result")
+    public ResponseEntity<ApiResponse<List<LedgerDto>>> getLedgerJobResult(@PathVariable("jobId") String jobId) {
+        LedgerJob job = ledgerJobService.getJob(jobId);
+        if (job.getStatus() == LedgerJobStatus.FAILED) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                 .body(new ApiResponse<>(500, job.getMessage()));
+        }
+
+        return ledgerJobService.getResult(jobId)
+                               .map(ledger -> ResponseEntity.ok(responseFactory.success(ledger, "Items retrieved successfully")))
+                               .orElseGet(() -> ResponseEntity.accepted()
+                                                              .location(URI.create("/display/ledger/jobs/" + jobId))
+                                                              .body(new ApiResponse<>(202, "Ledger job is " + job.getStatus())));
+    }
 }
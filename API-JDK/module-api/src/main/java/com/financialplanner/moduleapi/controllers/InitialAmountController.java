@@ -5,9 +5,11 @@ import com.financialplanner.moduleapi.dtos.initialamount.InitialAmountResponse;
 import com.financialplanner.moduleapi.mappers.InitialAmountMapper;
 import com.financialplanner.moduleapi.response.ApiResponse;
 import com.financialplanner.moduleapi.response.ApiResponseFactory;
-import com.financialplanner.modulecommonbc.exception.DuplicateItemException;
 import com.financialplanner.modulecommonbc.exception.ItemNotFoundException;
 import com.financialplanner.modulecommonbc.exception.RepositoryException;
+import com.financialplanner.moduledisplaybc.cache.LedgerCache;
+import com.financialplanner.moduleitemsbc.domain.model.InitialAmountResult;
+import com.financialplanner.moduleitemsbc.domain.service.InitialAmountService;
 import com.financialplanner.moduleitemsbc.domain.service.ItemService;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
 import org.springframework.dao.DataAccessException;
@@ -16,27 +18,32 @@ import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
 import java.util.List;
-import java.util.Objects;
 import java.util.UUID;
 
 /**
  * REST controller for InitialAmount operations.
  * Uses the Item domain/entity for persistence (mapped from InitialAmountRequest).
  * Supports Get (by id and by userId+itemType), Create and Update. Delete is intentionally omitted.
+ * Create and Update go through the dedicated {@link InitialAmountService}, one statement each.
  */
 @RestController
 @RequestMapping("/initial-amount")
 public class InitialAmountController {
 
     private final ItemService service;
+    private final InitialAmountService initialAmountService;
     private final InitialAmountMapper mapper;
     private final ApiResponseFactory responseFactory;
+    private final LedgerCache ledgerCache;
 
-    public InitialAmountController(ItemService service, InitialAmountMapper mapper,
-                                   ApiResponseFactory responseFactory) {
-        this.service         = service;
-        this.mapper          = mapper;
-        this.responseFactory = responseFactory;
+    public InitialAmountController(ItemService service, InitialAmountService initialAmountService,
+                                   InitialAmountMapper mapper, ApiResponseFactory responseFactory,
+                                   LedgerCache ledgerCache) {
+        this.service              = service;
+        this.initialAmountService = initialAmountService;
+        this.mapper               = mapper;
+        this.responseFactory      = responseFactory;
+        this.ledgerCache          = ledgerCache;
     }
 
     /**
@@ -64,20 +71,21 @@ public class InitialAmountController {
     }
 
     /**
-     * Create a new InitialAmount (backed by Item).
+     * Create the user's InitialAmount (backed by Item), or overwrite it if the user already has one.
+     * The write is a single atomic upsert, so concurrent requests cannot create a second InitialAmount.
      */
     @SuppressWarnings({"QodanaXss", "JvmTaintAnalysis", "XSS"})
     @PostMapping
     public ResponseEntity<ApiResponse<InitialAmountResponse>> create(@RequestBody InitialAmountRequest request) {
         Item entity = mapper.toEntity(request);
-        final long INITIAL_AMOUNT_ITEM_TYPE_ID = 3L;
 
         try {
-            List<Item> items = service.findByUserIdAndItemTypeId(entity.getUserId(), INITIAL_AMOUNT_ITEM_TYPE_ID);
-            if (!items.isEmpty()) {
-                throw new DuplicateItemException("User already has an initial amount: " + entity.getUserId(), null);
+            InitialAmountResult result = initialAmountService.save(entity);
+            InitialAmountResponse response = mapper.toResponse(result.item());
+            ledgerCache.evictUser(entity.getUserId());
+            if (!result.created()) {
+                return ResponseEntity.ok(responseFactory.success(response, "InitialAmount updated successfully"));
             }
-            InitialAmountResponse response = mapper.toResponse(service.create(entity));
             URI location = URI.create("/initial-amount/" + response.id());
             ApiResponse<InitialAmountResponse> body = responseFactory.created(response,
                                                                               "InitialAmount created successfully",
@@ -86,27 +94,21 @@ public class InitialAmountController {
                                  .body(body);
 
         } catch (DataAccessException ex) {
-            throw new RepositoryException("Database failure while saving Item " + entity.getId(), ex);
+            throw new RepositoryException("Database failure while saving InitialAmount for user "
+                                          + entity.getUserId(), ex);
         }
     }
 
     /**
-     * Update an existing InitialAmount (backed by Item) by id.
+     * Update an existing InitialAmount (backed by Item) by id, in a single statement.
      */
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<InitialAmountResponse>> update(@PathVariable("id") Long id,
                                                                      @RequestBody InitialAmountRequest request) {
-        final long INITIAL_AMOUNT_ITEM_TYPE_ID = 3L;
         try {
-            List<Item> items = service.findByUserIdAndItemTypeId(request.userId(), INITIAL_AMOUNT_ITEM_TYPE_ID);
-            if (!items.isEmpty() && !Objects.equals(id, items.getFirst().getId())) {
-                throw new ItemNotFoundException("InitialAmount for UserId: " + request.userId() + " not found");
-            }
-            else if (items.isEmpty()) {
-                throw new ItemNotFoundException("InitialAmount for for UserId: " + request.userId() + " not found");
-            }
             Item entity = mapper.toEntity(request);
-            InitialAmountResponse response = mapper.toResponse(service.update(id, entity));
+            InitialAmountResponse response = mapper.toResponse(initialAmountService.update(id, entity));
+            ledgerCache.evictUser(request.userId());
             ApiResponse<InitialAmountResponse> body = responseFactory.success(response,
                                                                               "InitialAmount updated successfully");
             return ResponseEntity.ok(body);
@@ -1,16 +1,39 @@
 package com.financialplanner.moduleapi.controllers;
 
+import com.financialplanner.moduleapi.dtos.item.ItemBatchDeleteRequest;
+import com.financialplanner.moduleapi.dtos.item.ItemBatchResponse;
+import com.financialplanner.moduleapi.dtos.item.ItemBatchUpdateRequest;
+import com.financialplanner.moduleapi.dtos.item.ItemPageResponse;
 import com.financialplanner.moduleapi.dtos.item.ItemRequest;
 import com.financialplanner.moduleapi.dtos.item.ItemResponse;
 import com.financialplanner.moduleapi.mappers.ItemMapper;
 import com.financialplanner.moduleapi.response.ApiResponse;
 import com.financialplanner.moduleapi.response.ApiResponseFactory;
+import com.financialplanner.moduledisplaybc.cache.LedgerCache;
+import com.financialplanner.moduleitemsbc.domain.model.ItemBatchResult;
+import com.financialplanner.moduleitemsbc.domain.model.ItemPage;
+import com.financialplanner.moduleitemsbc.domain.service.ItemArchiveService;
 import com.financialplanner.moduleitemsbc.domain.service.ItemService;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.modulecommonbc.exception.DomainValidationException;
+import com.financialplanner.modulecommonbc.sanitizer.Sanitizer;
+import com.financialplanner.modulecommonbc.sharding.ShardRouter;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,58 +47,155 @@ import java.util.UUID;
 @RequestMapping("/items")
 public class ItemController {
 
+    private static final MediaType APPLICATION_NDJSON = new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
     private final ItemService service;
+    private final ItemArchiveService archiveService;
     private final ItemMapper mapper;
     private final ApiResponseFactory responseFactory;
+    private final LedgerCache ledgerCache;
+    private final Sanitizer sanitizer;
+    private final JsonMapper jsonMapper;
+    private final ShardRouter shardRouter;
 
     /**
      * Constructs a new ItemController to handle API requests for managing items.
      *
      * @param service         the service layer responsible for managing item entities
+     * @param archiveService  the service serving archived items
      * @param mapper          the mapper to convert between entities and DTOs
      * @param responseFactory the factory to build API responses
+     * @param ledgerCache     the ledger cache to invalidate when a user's items change
+     * @param sanitizer       the sanitizer applied to each streamed export row
+     * @param jsonMapper      the mapper writing streamed export rows
+     * @param shardRouter     the router the export walks every shard with
      */
-    public ItemController(ItemService service, ItemMapper mapper, ApiResponseFactory responseFactory) {
+    public ItemController(ItemService service, ItemArchiveService archiveService, ItemMapper mapper,
+                          ApiResponseFactory responseFactory, LedgerCache ledgerCache, Sanitizer sanitizer,
+                          JsonMapper jsonMapper, ShardRouter shardRouter) {
         this.service         = service;
+        this.archiveService  = archiveService;
         this.mapper          = mapper;
         this.responseFactory = responseFactory;
+        this.ledgerCache     = ledgerCache;
+        this.sanitizer       = sanitizer;
+        this.jsonMapper      = jsonMapper;
+        this.shardRouter     = shardRouter;
     }
 
     /**
-     * Retrieves a list of items.
+     * Retrieves one page of items ordered by user ID and id, optionally filtered.
+     * Pages are addressed by keyset: pass the {@code nextCursor} of a page as {@code cursor} to get the
+     * following one. Every page costs the same however deep the client pages, and the response size is
+     * bounded by {@code limit}.
+     *
+     * @param userId   restricts the page to one user's items; all users, merged from every shard, when omitted
+     * @param itemType restricts the page to one item type
+     * @param period   restricts the page to one time period
+     * @param from     keeps items whose date range ends on or after this day (ISO date)
+     * @param to       keeps items whose date range begins on or before this day (ISO date)
+     * @param cursor   the {@code nextCursor} of the previous page; omitted for the first page
+     * @param limit    the page size, 1 to 500 (default 100)
      *
-     * @return a ResponseEntity containing an ApiResponse with a list of ItemResponse objects.
+     * @return a ResponseEntity containing an ApiResponse with the page of ItemResponse objects and the next cursor
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ItemResponse>>> list() {
-        // Retrieve all time period entities from the repository
-        List<Item> items = service.list();
-        // Map each entity to its corresponding response object
-        List<ItemResponse> responseList = items.stream()
-                                               .map(mapper::toResponse)
-                                               .toList();
+    public ResponseEntity<ApiResponse<ItemPageResponse>> list(
+            @RequestParam(name = "userId", required = false) UUID userId,
+            @RequestParam(name = "itemType", required = false) Long itemType,
+            @RequestParam(name = "period", required = false) Long period,
+            @RequestParam(name = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(name = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        // Retrieve one keyset page of item entities from the repository
+        ItemPage page = service.findPage(mapper.toPageQuery(userId, itemType, period, from, to, cursor, limit));
         // Build sanitized ApiResponse using ResponseFactory
-        ApiResponse<List<ItemResponse>> response = responseFactory.success(responseList, "Items fetched successfully");
+        ApiResponse<ItemPageResponse> response = responseFactory.success(mapper.toResponse(page),
+                                                                         "Items fetched successfully");
         // Return 200 Success + sanitized body
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Exports every item as newline-delimited JSON, one sanitized {@link ItemResponse} per line in id order
+     * within each shard.
+     * Items are read through a database cursor and written as they arrive, so the export runs in constant
+     * heap whatever the size of the table; use the paged {@code GET /items} for interactive views.
+     *
+     * @return a streaming NDJSON response
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+            try {
+                shardRouter.forEachShard(() -> service.forEachItem(item -> {
+                    // Records are replaced rather than mutated, so sanitize through a one-slot array
+                    ItemResponse[] row = {mapper.toResponse(item)};
+                    sanitizer.sanitize(row);
+                    try {
+                        writer.write(jsonMapper.writeValueAsString(row[0]));
+                        writer.write('\n');
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                }));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"items.ndjson\"")
+                             .contentType(APPLICATION_NDJSON)
+                             .body(body);
+    }
+
+    /**
+     * Retrieves the user's archived items: one-time and range-bound items that expired long enough ago to be
+     * moved out of the active items by the archive job. They no longer appear in ledgers or item lists.
+     *
+     * @param userId the UUID of the user whose archived items are to be retrieved
+     * @return ResponseEntity containing an ApiResponse with the archived items in id order
+     */
+    @GetMapping("/archive/{userId}")
+    public ResponseEntity<ApiResponse<List<ItemResponse>>> getArchived(@PathVariable("userId") UUID userId) {
+        // Retrieve archived items from cold storage
+        List<ItemResponse> responseList = archiveService.findArchivedByUserId(userId)
+                                                        .stream()
+                                                        .map(mapper::toResponse)
+                                                        .toList();
+        // Build sanitized ApiResponse using ResponseFactory
+        ApiResponse<List<ItemResponse>> body = responseFactory.success(responseList,
+                                                                       "Archived items retrieved successfully");
+        // Return 200 Success + sanitized body
+        return ResponseEntity.ok(body);
+    }
+
     /**
      * Retrieves an item by its unique identifier.
+     * When the owner is given the item is read by its full key, touching only the owner's shard and partition.
+     * While sharding is enabled the owner is required, since item ids are only unique within a shard.
      *
-     * @param id the unique identifier of the item to be retrieved
+     * @param id     the unique identifier of the item to be retrieved
+     * @param userId the owner of the item; optional unless sharding is enabled
      *
      * @return a {@link ResponseEntity} containing an {@link ApiResponse}
      * that wraps the item's details if retrieval is successful
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<ItemResponse>> get(@PathVariable("id") Long id) {
+    public ResponseEntity<ApiResponse<ItemResponse>> get(@PathVariable("id") Long id,
+                                                         @RequestParam(name = "userId", required = false) UUID userId) {
         // Retrieve time period entity from the repository
-        ItemResponse item = mapper.toResponse(service.get(id));
+        ItemResponse item = mapper.toResponse(service.get(userId, id));
         // Build sanitized ApiResponse using ResponseFactory
         ApiResponse<ItemResponse> body = responseFactory.success(item, "Item " + id + " retrieved successfully");
-        // Return 200 Success + sanitized body
-        return ResponseEntity.ok(body);
+        // Return 200 Success + ETag + sanitized body
+        return ResponseEntity.ok()
+                             .eTag(Long.toString(item.version()))
+                             .body(body);
     }
 
     /**
@@ -116,6 +236,7 @@ public class ItemController {
         Item entity = mapper.toEntity(request);
         // Persist entity and then convert & sanitize the response
         ItemResponse response = mapper.toResponse(service.create(entity));
+        ledgerCache.evictUser(response.userId());
         // Build Location header for 201 Created
         URI location = URI.create("/items/create/" + response.id());
         // Build sanitized ApiResponse using ResponseFactory
@@ -126,45 +247,154 @@ public class ItemController {
                              .body(body);
     }
 
+    /**
+     * Imports many items in one request, for example when migrating a budget from a spreadsheet.
+     * Every request is sanitized and converted in a single pass; the items are then written in one
+     * transaction with multi-row inserts, so either all of them are created or none are.
+     *
+     * @param requests the items to create
+     *
+     * @return ResponseEntity containing the created items, in request order, and HTTP status 201 (Created)
+     */
+    @SuppressWarnings({"QodanaXss", "JvmTaintAnalysis", "XSS"})
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<List<ItemResponse>>> createAll(@RequestBody List<ItemRequest> requests) {
+        // Convert requests → entities & sanitize input
+        List<Item> entities = requests.stream()
+                                      .map(mapper::toEntity)
+                                      .toList();
+        // Persist entities and then convert & sanitize the responses
+        List<ItemResponse> responseList = service.createAll(entities)
+                                                 .stream()
+                                                 .map(mapper::toResponse)
+                                                 .toList();
+        responseList.stream()
+                    .map(ItemResponse::userId)
+                    .distinct()
+                    .forEach(ledgerCache::evictUser);
+        // Build sanitized ApiResponse using ResponseFactory
+        URI location = URI.create("/items");
+        String message = responseList.size() + " items created successfully";
+        ApiResponse<List<ItemResponse>> body = responseFactory.created(responseList, message, location.toString());
+        // Return 201 Created + Location + sanitized body
+        return ResponseEntity.created(location)
+                             .body(body);
+    }
+
     /**
      * Updates an existing item with the specified ID based on the provided request body.
+     * The item is overwritten with a single statement. When the request carries an {@code If-Match} header
+     * with the item's ETag, the update only applies if nobody changed the item since that version was read;
+     * otherwise HTTP 412 (Precondition Failed) is returned.
      *
      * @param id      The ID of the item to be updated.
+     * @param ifMatch The optional ETag of the version the change is based on.
      * @param request The request body containing the updated details of the item.
      *
      * @return A {@link ResponseEntity} containing an {@link ApiResponse} with the updated item details
-     * as {@link ItemResponse}, and a success message.
+     * as {@link ItemResponse}, a success message and the new ETag.
      */
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<ItemResponse>> update(@PathVariable("id") Long id,
+                                                            @RequestHeader(name = HttpHeaders.IF_MATCH,
+                                                                           required = false) String ifMatch,
                                                             @RequestBody ItemRequest request) {
         // Convert request → entity & sanitize input
         Item entity = mapper.toEntity(request);
         // Persist entity and then convert & sanitize the response
-        ItemResponse response = mapper.toResponse(service.update(id, entity));
+        ItemResponse response = mapper.toResponse(service.update(id, entity, parseVersion(ifMatch)));
+        ledgerCache.evictUser(response.userId());
         // Build sanitized ApiResponse using ResponseFactory
         ApiResponse<ItemResponse> body = responseFactory.success(response, "Item updated successfully");
-        // Return 200 Updated + sanitized body
-        return ResponseEntity.ok(body);
+        // Return 200 Updated + ETag + sanitized body
+        return ResponseEntity.ok()
+                             .eTag(Long.toString(response.version()))
+                             .body(body);
     }
 
     /**
      * Deletes an item identified by the given ID.
      * Upon successful deletion, a response confirming the deletion is returned.
+     * When the owner is given the item is deleted by its full key, touching only the owner's shard and partition.
+     * While sharding is enabled the owner is required, since item ids are only unique within a shard.
      *
-     * @param id the unique identifier of the item to be deleted
+     * @param id     the unique identifier of the item to be deleted
+     * @param userId the owner of the item; optional unless sharding is enabled
      *
      * @return a ResponseEntity containing an ApiResponse with a success message and no data payload
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<ApiResponse<Void>> delete(@PathVariable("id") Long id) {
-        // Build ApiResponse using ResponseFactory
-        service.delete(id);
+    public ResponseEntity<ApiResponse<Void>> delete(@PathVariable("id") Long id,
+                                                    @RequestParam(name = "userId", required = false) UUID userId) {
+        // The deleted row names the owner whose cached ledgers are invalidated
+        UUID owner = service.delete(userId, id).getUserId();
+        ledgerCache.evictUser(owner);
         // Build sanitized ApiResponse using ResponseFactory
         ApiResponse<Void> body = responseFactory.success("Item " + id + " deleted successfully");
         // Return 200 Deleted
         return ResponseEntity.ok(body);
     }
-}
 
+    /**
+     * Applies the same field changes to several of a user's items with a single set-based update.
+     * Fields left null in the request are unchanged.
+     *
+     * @param request the owner, the item ids and the new field values
+     *
+     * @return a ResponseEntity containing the ids that were updated and the ids that were not found
+     */
+    @PatchMapping("/batch")
+    public ResponseEntity<ApiResponse<ItemBatchResponse>> updateAll(@RequestBody ItemBatchUpdateRequest request) {
+        // Convert request → patch & sanitize input
+        ItemBatchResult result = service.updateAll(request.userId(), request.ids(), mapper.toPatch(request));
+        if (!result.succeeded().isEmpty()) {
+            ledgerCache.evictUser(request.userId());
+        }
+        // Build sanitized ApiResponse using ResponseFactory
+        ApiResponse<ItemBatchResponse> body = responseFactory.success(mapper.toResponse(result),
+                                                                      result.succeeded().size() + " items updated");
+        // Return 200 Updated + sanitized body
+        return ResponseEntity.ok(body);
+    }
+
+    /**
+     * Deletes several of a user's items with a single set-based delete.
+     *
+     * @param request the owner and the item ids
+     *
+     * @return a ResponseEntity containing the ids that were deleted and the ids that were not found
+     */
+    @PostMapping("/batch/delete")
+    public ResponseEntity<ApiResponse<ItemBatchResponse>> deleteAll(@RequestBody ItemBatchDeleteRequest request) {
+        ItemBatchResult result = service.deleteAll(request.userId(), request.ids());
+        if (!result.succeeded().isEmpty()) {
+            ledgerCache.evictUser(request.userId());
+        }
+        // Build sanitized ApiResponse using ResponseFactory
+        ApiResponse<ItemBatchResponse> body = responseFactory.success(mapper.toResponse(result),
+                                                                      result.succeeded().size() + " items deleted");
+        // Return 200 Deleted + sanitized body
+        return ResponseEntity.ok(body);
+    }
 
+    /**
+     * Extracts the item version from an {@code If-Match} header value such as {@code "3"} or {@code W/"3"}.
+     *
+     * @return the version, or {@code null} when the header is absent or {@code *}
+     */
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim()
+                                                          .equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.valueOf(tag.replace("\"", ""));
+        } catch (NumberFormatException ex) {
+            throw new DomainValidationException("If-Match must carry a single item ETag");
+        }
+    }
+}
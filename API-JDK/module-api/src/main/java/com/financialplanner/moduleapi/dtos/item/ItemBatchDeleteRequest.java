@@ -0,0 +1,25 @@
+package com.financialplanner.moduleapi.dtos.item;
+
+import com.financialplanner.modulecommonbc.exception.DomainValidationException;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request to delete several of a user's items at once.
+ * Fields:
+ * - userId: The owner of the items (required); ids belonging to other users are reported as not found.
+ * - ids: The identifiers of the items to delete (required, at least one).
+ */
+public record ItemBatchDeleteRequest(@NotNull UUID userId, @NotNull List<Long> ids) {
+
+    public ItemBatchDeleteRequest {
+        if (userId == null) {
+            throw new DomainValidationException("Item UserId is required and cannot be blank");
+        }
+        if (ids == null || ids.isEmpty()) {
+            throw new DomainValidationException("At least one item id is required");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.financialplanner.moduleapi.dtos.item;
+
+import java.util.List;
+
+/**
+ * Per-id outcome of a batch update or delete.
+ * Fields:
+ * - succeeded: The ids that were updated or deleted, in request order.
+ * - notFound: The ids that do not exist or belong to another user, in request order.
+ */
+public record ItemBatchResponse(List<Long> succeeded, List<Long> notFound) {}
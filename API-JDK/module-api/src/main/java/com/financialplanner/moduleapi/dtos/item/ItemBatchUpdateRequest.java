@@ -0,0 +1,35 @@
+package com.financialplanner.moduleapi.dtos.item;
+
+import com.financialplanner.modulecommonbc.exception.DomainValidationException;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request to apply the same field changes to several of a user's items at once.
+ * Fields:
+ * - userId: The owner of the items (required); ids belonging to other users are reported as not found.
+ * - ids: The identifiers of the items to change (required, at least one).
+ * - name, amount, fkPeriod, beginDate, endDate, dateRangeReq: The new values; a null field is left unchanged.
+ */
+public record ItemBatchUpdateRequest(@NotNull UUID userId, @NotNull List<Long> ids, String name, Double amount,
+                                     Integer fkPeriod, LocalDate beginDate, LocalDate endDate, Boolean dateRangeReq
+) {
+
+    public ItemBatchUpdateRequest {
+        if (userId == null) {
+            throw new DomainValidationException("Item UserId is required and cannot be blank");
+        }
+        if (ids == null || ids.isEmpty()) {
+            throw new DomainValidationException("At least one item id is required");
+        }
+        if (name != null && name.isBlank()) {
+            throw new DomainValidationException("Item Name cannot be blank");
+        }
+        if (fkPeriod != null && (fkPeriod < 1 || fkPeriod > 10)) {
+            throw new DomainValidationException("Time Period must be between 1 and 10");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.financialplanner.moduleapi.dtos.item;
+
+import java.util.List;
+
+/**
+ * One page of items returned by {@code GET /items}.
+ * Fields:
+ * - items: The items on this page, ordered by user ID and id.
+ * - nextCursor: The opaque cursor to pass as {@code cursor} for the next page, or null on the last page.
+ */
+public record ItemPageResponse(List<ItemResponse> items, String nextCursor) {}
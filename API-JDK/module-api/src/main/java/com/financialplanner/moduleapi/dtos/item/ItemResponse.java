@@ -35,6 +35,7 @@ import java.util.UUID;
  * - annualMoy: The month of the year relevant to annual recurrence schedules.
  * - annualDom: The day of the month relevant to annual recurrence schedules.
  * - dateRangeReq: Indicates whether specifying a date range is mandatory for the item.
+ * - version: The item's optimistic-lock version, also sent as its ETag; pass it in If-Match to update conditionally.
  * This class is immutable and threadsafe, leveraging the Java record feature for defining
  * its structure and enforcing immutability at the language level. It simplifies the
  * representation of the item response DTO while ensuring consistency and integrity of its data.
@@ -46,5 +47,5 @@ public record ItemResponse(Long id, UUID userId, String name, Double amount, Ite
                            Integer quarterly3Month, Integer quarterly3Day, Integer quarterly4Month,
                            Integer quarterly4Day, Integer semiAnnual1Month, Integer semiAnnual1Day,
                            Integer semiAnnual2Month, Integer semiAnnual2Day, Integer annualMoy, Integer annualDom,
-                           Integer nthDow, Integer nthIndex, Boolean dateRangeReq
+                           Integer nthDow, Integer nthIndex, Boolean dateRangeReq, long version
 ) {}
@@ -23,6 +23,8 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
  * - {@link DomainValidationException}: Returns HTTP 400 (Bad Request).
  * - {@link ItemNotFoundException}: Returns HTTP 404 (Not Found).
  * - {@link DuplicateItemException}: Returns HTTP 409 (Conflict).
+ * - {@link PreconditionFailedException}: Returns HTTP 412 (Precondition Failed).
+ * - {@link ServiceUnavailableException}: Returns HTTP 503 (Service Unavailable).
  * - {@link Exception} (generic case): Returns HTTP 500 (Internal Server Error).
  * Each handler logs the exception using {@code ErrorLogger.logException(Exception ex)},
  * captures the generated correlation ID, and includes it in the response body for
@@ -62,6 +64,13 @@ public class GlobalExceptionHandler {
                              .body(new ApiResponse<>(409, ex.getMessage(), correlationId));
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePreconditionFailed(PreconditionFailedException ex) {
+        String correlationId = ErrorLogger.logException(ex);
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                             .body(new ApiResponse<>(412, ex.getMessage(), correlationId));
+    }
+
     @ExceptionHandler(InvalidCredentialsException.class)
     public ResponseEntity<ApiResponse<Void>> handleInvalidCredentials(InvalidCredentialsException ex) {
         String correlationId = ErrorLogger.logException(ex);
@@ -76,6 +85,13 @@ public class GlobalExceptionHandler {
                              .body(new ApiResponse<>(403, ex.getMessage(), correlationId));
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceUnavailable(ServiceUnavailableException ex) {
+        String correlationId = ErrorLogger.logException(ex);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                             .body(new ApiResponse<>(503, ex.getMessage(), correlationId));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleGeneric(Exception ex) {
         String correlationId = ErrorLogger.logException(ex);
@@ -2,8 +2,9 @@ package com.financialplanner.moduleapi.mappers;
 
 import com.financialplanner.moduleapi.dtos.initialamount.InitialAmountRequest;
 import com.financialplanner.moduleapi.dtos.initialamount.InitialAmountResponse;
+import com.financialplanner.modulecommonbc.exception.DomainValidationException;
 import com.financialplanner.modulecommonbc.sanitizer.Sanitizer;
-import com.financialplanner.moduleitemsbc.domain.repository.ItemTypeRepository;
+import com.financialplanner.moduleitemsbc.application.cache.ReferenceDataCache;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.ItemType;
 import org.springframework.stereotype.Component;
@@ -13,17 +14,17 @@ import java.util.Date;
 
 /**
  * Maps between InitialAmount domain entity and API DTOs.
- * Follows the same sanitization and repository-lookup pattern used by ItemMapper.
+ * Follows the same sanitization and reference-data lookup pattern used by ItemMapper.
  */
 @Component
 public class InitialAmountMapper {
 
     private final Sanitizer sanitizer;
-    private final ItemTypeRepository itemTypeRepository;
+    private final ReferenceDataCache referenceDataCache;
 
-    public InitialAmountMapper(Sanitizer sanitizer, ItemTypeRepository itemTypeRepository) {
+    public InitialAmountMapper(Sanitizer sanitizer, ReferenceDataCache referenceDataCache) {
         this.sanitizer          = sanitizer;
-        this.itemTypeRepository = itemTypeRepository;
+        this.referenceDataCache = referenceDataCache;
     }
 
     public InitialAmountResponse toResponse(Item domain) {
@@ -35,7 +36,9 @@ public class InitialAmountMapper {
     public Item toEntity(InitialAmountRequest request) {
         sanitizer.sanitize(request);
 
-        ItemType itemType = itemTypeRepository.getReferenceById(3L);
+        ItemType itemType = referenceDataCache.itemType(3L)
+                                              .orElseThrow(() -> new DomainValidationException(
+                                                      "ItemType 3 not found"));
         return new Item(null, request.userId(), "IA", request.amount(), itemType, LocalDate.now());
     }
 }
@@ -1,16 +1,26 @@
 package com.financialplanner.moduleapi.mappers;
 
+import com.financialplanner.moduleapi.dtos.item.ItemBatchResponse;
+import com.financialplanner.moduleapi.dtos.item.ItemBatchUpdateRequest;
+import com.financialplanner.moduleapi.dtos.item.ItemPageResponse;
 import com.financialplanner.moduleapi.dtos.item.ItemRequest;
 import com.financialplanner.moduleapi.dtos.item.ItemResponse;
+import com.financialplanner.modulecommonbc.exception.DomainValidationException;
 import com.financialplanner.modulecommonbc.sanitizer.Sanitizer;
-import com.financialplanner.moduleitemsbc.domain.repository.ItemTypeRepository;
-import com.financialplanner.moduleitemsbc.domain.repository.TimePeriodRepository;
+import com.financialplanner.moduleitemsbc.application.cache.ReferenceDataCache;
+import com.financialplanner.moduleitemsbc.domain.model.ItemBatchPatch;
+import com.financialplanner.moduleitemsbc.domain.model.ItemBatchResult;
+import com.financialplanner.moduleitemsbc.domain.model.ItemPage;
+import com.financialplanner.moduleitemsbc.domain.model.ItemPageQuery;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.ItemType;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.TimePeriod;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
 
 /**
  * The {@code ItemMapper} class is responsible for mapping between {@code Item} domain objects
@@ -19,30 +29,29 @@ import java.util.Optional;
  * Responsibilities:
  * - Convert {@code Item} domain objects to {@code ItemResponse} objects.
  * - Convert {@code ItemRequest} objects to {@code Item} entities.
+ * - Convert batch update requests to {@code ItemBatchPatch} values and batch results to responses.
+ * - Convert list query parameters to an {@code ItemPageQuery} and pages to responses, encoding the
+ * keyset position as an opaque cursor.
  * - Perform sanitization on objects to ensure clean and safe data.
  * Dependencies:
  * - {@code Sanitizer}: Used to sanitize input objects and strings.
- * - {@code ItemTypeRepository}: Provides access to {@code ItemType} entities.
- * - {@code TimePeriodRepository}: Provides access to {@code TimePeriod} entities.
+ * - {@code ReferenceDataCache}: Provides in-memory copies of {@code ItemType} and {@code TimePeriod} entities.
  * Thread Safety:
  * - Instances of this class are thread-safe as long as the dependent components
- * ({@code Sanitizer}, {@code ItemTypeRepository}, {@code TimePeriodRepository}) are thread-safe.
+ * ({@code Sanitizer}, {@code ReferenceDataCache}) are thread-safe.
  * Exceptions:
- * - This class may throw exceptions related to repository operations, such as entity not found
- * or database connectivity issues, during the conversion process.
+ * - {@code DomainValidationException}: Thrown when the request names an unknown item type or time period,
+ * or carries a malformed page cursor.
  */
 @Component
 public class ItemMapper {
 
     private final Sanitizer sanitizer;
-    private final ItemTypeRepository itemTypeRepository;
-    private final TimePeriodRepository timePeriodRepository;
+    private final ReferenceDataCache referenceDataCache;
 
-    public ItemMapper(Sanitizer sanitizer, ItemTypeRepository itemTypeRepository,
-                      TimePeriodRepository timePeriodRepository) {
-        this.sanitizer            = sanitizer;
-        this.itemTypeRepository   = itemTypeRepository;
-        this.timePeriodRepository = timePeriodRepository;
+    public ItemMapper(Sanitizer sanitizer, ReferenceDataCache referenceDataCache) {
+        this.sanitizer          = sanitizer;
+        this.referenceDataCache = referenceDataCache;
     }
 
     public ItemResponse toResponse(Item domain) {
@@ -56,18 +65,21 @@ public class ItemMapper {
                                 domain.getQuarterly4Month(), domain.getQuarterly4Day(), domain.getSemiAnnual1Month(),
                                 domain.getSemiAnnual1Day(), domain.getSemiAnnual2Month(), domain.getSemiAnnual2Day(),
                                 domain.getAnnualMoy(), domain.getAnnualDom(), domain.getNthDow(), domain.getNthIndex(),
-                                domain.getDateRangeReq());
+                                domain.getDateRangeReq(), domain.getVersion());
     }
 
     public Item toEntity(ItemRequest request) {
         sanitizer.sanitize(request);
 
-        ItemType itemType = itemTypeRepository.getReferenceById(request.fkItemType()
-                                                                       .longValue());
-        Optional<TimePeriod> timePeriod = timePeriodRepository.findById(request.fkPeriod()
-                                                                               .longValue());
+        ItemType itemType = referenceDataCache.itemType(request.fkItemType()
+                                                               .longValue())
+                                              .orElseThrow(() -> new DomainValidationException(
+                                                      "ItemType " + request.fkItemType() + " not found"));
+        TimePeriod timePeriod = referenceDataCache.timePeriod(request.fkPeriod()
+                                                                     .longValue())
+                                                  .orElse(null);
 
-        return new Item(null, request.userId(), request.name(), request.amount(), itemType, timePeriod.orElse(null),
+        return new Item(null, request.userId(), request.name(), request.amount(), itemType, timePeriod,
                         request.beginDate(), request.endDate(), request.weeklyDow(), request.everyOtherWeekDow(),
                         request.biMonthlyDay1(), request.biMonthlyDay2(), request.monthlyDom(),
                         request.quarterly1Month(), request.quarterly1Day(), request.quarterly2Month(),
@@ -77,4 +89,54 @@ public class ItemMapper {
                         request.annualMoy(), request.annualDom(), request.nthDow(), request.nthIndex(),
                         request.dateRangeReq());
     }
+
+    public ItemBatchPatch toPatch(ItemBatchUpdateRequest request) {
+        sanitizer.sanitize(request);
+
+        Long timePeriodId = null;
+        if (request.fkPeriod() != null) {
+            timePeriodId = referenceDataCache.timePeriod(request.fkPeriod()
+                                                                .longValue())
+                                             .orElseThrow(() -> new DomainValidationException(
+                                                     "TimePeriod " + request.fkPeriod() + " not found"))
+                                             .getId();
+        }
+        return new ItemBatchPatch(request.name(), request.amount(), timePeriodId, request.beginDate(),
+                                  request.endDate(), request.dateRangeReq());
+    }
+
+    public ItemBatchResponse toResponse(ItemBatchResult result) {
+        return new ItemBatchResponse(result.succeeded(), result.notFound());
+    }
+
+    public ItemPageQuery toPageQuery(UUID userId, Long itemTypeId, Long timePeriodId, LocalDate from, LocalDate to,
+                                     String cursor, int limit) {
+        UUID afterUserId = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] key = new String(Base64.getUrlDecoder()
+                                                .decode(cursor), StandardCharsets.UTF_8).split(":", 2);
+                afterUserId = UUID.fromString(key[0]);
+                afterId     = Long.valueOf(key[1]);
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException ex) {
+                throw new DomainValidationException("Page cursor is malformed");
+            }
+        }
+        return new ItemPageQuery(userId, itemTypeId, timePeriodId, from, to, afterUserId, afterId, limit);
+    }
+
+    public ItemPageResponse toResponse(ItemPage page) {
+        String nextCursor = null;
+        if (page.hasNext()) {
+            nextCursor = Base64.getUrlEncoder()
+                               .withoutPadding()
+                               .encodeToString((page.nextUserId() + ":" + page.nextId())
+                                                       .getBytes(StandardCharsets.UTF_8));
+        }
+        return new ItemPageResponse(page.items()
+                                        .stream()
+                                        .map(this::toResponse)
+                                        .toList(), nextCursor);
+    }
 }
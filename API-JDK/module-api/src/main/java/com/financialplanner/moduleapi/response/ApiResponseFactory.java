@@ -36,6 +36,21 @@ public class ApiResponseFactory {
         return response;
     }
 
+    /**
+     * Creates a success {@link ApiResponse} for data that has already been passed through the {@link Sanitizer},
+     * such as ledgers served from a cache that only stores sanitized values. Only the message is sanitized;
+     * the data is returned as-is to avoid repeating the reflective walk on every request.
+     *
+     * @param <T>     the type of the data payload contained in the response
+     * @param data    already-sanitized data to be included in the API response
+     * @param message a descriptive message to be included in the API response
+     *
+     * @return an {@link ApiResponse} instance containing the status, message, and data
+     */
+    public <T> ApiResponse<T> successSanitized(T data, String message) {
+        return new ApiResponse<>(200, sanitizer.sanitizeString(message), data);
+    }
+
     /**
      * Creates an {@link ApiResponse} object with a status code of 200, indicating a successful response.
      * The provided message is sanitized before being included in the response.
@@ -67,4 +82,20 @@ public class ApiResponseFactory {
         sanitizer.sanitize(response);
         return response;
     }
+
+    /**
+     * Creates an {@link ApiResponse} object representing an "Accepted" HTTP status (202), used when work
+     * has been queued for background processing. The response object is sanitized before being returned.
+     *
+     * @param <T>     the type of the data payload contained in the response
+     * @param data    the payload describing the accepted work
+     * @param message a human-readable message describing the response
+     *
+     * @return a sanitized {@link ApiResponse} instance with a 202 status code
+     */
+    public <T> ApiResponse<T> accepted(T data, String message) {
+        ApiResponse<T> response = new ApiResponse<>(202, message, data);
+        sanitizer.sanitize(response);
+        return response;
+    }
 }
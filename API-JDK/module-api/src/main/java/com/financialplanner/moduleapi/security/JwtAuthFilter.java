@@ -3,6 +3,8 @@ package com.financialplanner.moduleapi.security;
 import com.financialplanner.moduleauth.domain.service.UserRolesService;
 import com.financialplanner.moduleauth.domain.service.UserService;
 import com.financialplanner.moduleauth.infrastructure.persistence.entity.User;
+import com.financialplanner.modulecommonbc.sharding.ShardContext;
+import com.financialplanner.modulecommonbc.sharding.ShardRouter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,6 +17,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.UUID;
 
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
@@ -22,13 +25,16 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserService userService;
     private final UserRolesService userRolesService;
+    private final ShardRouter shardRouter;
 
     public JwtAuthFilter(JwtService jwtService,
                          UserService userService,
-                         UserRolesService userRolesService) {
+                         UserRolesService userRolesService,
+                         ShardRouter shardRouter) {
         this.jwtService = jwtService;
         this.userService = userService;
         this.userRolesService = userRolesService;
+        this.shardRouter = shardRouter;
     }
 
     @Override
@@ -46,6 +52,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         final String jwt = authHeader.substring(7);
         final String email = jwtService.extractUsername(jwt);
+        UUID authenticatedUserId = null;
 
         if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
@@ -71,9 +78,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                 );
 
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+                authenticatedUserId = user.getUserId();
             }
         }
 
-        filterChain.doFilter(request, response);
+        // Route the rest of the request to the authenticated user's shard
+        try (ShardContext.Scope shard = shardRouter.forUser(authenticatedUserId)) {
+            filterChain.doFilter(request, response);
+        }
     }
 }
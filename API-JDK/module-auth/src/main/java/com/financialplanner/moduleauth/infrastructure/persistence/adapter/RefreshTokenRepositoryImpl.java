@@ -4,6 +4,8 @@ import com.financialplanner.moduleauth.domain.repository.RefreshTokenRepository;
 import com.financialplanner.moduleauth.infrastructure.persistence.entity.RefreshToken;
 import com.financialplanner.moduleauth.infrastructure.persistence.entity.User;
 import com.financialplanner.moduleauth.infrastructure.persistence.repository.JpaRefreshTokenRepository;
+import com.financialplanner.modulecommonbc.sharding.ShardContext;
+import com.financialplanner.modulecommonbc.sharding.ShardRouter;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -12,28 +14,38 @@ import java.util.Optional;
 public class RefreshTokenRepositoryImpl implements RefreshTokenRepository {
 
     private final JpaRefreshTokenRepository jpa;
+    private final ShardRouter shardRouter;
 
-    public RefreshTokenRepositoryImpl(JpaRefreshTokenRepository jpa) {
+    public RefreshTokenRepositoryImpl(JpaRefreshTokenRepository jpa, ShardRouter shardRouter) {
         this.jpa = jpa;
+        this.shardRouter = shardRouter;
     }
 
     @Override
     public Optional<RefreshToken> findByToken(String token) {
-        return jpa.findByToken(token);
+        try (ShardContext.Scope shard = shardRouter.onDirectory()) {
+            return jpa.findByToken(token);
+        }
     }
 
     @Override
     public RefreshToken save(RefreshToken token) {
-        return jpa.save(token);
+        try (ShardContext.Scope shard = shardRouter.onDirectory()) {
+            return jpa.save(token);
+        }
     }
 
     @Override
     public void delete(RefreshToken token) {
-        jpa.delete(token);
+        try (ShardContext.Scope shard = shardRouter.onDirectory()) {
+            jpa.delete(token);
+        }
     }
 
     @Override
     public void deleteByUser(User user) {
-        jpa.deleteByUser(user);
+        try (ShardContext.Scope shard = shardRouter.onDirectory()) {
+            jpa.deleteByUser(user);
+        }
     }
 }
@@ -3,6 +3,8 @@ package com.financialplanner.moduleauth.infrastructure.persistence.adapter;
 import com.financialplanner.moduleauth.domain.repository.RoleRepository;
 import com.financialplanner.moduleauth.infrastructure.persistence.entity.Role;
 import com.financialplanner.moduleauth.infrastructure.persistence.repository.JpaRoleRepository;
+import com.financialplanner.modulecommonbc.sharding.ShardContext;
+import com.financialplanner.modulecommonbc.sharding.ShardRouter;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -12,28 +14,38 @@ import java.util.Optional;
 public class RoleRepositoryImpl implements RoleRepository {
 
     private final JpaRoleRepository jpa;
+    private final ShardRouter shardRouter;
 
-    public RoleRepositoryImpl(JpaRoleRepository jpa) {
+    public RoleRepositoryImpl(JpaRoleRepository jpa, ShardRouter shardRouter) {
         this.jpa = jpa;
+        this.shardRouter = shardRouter;
     }
 
     @Override
     public Optional<Role> findById(Long id) {
-        return jpa.findById(id);
+        try (ShardContext.Scope shard = shardRouter.onDirectory()) {
+            return jpa.findById(id);
+        }
     }
 
     @Override
     public List<String> findNamesByIdIn(List<Long> ids) {
-        return jpa.findNamesByIdIn(ids);
+        try (ShardContext.Scope shard = shardRouter.onDirectory()) {
+            return jpa.findNamesByIdIn(ids);
+        }
     }
 
     @Override
     public Optional<Role> findByName(String name) {
-        return jpa.findByName(name);
+        try (ShardContext.Scope shard = shardRouter.onDirectory()) {
+            return jpa.findByName(name);
+        }
     }
 
     @Override
     public Role save(Role role) {
-        return jpa.save(role);
+        try (ShardContext.Scope shard = shardRouter.onDirectory()) {
+            return jpa.save(role);
+        }
     }
 }
@@ -3,6 +3,8 @@ package com.financialplanner.moduleauth.infrastructure.persistence.adapter;
 import com.financialplanner.moduleauth.domain.repository.UserRepository;
 import com.financialplanner.moduleauth.infrastructure.persistence.entity.User;
 import com.financialplanner.moduleauth.infrastructure.persistence.repository.JpaUserRepository;
+import com.financialplanner.modulecommonbc.sharding.ShardContext;
+import com.financialplanner.modulecommonbc.sharding.ShardRouter;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -12,28 +14,38 @@ import java.util.UUID;
 public class UserRepositoryImpl implements UserRepository {
 
     private final JpaUserRepository jpa;
+    private final ShardRouter shardRouter;
 
-    public UserRepositoryImpl(JpaUserRepository jpa) {
+    public UserRepositoryImpl(JpaUserRepository jpa, ShardRouter shardRouter) {
         this.jpa = jpa;
+        this.shardRouter = shardRouter;
     }
 
     @Override
     public Optional<User> findByEmail(String email) {
-        return jpa.findByEmail(email);
+        try (ShardContext.Scope shard = shardRouter.onDirectory()) {
+            return jpa.findByEmail(email);
+        }
     }
 
     @Override
     public Optional<User> findById(Long id) {
-        return jpa.findById(id);
+        try (ShardContext.Scope shard = shardRouter.onDirectory()) {
+            return jpa.findById(id);
+        }
     }
 
     @Override
     public Optional<User> findByUserId(UUID userId) {
-        return jpa.findByUserId(userId);
+        try (ShardContext.Scope shard = shardRouter.onDirectory()) {
+            return jpa.findByUserId(userId);
+        }
     }
 
     @Override
     public User save(User user) {
-        return jpa.save(user);
+        try (ShardContext.Scope shard = shardRouter.onDirectory()) {
+            return jpa.save(user);
+        }
     }
 }
@@ -0,0 +1,42 @@
+-- Authentication tables as previously created by Hibernate auto-DDL.
+-- Every statement is guarded with IF NOT EXISTS so databases that predate versioned migrations
+-- (baselined at version 0) pass through this script unchanged.
+
+create schema if not exists fpfl;
+
+create table if not exists fpfl.users (
+    id            bigint generated by default as identity,
+    user_id       uuid                     not null,
+    email         varchar(255)             not null,
+    password_hash varchar(255)             not null,
+    first         varchar(50),
+    last          varchar(100),
+    created_at    timestamp(6) with time zone default now(),
+    constraint pk_users primary key (id),
+    -- backs the login lookup by email
+    constraint uk_users_email unique (email)
+);
+
+create table if not exists fpfl.roles (
+    id   bigint generated by default as identity,
+    name varchar(255) not null,
+    constraint pk_roles primary key (id),
+    constraint uk_roles_name unique (name)
+);
+
+create table if not exists fpfl.user_roles (
+    role_id bigint not null,
+    user_id bigint not null,
+    constraint pk_user_roles primary key (role_id, user_id)
+);
+
+create table if not exists fpfl.refresh_tokens (
+    id          bigint generated by default as identity,
+    user_id     bigint                      not null,
+    token       varchar(255)                not null,
+    expiry_date timestamp(6) with time zone not null,
+    constraint pk_refresh_tokens primary key (id),
+    -- backs the refresh lookup by token
+    constraint uk_refresh_tokens_token unique (token),
+    constraint fk_refresh_tokens_user foreign key (user_id) references fpfl.users (id)
+);
@@ -0,0 +1,12 @@
+-- Indexes for the authentication lookups that run on every login, refresh and authenticated request.
+-- users(email) and refresh_tokens(token) are already indexed by their unique constraints.
+
+-- user lookup by public id
+create unique index if not exists ux_users_user_id on fpfl.users (user_id);
+
+-- role lookup per user; the primary key leads with role_id and cannot serve it
+create index if not exists ix_user_roles_user_id on fpfl.user_roles (user_id);
+
+-- refresh token revocation per user and expiry sweeps
+create index if not exists ix_refresh_tokens_user_id on fpfl.refresh_tokens (user_id);
+create index if not exists ix_refresh_tokens_expiry_date on fpfl.refresh_tokens (expiry_date);
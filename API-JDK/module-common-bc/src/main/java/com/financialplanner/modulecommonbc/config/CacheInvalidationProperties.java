@@ -0,0 +1,18 @@
+package com.financialplanner.modulecommonbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the cross-node cache invalidation channel.
+ * The listeners hold one connection of each shard's pool for as long as they are enabled.
+ */
+@lombok.Data
+@Component
+@ConfigurationProperties(prefix = "cache.invalidation")
+public class CacheInvalidationProperties {
+    private boolean enabled = true;
+    private String channel = "fpfl_cache_invalidation";
+    private long pollMs = 5000;
+    private long reconnectDelayMs = 5000;
+}
@@ -0,0 +1,48 @@
+package com.financialplanner.modulecommonbc.config;
+
+import com.financialplanner.modulecommonbc.replica.RecentWriters;
+import com.financialplanner.modulecommonbc.replica.ReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+
+/**
+ * Sends read-only transactions to the replica of {@code spring.datasource} while sharding is disabled.
+ * The primary pool is built from the usual {@code spring.datasource} settings; with sharding enabled
+ * {@link ShardDataSourceConfig} wires the per-shard replicas instead.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+@ConditionalOnProperty(prefix = "datasource.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                                   .type(HikariDataSource.class)
+                                   .build();
+    }
+
+    @Bean
+    public ReplicaDataSource replicaDataSource(HikariDataSource primaryDataSource, ReplicaProperties properties,
+                                               RecentWriters recentWriters) {
+        HikariDataSource replica = ReplicaPools.create("replica", properties.getUrl(), properties.getUsername(),
+                                                       properties.getPassword(), properties.getMaximumPoolSize(),
+                                                       properties);
+        return new ReplicaDataSource(primaryDataSource, replica, recentWriters, properties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource,
+                                 RecentWriters recentWriters) {
+        return ReplicaPools.routing(primaryDataSource, replicaDataSource, recentWriters);
+    }
+}
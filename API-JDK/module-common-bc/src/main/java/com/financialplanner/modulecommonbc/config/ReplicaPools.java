@@ -0,0 +1,47 @@
+package com.financialplanner.modulecommonbc.config;
+
+import com.financialplanner.modulecommonbc.replica.RecentWriters;
+import com.financialplanner.modulecommonbc.replica.ReplicaDataSource;
+import com.financialplanner.modulecommonbc.replica.WriteRecordingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Builds the replica pools and the application datasource that routes read-only transactions to them.
+ */
+final class ReplicaPools {
+
+    private ReplicaPools() {
+    }
+
+    /**
+     * Creates a replica pool that starts even while the replica is down and gives up on a connection after
+     * the configured timeout, so reads can fall back to the primary.
+     */
+    static HikariDataSource create(String poolName, String url, String username, String password,
+                                   int maximumPoolSize, ReplicaProperties properties) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(poolName);
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        pool.setMaximumPoolSize(maximumPoolSize);
+        pool.setConnectionTimeout(properties.getConnectionTimeoutMs());
+        pool.setInitializationFailTimeout(-1);
+        pool.setReadOnly(true);
+        return pool;
+    }
+
+    /**
+     * Wraps the primary in a lazy proxy that takes its physical connection at the first statement, by then
+     * knowing whether the transaction is read-only, and sends read-only transactions to the replica.
+     */
+    static DataSource routing(DataSource primary, ReplicaDataSource replica, RecentWriters recentWriters) {
+        LazyConnectionDataSourceProxy proxy =
+                new LazyConnectionDataSourceProxy(new WriteRecordingDataSource(primary, recentWriters));
+        proxy.setReadOnlyDataSource(replica);
+        return proxy;
+    }
+}
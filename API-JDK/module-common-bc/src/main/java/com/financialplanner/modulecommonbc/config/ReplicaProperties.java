@@ -0,0 +1,26 @@
+package com.financialplanner.modulecommonbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for sending read-only transactions to streaming replicas.
+ * The url, username and password name the replica of {@code spring.datasource}; with sharding enabled each
+ * shard names its own replica instead and shards without one read from their primary. A user's reads stay
+ * on the primary for {@code readYourWritesMs} after a write to that user's data, which has to exceed the
+ * usual replication lag. A replica that cannot hand out a connection within {@code connectionTimeoutMs} is
+ * skipped for {@code retryDelayMs} while its reads go to the primary.
+ */
+@lombok.Data
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaProperties {
+    private boolean enabled = false;
+    private String url;
+    private String username;
+    private String password;
+    private int maximumPoolSize = 10;
+    private long connectionTimeoutMs = 1000;
+    private long readYourWritesMs = 5000;
+    private long retryDelayMs = 10000;
+}
@@ -0,0 +1,85 @@
+package com.financialplanner.modulecommonbc.config;
+
+import com.financialplanner.modulecommonbc.replica.RecentWriters;
+import com.financialplanner.modulecommonbc.replica.ReplicaDataSource;
+import com.financialplanner.modulecommonbc.sharding.ShardRouter;
+import com.financialplanner.modulecommonbc.sharding.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replaces the single application datasource with one pool per shard behind a routing datasource.
+ * The router is wrapped in a lazy proxy, so a transaction takes its physical connection at its first
+ * statement rather than when it begins; the shard scope opened by the repository call is then in place.
+ * With replicas enabled, read-only transactions go through a second router over the shards' replica pools.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.sharding", name = "enabled", havingValue = "true")
+public class ShardDataSourceConfig {
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(ShardingProperties properties, ShardRouter shardRouter) {
+        Map<Object, Object> pools = new LinkedHashMap<>();
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("shard-" + shard.getName());
+            pool.setJdbcUrl(shard.getUrl());
+            pool.setUsername(shard.getUsername());
+            pool.setPassword(shard.getPassword());
+            pool.setMaximumPoolSize(shard.getMaximumPoolSize());
+            pools.put(shard.getName(), pool);
+        }
+        ShardRoutingDataSource router = new ShardRoutingDataSource();
+        router.setTargetDataSources(pools);
+        router.setDefaultTargetDataSource(pools.get(shardRouter.directoryShard()));
+        return router;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+    public ReplicaDataSource shardReplicaDataSource(ShardingProperties properties, ShardRouter shardRouter,
+                                                    ShardRoutingDataSource shardRoutingDataSource,
+                                                    ReplicaProperties replicaProperties,
+                                                    RecentWriters recentWriters) {
+        Map<Object, Object> pools = new LinkedHashMap<>();
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            if (shard.getReplicaUrl() == null) {
+                // Shards without a replica read from their primary pool, which the replica router must not close
+                pools.put(shard.getName(), new DelegatingDataSource(
+                        shardRoutingDataSource.getResolvedDataSources().get(shard.getName())));
+            } else {
+                pools.put(shard.getName(), ReplicaPools.create("shard-" + shard.getName() + "-replica",
+                                                               shard.getReplicaUrl(), shard.getUsername(),
+                                                               shard.getPassword(), shard.getMaximumPoolSize(),
+                                                               replicaProperties));
+            }
+        }
+        ShardRoutingDataSource replicas = new ShardRoutingDataSource();
+        replicas.setTargetDataSources(pools);
+        replicas.setDefaultTargetDataSource(pools.get(shardRouter.directoryShard()));
+        replicas.afterPropertiesSet();
+        return new ReplicaDataSource(shardRoutingDataSource, replicas, recentWriters, replicaProperties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource,
+                                 ObjectProvider<ReplicaDataSource> shardReplicaDataSource,
+                                 RecentWriters recentWriters) {
+        ReplicaDataSource replicas = shardReplicaDataSource.getIfAvailable();
+        if (replicas != null) {
+            return ReplicaPools.routing(shardRoutingDataSource, replicas, recentWriters);
+        }
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+}
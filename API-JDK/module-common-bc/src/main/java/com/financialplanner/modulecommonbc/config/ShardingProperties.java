@@ -0,0 +1,33 @@
+package com.financialplanner.modulecommonbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for routing per-user data across several Postgres databases.
+ * While disabled the application uses the single {@code spring.datasource}. When enabled, every shard gets
+ * its own connection pool; the first shard also holds the auth tables and is used when no user is known.
+ * Adding a shard moves roughly one in N users, whose rows have to be copied before the new list is deployed.
+ * A shard's {@code replicaUrl} names its read replica, reached with the shard's credentials.
+ */
+@lombok.Data
+@Component
+@ConfigurationProperties(prefix = "datasource.sharding")
+public class ShardingProperties {
+    private boolean enabled = false;
+    private int virtualNodes = 128;
+    private List<Shard> shards = new ArrayList<>();
+
+    @lombok.Data
+    public static class Shard {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+        private String replicaUrl;
+    }
+}
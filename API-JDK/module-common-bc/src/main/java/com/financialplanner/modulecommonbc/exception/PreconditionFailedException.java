@@ -0,0 +1,13 @@
+package com.financialplanner.modulecommonbc.exception;
+
+/**
+ * Exception thrown when a conditional write is refused because the resource no longer matches the
+ * version the client based its change on, typically because another request modified it first.
+ * This exception is a subclass of {@link DomainException} and is mapped to HTTP 412
+ * (Precondition Failed) by the API layer.
+ */
+public class PreconditionFailedException extends DomainException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.financialplanner.modulecommonbc.exception;
+
+/**
+ * Exception thrown when an operation is refused because a bounded resource, such as a background
+ * work queue, is temporarily exhausted. The request itself is valid and may be retried later.
+ * This exception is a subclass of {@link DomainException} and is mapped to HTTP 503
+ * (Service Unavailable) by the API layer.
+ */
+public class ServiceUnavailableException extends DomainException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,54 @@
+package com.financialplanner.modulecommonbc.invalidation;
+
+import java.util.UUID;
+
+/**
+ * Compact message telling other nodes that cached data has changed.
+ * A null {@code userId} invalidates every entry of the kind, which is also what nodes receive after
+ * their listener reconnects and may have missed messages. {@code version} is the entity version after
+ * the change when the writer knows it, otherwise 0.
+ *
+ * @param kind    what changed
+ * @param userId  the owning user, or null for all users
+ * @param version the entity version after the change, or 0
+ */
+public record CacheInvalidation(InvalidationKind kind, UUID userId, long version) {
+
+    private static final char SEPARATOR = ';';
+
+    /**
+     * Invalidates every entry of the given kind.
+     */
+    public static CacheInvalidation all(InvalidationKind kind) {
+        return new CacheInvalidation(kind, null, 0);
+    }
+
+    /**
+     * Encodes the message and its origin node as {@code kind;userId;version;origin}.
+     */
+    String encode(String origin) {
+        return kind.name() + SEPARATOR + (userId == null ? "" : userId.toString()) + SEPARATOR + version
+               + SEPARATOR + origin;
+    }
+
+    /**
+     * Decodes a payload produced by {@link #encode(String)}.
+     *
+     * @throws IllegalArgumentException if the payload is malformed
+     */
+    static CacheInvalidation decode(String payload) {
+        String[] parts = payload.split(String.valueOf(SEPARATOR), -1);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed cache invalidation payload: " + payload);
+        }
+        UUID userId = parts[1].isEmpty() ? null : UUID.fromString(parts[1]);
+        return new CacheInvalidation(InvalidationKind.valueOf(parts[0]), userId, Long.parseLong(parts[2]));
+    }
+
+    /**
+     * Returns whether the payload was published by the given node.
+     */
+    static boolean isFrom(String payload, String origin) {
+        return payload.endsWith(SEPARATOR + origin);
+    }
+}
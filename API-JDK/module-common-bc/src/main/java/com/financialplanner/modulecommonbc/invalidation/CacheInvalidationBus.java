@@ -0,0 +1,192 @@
+package com.financialplanner.modulecommonbc.invalidation;
+
+import com.financialplanner.modulecommonbc.config.CacheInvalidationProperties;
+import com.financialplanner.modulecommonbc.logging.ErrorLogger;
+import com.financialplanner.modulecommonbc.sharding.ShardContext;
+import com.financialplanner.modulecommonbc.sharding.ShardRouter;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Cross-node cache invalidation over Postgres {@code LISTEN/NOTIFY} on the application datasource.
+ * Writers {@link #publish} compact {@link CacheInvalidation} messages; a notification sent inside a
+ * transaction is delivered by Postgres only when that transaction commits. Every node runs one daemon
+ * thread per shard that listens on the channel, since a writer notifies on the shard of its transaction,
+ * and hands messages from other nodes to the local {@link CacheInvalidationListener} beans.
+ * Delivery is best effort: a failed publish is logged and left to the caches' TTLs, and after the
+ * listener reconnects every kind is invalidated in full because messages may have been missed.
+ */
+@Component
+public class CacheInvalidationBus {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private static final String NOTIFY_SQL = "select pg_notify(?, payload) from unnest(?) as payload";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbc;
+    private final ObjectProvider<CacheInvalidationListener> listeners;
+    private final CacheInvalidationProperties properties;
+    private final ShardRouter shardRouter;
+    private final List<Thread> workers = new ArrayList<>();
+    private final String nodeId = UUID.randomUUID()
+                                      .toString();
+
+    private volatile boolean running;
+
+    public CacheInvalidationBus(DataSource dataSource, JdbcTemplate jdbc,
+                                ObjectProvider<CacheInvalidationListener> listeners,
+                                CacheInvalidationProperties properties, ShardRouter shardRouter) {
+        if (!CHANNEL_NAME.matcher(properties.getChannel())
+                         .matches()) {
+            throw new IllegalStateException("Invalid cache invalidation channel: " + properties.getChannel());
+        }
+        this.dataSource  = dataSource;
+        this.jdbc        = jdbc;
+        this.listeners   = listeners;
+        this.properties  = properties;
+        this.shardRouter = shardRouter;
+    }
+
+    /**
+     * Starts the listener threads once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        for (String shard : shardRouter.shardNames()) {
+            workers.add(Thread.ofPlatform()
+                              .name("cache-invalidation-" + shard)
+                              .daemon(true)
+                              .start(() -> listen(shard)));
+        }
+    }
+
+    /**
+     * Tells the other nodes that cached data has changed.
+     *
+     * @param invalidation the change to announce
+     */
+    public void publish(CacheInvalidation invalidation) {
+        publishAll(List.of(invalidation));
+    }
+
+    /**
+     * Tells the other nodes about several changes in one round trip.
+     *
+     * @param invalidations the changes to announce
+     */
+    public void publishAll(List<CacheInvalidation> invalidations) {
+        if (!properties.isEnabled() || invalidations.isEmpty()) {
+            return;
+        }
+        String[] payloads = invalidations.stream()
+                                         .map(i -> i.encode(nodeId))
+                                         .toArray(String[]::new);
+        try {
+            jdbc.execute((ConnectionCallback<Void>) con -> {
+                try (PreparedStatement ps = con.prepareStatement(NOTIFY_SQL)) {
+                    ps.setString(1, properties.getChannel());
+                    ps.setArray(2, con.createArrayOf("text", payloads));
+                    ps.execute();
+                }
+                return null;
+            });
+        } catch (DataAccessException ex) {
+            ErrorLogger.logException(ex);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    private void listen(String shard) {
+        try (ShardContext.Scope scope = shardRouter.onShard(shard)) {
+            listenOnCurrentShard();
+        }
+    }
+
+    private void listenOnCurrentShard() {
+        boolean reconnect = false;
+        while (running) {
+            try (Connection con = dataSource.getConnection()) {
+                con.setAutoCommit(true);
+                try (Statement st = con.createStatement()) {
+                    st.execute("LISTEN " + properties.getChannel());
+                }
+                if (reconnect) {
+                    // Messages sent while the listener was down are lost
+                    for (InvalidationKind kind : InvalidationKind.values()) {
+                        deliver(CacheInvalidation.all(kind));
+                    }
+                }
+                PGConnection pg = con.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications((int) properties.getPollMs());
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receive(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                ErrorLogger.logException(ex);
+                reconnect = true;
+                try {
+                    Thread.sleep(properties.getReconnectDelayMs());
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        if (CacheInvalidation.isFrom(payload, nodeId)) {
+            return; // already applied locally by the writer
+        }
+        try {
+            deliver(CacheInvalidation.decode(payload));
+        } catch (IllegalArgumentException ex) {
+            ErrorLogger.logException(ex);
+        }
+    }
+
+    private void deliver(CacheInvalidation invalidation) {
+        listeners.orderedStream()
+                 .forEach(listener -> {
+                     try {
+                         listener.onInvalidation(invalidation);
+                     } catch (RuntimeException ex) {
+                         ErrorLogger.logException(ex);
+                     }
+                 });
+    }
+}
@@ -0,0 +1,10 @@
+package com.financialplanner.modulecommonbc.invalidation;
+
+/**
+ * Node-local cache that evicts entries when another node reports a change.
+ * Implementations are discovered as Spring beans and called on the invalidation listener thread,
+ * so they must be quick and thread-safe. Messages published by the local node are not delivered.
+ */
+public interface CacheInvalidationListener {
+    void onInvalidation(CacheInvalidation invalidation);
+}
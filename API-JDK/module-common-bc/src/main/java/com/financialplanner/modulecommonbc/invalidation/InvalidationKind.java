@@ -0,0 +1,13 @@
+package com.financialplanner.modulecommonbc.invalidation;
+
+/**
+ * The kinds of cached data a {@link CacheInvalidation} can refer to.
+ */
+public enum InvalidationKind {
+    /** A user's items, and everything derived from them such as ledgers. */
+    ITEMS,
+    /** The item type reference table. */
+    ITEM_TYPES,
+    /** The time period reference table. */
+    TIME_PERIODS
+}
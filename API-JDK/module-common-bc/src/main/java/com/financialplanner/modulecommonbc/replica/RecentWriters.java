@@ -0,0 +1,57 @@
+package com.financialplanner.modulecommonbc.replica;
+
+import com.financialplanner.modulecommonbc.config.ReplicaProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers which users had their data written within the read-your-writes window on this node.
+ * Replica routing keeps those users' reads on the primary until a replica has had time to replay the write.
+ * The record is node-local, so a read served by another node right after a write may still see the replica.
+ */
+@Component
+public class RecentWriters {
+
+    private static final int SWEEP_THRESHOLD = 10000;
+
+    private final Map<UUID, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public RecentWriters(ReplicaProperties properties) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(properties.getReadYourWritesMs());
+    }
+
+    /**
+     * Starts or restarts the user's window.
+     */
+    public void recordWrite(UUID userId) {
+        if (userId == null || windowNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        lastWriteNanos.put(userId, now);
+        if (lastWriteNanos.size() > SWEEP_THRESHOLD) {
+            lastWriteNanos.values()
+                          .removeIf(at -> now - at >= windowNanos);
+        }
+    }
+
+    /**
+     * Returns whether the user's data was written within the window.
+     */
+    public boolean wroteRecently(UUID userId) {
+        Long at = userId == null ? null : lastWriteNanos.get(userId);
+        if (at == null) {
+            return false;
+        }
+        if (System.nanoTime() - at < windowNanos) {
+            return true;
+        }
+        lastWriteNanos.remove(userId, at);
+        return false;
+    }
+}
@@ -0,0 +1,76 @@
+package com.financialplanner.modulecommonbc.replica;
+
+import com.financialplanner.modulecommonbc.config.ReplicaProperties;
+import com.financialplanner.modulecommonbc.logging.ErrorLogger;
+import com.financialplanner.modulecommonbc.sharding.ShardContext;
+import com.financialplanner.modulecommonbc.sharding.ShardRouter;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands out the connections of read-only transactions: from the replica of the current shard, or from the
+ * primary while the current user is a recent writer or the replica is unavailable.
+ * A replica that fails to hand out a connection is skipped for the retry delay, so an outage costs one
+ * connection timeout per shard and delay rather than one per read. Closing it closes the replica pools.
+ */
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final RecentWriters recentWriters;
+    private final long retryDelayNanos;
+    private final Map<String, Long> unavailableUntil = new ConcurrentHashMap<>();
+
+    public ReplicaDataSource(DataSource primary, DataSource replica, RecentWriters recentWriters,
+                             ReplicaProperties properties) {
+        this.primary         = primary;
+        this.replica         = replica;
+        this.recentWriters   = recentWriters;
+        this.retryDelayNanos = TimeUnit.MILLISECONDS.toNanos(properties.getRetryDelayMs());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        UUID userId = ShardContext.currentUser();
+        if (recentWriters.wroteRecently(userId)) {
+            return primary.getConnection();
+        }
+
+        String shard = Objects.requireNonNullElse(ShardContext.current(), ShardRouter.DEFAULT_SHARD);
+        Long retryAt = unavailableUntil.get(shard);
+        if (retryAt != null) {
+            if (System.nanoTime() - retryAt < 0) {
+                return primary.getConnection();
+            }
+            unavailableUntil.remove(shard, retryAt);
+        }
+
+        try {
+            return replica.getConnection();
+        } catch (SQLException ex) {
+            unavailableUntil.put(shard, System.nanoTime() + retryDelayNanos);
+            ErrorLogger.logException(ex);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLException("Replica connections use the credentials of their pools");
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.financialplanner.modulecommonbc.replica;
+
+import com.financialplanner.modulecommonbc.sharding.ShardContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Hands out primary connections and records the user of every read-write transaction that takes one as a
+ * recent writer, once when the connection is taken and again when the transaction completes, so the
+ * read-your-writes window runs from the commit.
+ */
+public class WriteRecordingDataSource extends DelegatingDataSource {
+
+    private final RecentWriters recentWriters;
+
+    public WriteRecordingDataSource(DataSource primary, RecentWriters recentWriters) {
+        super(primary);
+        this.recentWriters = recentWriters;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        recordWriter();
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        recordWriter();
+        return super.getConnection(username, password);
+    }
+
+    private void recordWriter() {
+        UUID userId = ShardContext.currentUser();
+        if (userId == null || !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        recentWriters.recordWrite(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    recentWriters.recordWrite(userId);
+                }
+            });
+        }
+    }
+}
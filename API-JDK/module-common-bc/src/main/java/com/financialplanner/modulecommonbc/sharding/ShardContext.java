@@ -0,0 +1,83 @@
+package com.financialplanner.modulecommonbc.sharding;
+
+import java.util.UUID;
+
+/**
+ * Holds the shard that connections taken on the current thread are routed to, and the user whose data they
+ * read or write when one is known. The user lets replica routing send a user's reads to the primary right
+ * after that user's writes.
+ * Scopes nest: closing a {@link Scope} restores the route that was current when it was opened, and a thread
+ * without a scope is routed to the default shard.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Route> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * Returns the shard of the innermost open scope, or null if none is open.
+     */
+    public static String current() {
+        Route route = CURRENT.get();
+        return route == null ? null : route.shard();
+    }
+
+    /**
+     * Returns the user of the innermost open scope, or null if none is known.
+     */
+    public static UUID currentUser() {
+        Route route = CURRENT.get();
+        return route == null ? null : route.userId();
+    }
+
+    /**
+     * Routes the current thread to the shard until the returned scope is closed, keeping the current user.
+     *
+     * @param shard the shard name, or null for the default shard
+     */
+    public static Scope open(String shard) {
+        return open(shard, currentUser());
+    }
+
+    /**
+     * Routes the current thread to the shard on behalf of the user until the returned scope is closed.
+     *
+     * @param shard  the shard name, or null for the default shard
+     * @param userId the user whose data is accessed, or null if unknown
+     */
+    public static Scope open(String shard, UUID userId) {
+        Route previous = CURRENT.get();
+        set(shard == null && userId == null ? null : new Route(shard, userId));
+        return new Scope(previous);
+    }
+
+    private static void set(Route route) {
+        if (route == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(route);
+        }
+    }
+
+    private record Route(String shard, UUID userId) {
+    }
+
+    /**
+     * An open shard scope; meant for try-with-resources on the thread that opened it.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Route previous;
+
+        private Scope(Route previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            set(previous);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.financialplanner.modulecommonbc.sharding;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Consistent hash ring over the shard names. Each shard owns {@code virtualNodes} points on the ring and a
+ * user belongs to the first point at or after the hash of their id, so adding or removing a shard only moves
+ * the users between the changed points and their predecessors. Hashes are the first 8 bytes of MD5, which
+ * keeps the mapping stable across JVMs and releases.
+ */
+final class ShardRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    ShardRing(List<String> shards, int virtualNodes) {
+        for (String shard : shards) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.putIfAbsent(hash((shard + "#" + node).getBytes(StandardCharsets.UTF_8)), shard);
+            }
+        }
+    }
+
+    String shardFor(UUID userId) {
+        byte[] key = ByteBuffer.allocate(16)
+                               .putLong(userId.getMostSignificantBits())
+                               .putLong(userId.getLeastSignificantBits())
+                               .array();
+        Map.Entry<Long, String> point = ring.ceilingEntry(hash(key));
+        return (point != null ? point : ring.firstEntry()).getValue();
+    }
+
+    private static long hash(byte[] bytes) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("MD5").digest(bytes)).getLong();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("MD5 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.financialplanner.modulecommonbc.sharding;
+
+import com.financialplanner.modulecommonbc.config.ShardingProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maps users to shards and opens the {@link ShardContext} scopes that route connections to them.
+ * Routing decides when a transaction takes its first connection, so the scope has to be open by the first
+ * statement of the transaction; every later statement stays on that shard.
+ * User-owned data is routed by user id through a consistent hash ring. Data that is not keyed by a user id
+ * (the auth tables) lives on the directory shard, the first configured shard. While sharding is disabled
+ * there is a single shard and scopes have no effect.
+ */
+@Component
+public class ShardRouter {
+
+    /**
+     * Name of the only shard while sharding is disabled.
+     */
+    public static final String DEFAULT_SHARD = "default";
+
+    private final List<String> shardNames;
+    private final ShardRing ring;
+
+    public ShardRouter(ShardingProperties properties) {
+        if (!properties.isEnabled()) {
+            this.shardNames = List.of(DEFAULT_SHARD);
+            this.ring       = null;
+            return;
+        }
+        List<String> names = properties.getShards()
+                                       .stream()
+                                       .map(ShardingProperties.Shard::getName)
+                                       .toList();
+        if (names.isEmpty() || names.contains(null) || new HashSet<>(names).size() != names.size()) {
+            throw new IllegalStateException("Sharding requires at least one shard and unique shard names");
+        }
+        if (properties.getVirtualNodes() < 1) {
+            throw new IllegalStateException("Sharding requires at least one virtual node per shard");
+        }
+        this.shardNames = names;
+        this.ring       = new ShardRing(names, properties.getVirtualNodes());
+    }
+
+    public boolean isEnabled() {
+        return ring != null;
+    }
+
+    /**
+     * Returns every shard name, the directory shard first.
+     */
+    public List<String> shardNames() {
+        return shardNames;
+    }
+
+    public String directoryShard() {
+        return shardNames.get(0);
+    }
+
+    /**
+     * Returns the shard holding the user's data.
+     */
+    public String shardFor(UUID userId) {
+        return ring == null ? DEFAULT_SHARD : ring.shardFor(userId);
+    }
+
+    /**
+     * Routes to the user's shard on behalf of the user until the scope is closed; a null user keeps the
+     * current routing.
+     */
+    public ShardContext.Scope forUser(UUID userId) {
+        if (userId == null) {
+            return ShardContext.open(ShardContext.current());
+        }
+        return ShardContext.open(ring == null ? ShardContext.current() : ring.shardFor(userId), userId);
+    }
+
+    /**
+     * Routes to the directory shard until the scope is closed.
+     */
+    public ShardContext.Scope onDirectory() {
+        return onShard(directoryShard());
+    }
+
+    /**
+     * Routes to the named shard until the scope is closed.
+     */
+    public ShardContext.Scope onShard(String shard) {
+        return ShardContext.open(ring == null ? ShardContext.current() : shard);
+    }
+
+    /**
+     * Runs the action once on every shard in turn, for work that covers all users.
+     */
+    public void forEachShard(Runnable action) {
+        for (String shard : shardNames) {
+            try (ShardContext.Scope scope = onShard(shard)) {
+                action.run();
+            }
+        }
+    }
+}
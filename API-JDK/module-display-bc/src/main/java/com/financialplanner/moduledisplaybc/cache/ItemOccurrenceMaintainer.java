@@ -0,0 +1,76 @@
+package com.financialplanner.moduledisplaybc.cache;
+
+import com.financialplanner.modulecommonbc.logging.ErrorLogger;
+import com.financialplanner.modulecommonbc.sharding.ShardContext;
+import com.financialplanner.modulecommonbc.sharding.ShardRouter;
+import com.financialplanner.moduledisplaybc.service.ItemOccurrenceService;
+import com.financialplanner.moduleitemsbc.domain.event.ItemChangeListener;
+import com.financialplanner.moduleitemsbc.domain.event.ItemChanged;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Drives the materialized occurrence table: applies committed item changes, builds or catches the horizon
+ * up at startup and rolls it forward once a day. Ordered ahead of the other item change listeners so the
+ * rows are current before ledger caches are evicted for the same batch. Each shard keeps the occurrences of its
+ * own users, so changes are applied and the horizon is rolled one shard at a time.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ItemOccurrenceMaintainer implements ItemChangeListener {
+
+    private final ItemOccurrenceService occurrenceService;
+    private final ShardRouter shardRouter;
+
+    public ItemOccurrenceMaintainer(ItemOccurrenceService occurrenceService, ShardRouter shardRouter) {
+        this.occurrenceService = occurrenceService;
+        this.shardRouter       = shardRouter;
+    }
+
+    @Override
+    public void onItemsChanged(List<ItemChanged> batch) {
+        Map<String, List<ItemChanged>> byShard =
+            batch.stream()
+                 .collect(Collectors.groupingBy(this::shardOf, LinkedHashMap::new, Collectors.toList()));
+        byShard.forEach((shard, changes) -> {
+            try (ShardContext.Scope scope = shardRouter.onShard(shard)) {
+                occurrenceService.applyChanges(changes);
+            }
+        });
+    }
+
+    private String shardOf(ItemChanged change) {
+        return change.userId() == null ? shardRouter.directoryShard() : shardRouter.shardFor(change.userId());
+    }
+
+    /**
+     * Builds the table, or rolls it forward to today, once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        roll();
+    }
+
+    /**
+     * Moves the horizon forward by the days elapsed since the last roll.
+     */
+    @Scheduled(cron = "${ledger.occurrences.roll-cron:0 30 2 * * *}")
+    public void roll() {
+        shardRouter.forEachShard(() -> {
+            try {
+                occurrenceService.rollHorizon();
+            } catch (RuntimeException ex) {
+                ErrorLogger.logException(ex);
+            }
+        });
+    }
+}
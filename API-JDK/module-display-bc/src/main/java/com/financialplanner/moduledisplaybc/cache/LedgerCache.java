@@ -0,0 +1,114 @@
+package com.financialplanner.moduledisplaybc.cache;
+
+import com.financialplanner.moduledisplaybc.config.LedgerCacheProperties;
+import com.financialplanner.moduledisplaybc.model.LedgerDto;
+import com.financialplanner.moduledisplaybc.model.LedgerRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, least-recently-used cache of sanitized ledgers keyed by user and date range.
+ * Entries expire after the configured TTL and are evicted per user when that user's items change.
+ * Ledgers are stored already sanitized and must be treated as read-only by callers.
+ * Writers take a {@link #stamp()} before building a ledger and pass it to {@link #put}; a put is
+ * dropped if any eviction happened in between, so a build that raced an item write cannot
+ * re-insert stale data.
+ */
+@Component
+public class LedgerCache {
+
+    private final long ttlMs;
+    private final Map<Key, Entry> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    public LedgerCache(LedgerCacheProperties properties) {
+        this.ttlMs = properties.getTtlMs();
+        int maxEntries = properties.getMaxEntries();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Returns the cached ledger for the request's user and date range, if present and not expired.
+     */
+    public Optional<List<LedgerDto>> get(LedgerRequest request) {
+        Key key = Key.of(request);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.ledger);
+    }
+
+    /**
+     * Returns whether a live entry exists for the request's user and date range.
+     */
+    public boolean contains(LedgerRequest request) {
+        return get(request).isPresent();
+    }
+
+    /**
+     * Returns the current invalidation stamp, to be taken before a ledger is built.
+     */
+    public long stamp() {
+        return generation.get();
+    }
+
+    /**
+     * Stores a sanitized ledger unless the cache has been invalidated since {@code stamp} was taken.
+     *
+     * @param request the request the ledger was built for
+     * @param ledger  the sanitized ledger
+     * @param stamp   the value of {@link #stamp()} taken before the ledger was built
+     */
+    public void put(LedgerRequest request, List<LedgerDto> ledger, long stamp) {
+        Entry entry = new Entry(List.copyOf(ledger), System.currentTimeMillis() + ttlMs);
+        synchronized (entries) {
+            if (generation.get() == stamp) {
+                entries.put(Key.of(request), entry);
+            }
+        }
+    }
+
+    /**
+     * Removes every cached ledger belonging to the user.
+     */
+    public void evictUser(UUID userId) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.keySet().removeIf(k -> k.userId().equals(userId));
+        }
+    }
+
+    /**
+     * Removes every cached ledger.
+     */
+    public void evictAll() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    /**
+     * Cache key; the grouping flag does not affect the computed ledger and is deliberately excluded.
+     */
+    private record Key(UUID userId, LocalDate start, LocalDate end) {
+        static Key of(LedgerRequest request) {
+            return new Key(request.userId(), request.ledgerStartDate(), request.ledgerEndDate());
+        }
+    }
+
+    private record Entry(List<LedgerDto> ledger, long expiresAt) { }
+}
@@ -0,0 +1,49 @@
+package com.financialplanner.moduledisplaybc.cache;
+
+import com.financialplanner.modulecommonbc.invalidation.CacheInvalidation;
+import com.financialplanner.modulecommonbc.invalidation.CacheInvalidationListener;
+import com.financialplanner.modulecommonbc.invalidation.InvalidationKind;
+import com.financialplanner.moduleitemsbc.domain.event.ItemChangeListener;
+import com.financialplanner.moduleitemsbc.domain.event.ItemChanged;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Evicts the cached ledgers of every user whose items changed, on this node or, through the
+ * cross-node invalidation channel, on another one.
+ * The API controllers still evict synchronously so a writer always reads its own change; this listener
+ * covers writes that do not pass through them and keeps the cache consistent if a controller misses one.
+ * One eviction is made per user in a batch, however many of their items changed.
+ */
+@Component
+public class LedgerCacheInvalidator implements ItemChangeListener, CacheInvalidationListener {
+
+    private final LedgerCache ledgerCache;
+
+    public LedgerCacheInvalidator(LedgerCache ledgerCache) {
+        this.ledgerCache = ledgerCache;
+    }
+
+    @Override
+    public void onItemsChanged(List<ItemChanged> batch) {
+        batch.stream()
+             .map(ItemChanged::userId)
+             .filter(Objects::nonNull)
+             .distinct()
+             .forEach(ledgerCache::evictUser);
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        if (invalidation.kind() != InvalidationKind.ITEMS) {
+            return;
+        }
+        if (invalidation.userId() == null) {
+            ledgerCache.evictAll();
+        } else {
+            ledgerCache.evictUser(invalidation.userId());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.financialplanner.moduledisplaybc.cache;
+
+import com.financialplanner.modulecommonbc.logging.ErrorLogger;
+import com.financialplanner.modulecommonbc.sanitizer.Sanitizer;
+import com.financialplanner.moduledisplaybc.config.LedgerPrewarmProperties;
+import com.financialplanner.moduledisplaybc.model.LedgerDto;
+import com.financialplanner.moduledisplaybc.model.LedgerRequest;
+import com.financialplanner.moduledisplaybc.service.LedgerReadoutService;
+import com.financialplanner.moduledisplaybc.utility.DaemonThreadFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pre-computes the default-range ledger (today through the configured horizon) for recently active
+ * users and stores it, sanitized, in the {@link LedgerCache} so the first dashboard view after login
+ * is served warm. Activity is recorded on login; a recurring cycle re-warms entries that have expired
+ * or been evicted for users still inside the activity window.
+ * Warm-ups run on a small bounded pool and are best effort: when the queue is full, or the CPU time
+ * spent by the workers in the current cycle exceeds the budget, work is skipped until the next cycle.
+ */
+@Component
+public class LedgerPrewarmScheduler {
+
+    private final LedgerReadoutService ledgerReadoutService;
+    private final LedgerCache ledgerCache;
+    private final Sanitizer sanitizer;
+    private final LedgerPrewarmProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    private final Map<UUID, Long> lastActivity = new ConcurrentHashMap<>();
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicLong cpuSpentNanos = new AtomicLong();
+
+    public LedgerPrewarmScheduler(LedgerReadoutService ledgerReadoutService, LedgerCache ledgerCache,
+                                  Sanitizer sanitizer, LedgerPrewarmProperties properties) {
+        this.ledgerReadoutService = ledgerReadoutService;
+        this.ledgerCache = ledgerCache;
+        this.sanitizer = sanitizer;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(properties.getWorkerThreads(), properties.getWorkerThreads(),
+                                               0L, TimeUnit.MILLISECONDS,
+                                               new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                                               new DaemonThreadFactory("ledger-prewarm-"),
+                                               new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Marks the user as active and queues a warm-up of their default ledger if it is not cached.
+     *
+     * @param userId the user's public identifier
+     */
+    public void recordActivity(UUID userId) {
+        if (!properties.isEnabled() || userId == null) {
+            return;
+        }
+        if (lastActivity.size() >= properties.getMaxTrackedUsers() && !lastActivity.containsKey(userId)) {
+            return;
+        }
+        lastActivity.put(userId, System.currentTimeMillis());
+        schedule(userId);
+    }
+
+    /**
+     * Starts a new warm-up cycle: resets the CPU budget, forgets users outside the activity window
+     * and queues warm-ups for the remaining users whose default ledger is no longer cached.
+     */
+    @Scheduled(fixedDelayString = "${ledger.prewarm.interval-ms:300000}",
+               initialDelayString = "${ledger.prewarm.interval-ms:300000}")
+    public void refresh() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        cpuSpentNanos.set(0);
+        long cutoff = System.currentTimeMillis() - properties.getActiveWindowMs();
+        lastActivity.values().removeIf(seen -> seen < cutoff);
+        for (UUID userId : lastActivity.keySet()) {
+            schedule(userId);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void schedule(UUID userId) {
+        LedgerRequest request = defaultRequest(userId);
+        if (ledgerCache.contains(request) || !inFlight.add(userId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> warm(request));
+        } catch (RejectedExecutionException ex) {
+            // Queue full: free the slot so the user is picked up again next cycle
+            inFlight.remove(userId);
+        }
+    }
+
+    private void warm(LedgerRequest request) {
+        long budgetNanos = TimeUnit.MILLISECONDS.toNanos(properties.getCpuBudgetMs());
+        boolean measureCpu = threadBean.isCurrentThreadCpuTimeSupported();
+        long cpuStart = measureCpu ? threadBean.getCurrentThreadCpuTime() : 0L;
+        try {
+            if (cpuSpentNanos.get() >= budgetNanos) {
+                return; // over budget for this cycle; picked up again next cycle
+            }
+            long stamp = ledgerCache.stamp();
+            List<LedgerDto> ledger = ledgerReadoutService.buildLedgerReadout(request);
+            sanitizer.sanitize(ledger);
+            ledgerCache.put(request, ledger, stamp);
+        } catch (RuntimeException ex) {
+            ErrorLogger.logException(ex);
+        } finally {
+            if (measureCpu) {
+                cpuSpentNanos.addAndGet(threadBean.getCurrentThreadCpuTime() - cpuStart);
+            }
+            inFlight.remove(request.userId());
+        }
+    }
+
+    /**
+     * Builds the request matching the dashboard's default view: today through the configured horizon.
+     */
+    private LedgerRequest defaultRequest(UUID userId) {
+        LocalDate today = LocalDate.now();
+        return new LedgerRequest(userId, today, today.plusDays(properties.getHorizonDays()), true);
+    }
+}
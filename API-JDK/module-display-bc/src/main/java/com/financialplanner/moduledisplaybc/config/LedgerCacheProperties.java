@@ -0,0 +1,15 @@
+package com.financialplanner.moduledisplaybc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Size and freshness limits for the in-memory ledger cache.
+ */
+@lombok.Data
+@Component
+@ConfigurationProperties(prefix = "ledger.cache")
+public class LedgerCacheProperties {
+    private int maxEntries = 500;
+    private long ttlMs = 300000;
+}
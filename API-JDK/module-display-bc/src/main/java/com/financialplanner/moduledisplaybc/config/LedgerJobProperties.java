@@ -0,0 +1,19 @@
+package com.financialplanner.moduledisplaybc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits for the asynchronous ledger job executor and its result store.
+ * {@code maxRetainedJobs} should exceed {@code workerThreads + queueCapacity} so that queued and
+ * running jobs are never evicted before their results can be collected.
+ */
+@lombok.Data
+@Component
+@ConfigurationProperties(prefix = "ledger.jobs")
+public class LedgerJobProperties {
+    private int workerThreads = 2;
+    private int queueCapacity = 16;
+    private int maxRetainedJobs = 64;
+    private long resultTtlMs = 600000;
+}
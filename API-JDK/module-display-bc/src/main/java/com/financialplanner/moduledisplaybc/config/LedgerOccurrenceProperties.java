@@ -0,0 +1,21 @@
+package com.financialplanner.moduledisplaybc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the materialized {@code item_occurrences} table.
+ * When {@code enabled}, occurrences from {@code lookbackDays} before today to {@code horizonDays} after it are
+ * kept up to date on item writes and rolled forward on {@code rollCron}. {@code readEnabled} additionally lets
+ * ledger readouts inside that horizon read the stored rows instead of expanding every item.
+ */
+@lombok.Data
+@Component
+@ConfigurationProperties(prefix = "ledger.occurrences")
+public class LedgerOccurrenceProperties {
+    private boolean enabled = false;
+    private boolean readEnabled = false;
+    private int lookbackDays = 31;
+    private int horizonDays = 400;
+    private String rollCron = "0 30 2 * * *";
+}
@@ -0,0 +1,23 @@
+package com.financialplanner.moduledisplaybc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for pre-computing the default ledger of recently active users.
+ * {@code cpuBudgetMs} caps the CPU time the warm-up workers may spend per scheduling cycle;
+ * work over the budget is deferred to the next cycle.
+ */
+@lombok.Data
+@Component
+@ConfigurationProperties(prefix = "ledger.prewarm")
+public class LedgerPrewarmProperties {
+    private boolean enabled = true;
+    private int workerThreads = 1;
+    private int queueCapacity = 64;
+    private int maxTrackedUsers = 10000;
+    private long activeWindowMs = 1800000;
+    private long intervalMs = 300000;
+    private long cpuBudgetMs = 2000;
+    private int horizonDays = 90;
+}
@@ -0,0 +1,15 @@
+package com.financialplanner.moduledisplaybc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits for the worker pool that computes progressively delivered (streamed) ledgers.
+ */
+@lombok.Data
+@Component
+@ConfigurationProperties(prefix = "ledger.stream")
+public class LedgerStreamProperties {
+    private int workerThreads = 4;
+    private int queueCapacity = 32;
+}
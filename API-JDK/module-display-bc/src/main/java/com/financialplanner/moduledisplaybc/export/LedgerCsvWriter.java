@@ -0,0 +1,91 @@
+package com.financialplanner.moduledisplaybc.export;
+
+import com.financialplanner.moduledisplaybc.model.Ledger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Writes flat {@link Ledger} rows as RFC 4180 CSV. The column set and order mirror the fields of
+ * {@link Ledger}, so the model class acts as the export schema. The writer keeps no row state and
+ * writes straight through to the underlying {@link Writer}; callers own buffering and flushing.
+ */
+public class LedgerCsvWriter {
+
+    static final String HEADER = "rollupKey,year,wDate,creditSummary,debitSummary,net,runningTotal,"
+                                 + "occurrenceDate,fkItemType,itemType,periodName,name,amount";
+
+    private final Writer out;
+
+    public LedgerCsvWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes the header line naming each {@link Ledger} column.
+     *
+     * @throws IOException if the underlying writer fails
+     */
+    public void writeHeader() throws IOException {
+        out.write(HEADER);
+        out.write("\r\n");
+    }
+
+    /**
+     * Writes a single ledger row. Summary-only rows leave the occurrence columns empty.
+     *
+     * @param row the row to write
+     * @throws IOException if the underlying writer fails
+     */
+    public void writeRow(Ledger row) throws IOException {
+        boolean hasOccurrence = row.getOccurrenceDate() != null;
+
+        out.write(Integer.toString(row.getRollupKey()));
+        out.write(',');
+        out.write(Integer.toString(row.getYear()));
+        out.write(',');
+        out.write(date(row.getWDate()));
+        out.write(',');
+        out.write(number(row.getCreditSummary()));
+        out.write(',');
+        out.write(number(row.getDebitSummary()));
+        out.write(',');
+        out.write(number(row.getNet()));
+        out.write(',');
+        out.write(number(row.getRunningTotal()));
+        out.write(',');
+        out.write(date(row.getOccurrenceDate()));
+        out.write(',');
+        out.write(hasOccurrence ? Integer.toString(row.getFkItemType()) : "");
+        out.write(',');
+        out.write(text(row.getItemType()));
+        out.write(',');
+        out.write(text(row.getPeriodName()));
+        out.write(',');
+        out.write(text(row.getName()));
+        out.write(',');
+        out.write(hasOccurrence ? number(row.getAmount()) : "");
+        out.write("\r\n");
+    }
+
+    private static String date(LocalDate value) {
+        return value != null ? value.toString() : "";
+    }
+
+    // Plain notation keeps large balances readable in spreadsheets (no 1.2E7)
+    private static String number(double value) {
+        return BigDecimal.valueOf(value).toPlainString();
+    }
+
+    private static String text(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
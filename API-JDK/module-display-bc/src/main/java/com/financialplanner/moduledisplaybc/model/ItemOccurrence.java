@@ -0,0 +1,12 @@
+package com.financialplanner.moduledisplaybc.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One pre-expanded occurrence of an item, as stored in {@code item_occurrences}.
+ * {@code seq} tells apart several occurrences of the same item on the same day, and the amount is
+ * signed like in the ledger: credits positive, debits negative.
+ */
+public record ItemOccurrence(UUID userId, LocalDate occurrenceDate, Long itemId, int seq, long itemTypeId,
+                             double amount) {}
@@ -0,0 +1,23 @@
+package com.financialplanner.moduledisplaybc.model;
+
+import com.financialplanner.modulecommonbc.sanitizer.annotations.LenientText;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Point-in-time view of an asynchronous ledger job, returned when a job is submitted or polled.
+ * The computed ledger itself is not part of this view; it is fetched separately once the job completes.
+ */
+@lombok.Data
+public class LedgerJob {
+    private String jobId;
+    private UUID userId;
+    private LedgerJobStatus status;
+    private int progress;
+    private Instant submittedAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    @LenientText
+    private String message;
+}
@@ -0,0 +1,11 @@
+package com.financialplanner.moduledisplaybc.model;
+
+/**
+ * Lifecycle states of an asynchronous ledger job.
+ */
+public enum LedgerJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,10 @@
+package com.financialplanner.moduledisplaybc.model;
+
+@lombok.Data
+public class MonthlyTotal {
+    private int year;
+    private int month;
+    private double creditSummary;
+    private double debitSummary;
+    private double net;
+}
@@ -0,0 +1,16 @@
+package com.financialplanner.moduledisplaybc.model;
+
+import java.time.LocalDate;
+
+/**
+ * The inclusive date window currently materialized in {@code item_occurrences}.
+ */
+public record OccurrenceHorizon(LocalDate start, LocalDate end) {
+
+    /**
+     * Returns whether the window covers the whole range from {@code from} to {@code to}.
+     */
+    public boolean covers(LocalDate from, LocalDate to) {
+        return !from.isBefore(start) && !to.isAfter(end);
+    }
+}
@@ -0,0 +1,151 @@
+package com.financialplanner.moduledisplaybc.persistence;
+
+import com.financialplanner.moduledisplaybc.model.ItemOccurrence;
+import com.financialplanner.moduledisplaybc.model.MonthlyTotal;
+import com.financialplanner.moduledisplaybc.model.OccurrenceHorizon;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * JDBC access to the materialized {@code item_occurrences} table and its single-row horizon.
+ * Writers are expected to hold {@link #lock()} for their transaction, so incremental maintenance and
+ * the nightly horizon roll never interleave, including across nodes.
+ */
+@Repository
+public class ItemOccurrenceRepository {
+
+    /**
+     * Transaction-scoped advisory lock key guarding writes to {@code item_occurrences}.
+     */
+    private static final long LOCK_KEY = 0x4650464C4F434355L;
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = """
+        insert into fpfl.item_occurrences (user_id, occurrence_date, item_id, seq, fk_item_type, amount)
+        values (?, ?, ?, ?, ?, ?)
+        on conflict do nothing
+        """;
+
+    private static final String FIND_DATES_SQL = """
+        select item_id, occurrence_date
+        from fpfl.item_occurrences
+        where user_id = ? and occurrence_date between ? and ?
+        order by item_id, occurrence_date, seq
+        """;
+
+    private static final String MONTHLY_TOTALS_SQL = """
+        select extract(year from m.month)::int as year, extract(month from m.month)::int as month,
+               coalesce(sum(o.amount) filter (where o.fk_item_type = 1), 0) as credit,
+               coalesce(sum(o.amount) filter (where o.fk_item_type = 2), 0) as debit
+        from generate_series(date_trunc('month', ?::date), date_trunc('month', ?::date), interval '1 month') as m(month)
+        left join fpfl.item_occurrences o
+               on o.user_id = ?
+              and o.occurrence_date >= greatest(m.month::date, ?::date)
+              and o.occurrence_date < least((m.month + interval '1 month')::date, ?::date + 1)
+        group by m.month
+        order by m.month
+        """;
+
+    private static final String SAVE_HORIZON_SQL = """
+        insert into fpfl.item_occurrence_horizon (id, start_date, end_date, refreshed_at)
+        values (1, ?, ?, now())
+        on conflict (id) do update
+            set start_date = excluded.start_date, end_date = excluded.end_date, refreshed_at = excluded.refreshed_at
+        """;
+
+    private final JdbcTemplate jdbc;
+
+    public ItemOccurrenceRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Takes the write lock for the rest of the current transaction, waiting for other writers.
+     */
+    public void lock() {
+        jdbc.queryForObject("select pg_advisory_xact_lock(?)::text", String.class, LOCK_KEY);
+    }
+
+    /**
+     * Returns the materialized window, or empty if the table has never been built.
+     */
+    public Optional<OccurrenceHorizon> findHorizon() {
+        return jdbc.query("select start_date, end_date from fpfl.item_occurrence_horizon where id = 1",
+                          (rs, n) -> new OccurrenceHorizon(rs.getObject(1, LocalDate.class),
+                                                           rs.getObject(2, LocalDate.class)))
+                   .stream()
+                   .findFirst();
+    }
+
+    public void saveHorizon(OccurrenceHorizon horizon) {
+        jdbc.update(SAVE_HORIZON_SQL, Date.valueOf(horizon.start()), Date.valueOf(horizon.end()));
+    }
+
+    public void insertAll(List<ItemOccurrence> occurrences) {
+        jdbc.batchUpdate(INSERT_SQL, occurrences, INSERT_BATCH_SIZE, (ps, o) -> {
+            ps.setObject(1, o.userId());
+            ps.setDate(2, Date.valueOf(o.occurrenceDate()));
+            ps.setLong(3, o.itemId());
+            ps.setInt(4, o.seq());
+            ps.setLong(5, o.itemTypeId());
+            ps.setDouble(6, o.amount());
+        });
+    }
+
+    public void deleteByItemIds(Collection<Long> itemIds) {
+        jdbc.update(con -> {
+            PreparedStatement ps = con.prepareStatement("delete from fpfl.item_occurrences where item_id = any(?)");
+            Array ids = con.createArrayOf("bigint", itemIds.toArray());
+            ps.setArray(1, ids);
+            return ps;
+        });
+    }
+
+    public void deleteBefore(LocalDate date) {
+        jdbc.update("delete from fpfl.item_occurrences where occurrence_date < ?", Date.valueOf(date));
+    }
+
+    public void deleteAfter(LocalDate date) {
+        jdbc.update("delete from fpfl.item_occurrences where occurrence_date > ?", Date.valueOf(date));
+    }
+
+    public void deleteAll() {
+        jdbc.update("truncate fpfl.item_occurrences");
+    }
+
+    /**
+     * Returns the user's stored occurrence dates in the window, keyed by item id; an item occurring more
+     * than once on a day has that date repeated.
+     */
+    public Map<Long, List<LocalDate>> findDates(UUID userId, LocalDate start, LocalDate end) {
+        Map<Long, List<LocalDate>> dates = new HashMap<>();
+        jdbc.query(FIND_DATES_SQL, rs -> {
+            dates.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>())
+                 .add(rs.getObject(2, LocalDate.class));
+        }, userId, Date.valueOf(start), Date.valueOf(end));
+        return dates;
+    }
+
+    /**
+     * Sums the user's credits and debits per calendar month of the window, including months without
+     * occurrences.
+     */
+    public List<MonthlyTotal> findMonthlyTotals(UUID userId, LocalDate start, LocalDate end) {
+        return jdbc.query(MONTHLY_TOTALS_SQL, (rs, n) -> {
+            MonthlyTotal total = new MonthlyTotal();
+            total.setYear(rs.getInt("year"));
+            total.setMonth(rs.getInt("month"));
+            total.setCreditSummary(rs.getDouble("credit"));
+            total.setDebitSummary(rs.getDouble("debit"));
+            total.setNet(total.getCreditSummary() + total.getDebitSummary());
+            return total;
+        }, Date.valueOf(start), Date.valueOf(end), userId, Date.valueOf(start), Date.valueOf(end));
+    }
+}
@@ -2,7 +2,7 @@ package com.financialplanner.moduledisplaybc.recurrence;
 
 import com.financialplanner.moduledisplaybc.model.ItemDto;
 import com.financialplanner.moduledisplaybc.utility.RecurrenceRange;
-import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -18,9 +18,9 @@ import java.util.function.Function;
  */
 public class AnnualRecurrenceExpander {
 
-    private final Function<Item, ItemDto> mapper;
+    private final Function<LedgerItemView, ItemDto> mapper;
 
-    public AnnualRecurrenceExpander(Function<Item, ItemDto> mapper) {
+    public AnnualRecurrenceExpander(Function<LedgerItemView, ItemDto> mapper) {
         this.mapper = mapper;
     }
 
@@ -30,28 +30,28 @@ public class AnnualRecurrenceExpander {
      * The expansion considers items with specific annual schedule and filters out items
      * without valid recurrence or dates within the effective range.
      *
-     * @param items       the list of {@code Item} objects to be processed
+     * @param items       the list of {@code LedgerItemView} objects to be processed
      * @param ledgerStart the start date of the ledger's effective range
      * @param ledgerEnd   the end date of the ledger's effective range
      * @return a list of {@code ItemDto} objects, each corresponding to an occurrence date
      *         within the valid range specified by the ledger
      */
-    public List<ItemDto> expand(List<Item> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
+    public List<ItemDto> expand(List<LedgerItemView> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
         List<ItemDto> expanded = new ArrayList<>();
 
         // Filter annual items first (periodId = 9)
-        List<Item> annualItems = items.stream()
+        List<LedgerItemView> annualItems = items.stream()
             .filter(this::isAnnual)
             .toList();
 
-        for (Item item : annualItems) {
+        for (LedgerItemView item : annualItems) {
 
             // Default effective range = ledger range
             LocalDate effStart = ledgerStart;
             LocalDate effEnd   = ledgerEnd;
 
             // Only call resolveRange() when DateRangeReq == true
-            Boolean req = item.getDateRangeReq();
+            Boolean req = item.dateRangeReq();
             if (req != null && req) {
                 LocalDate[] range = RecurrenceRange.resolveRange(item, ledgerStart, ledgerEnd);
 
@@ -64,8 +64,8 @@ public class AnnualRecurrenceExpander {
                 effEnd   = range[1];
             }
 
-            Integer month = item.getAnnualMoy();  // Month-of-year (1–12)
-            Integer day   = item.getAnnualDom();  // Day-of-month
+            Integer month = item.annualMoy();  // Month-of-year (1–12)
+            Integer day   = item.annualDom();  // Day-of-month
 
             if (month == null || day == null) {
                 // Missing anchor → skip expansion
@@ -91,9 +91,9 @@ public class AnnualRecurrenceExpander {
      * @param item the item to check, which may be null or have a null time period
      * @return true if the item's time period is annual (identified by ID 9), false otherwise
      */
-    public boolean isAnnual(Item item) {
-        if (item == null || item.getTimePeriod() == null) return false;
-        int pid = Math.toIntExact(item.getTimePeriod().getId());
+    public boolean isAnnual(LedgerItemView item) {
+        if (item == null || item.timePeriodId() == null) return false;
+        int pid = Math.toIntExact(item.timePeriodId());
         return pid == 9; // annual = 9
     }
 
@@ -2,7 +2,7 @@ package com.financialplanner.moduledisplaybc.recurrence;
 
 import com.financialplanner.moduledisplaybc.model.ItemDto;
 import com.financialplanner.moduledisplaybc.utility.RecurrenceRange;
-import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -17,9 +17,9 @@ import java.util.function.Function;
  */
 public class BiMonthlyRecurrenceExpander {
 
-    private final Function<Item, ItemDto> mapper;
+    private final Function<LedgerItemView, ItemDto> mapper;
 
-    public BiMonthlyRecurrenceExpander(Function<Item, ItemDto> mapper) {
+    public BiMonthlyRecurrenceExpander(Function<LedgerItemView, ItemDto> mapper) {
         this.mapper = mapper;
     }
 
@@ -33,22 +33,22 @@ public class BiMonthlyRecurrenceExpander {
      * @param ledgerEnd   the end date of the ledger range
      * @return a list of {@code ItemDto} objects representing the expanded occurrences of bi-monthly items
      */
-    public List<ItemDto> expand(List<Item> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
+    public List<ItemDto> expand(List<LedgerItemView> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
         List<ItemDto> expanded = new ArrayList<>();
 
         // Filter bi-monthly items first (periodId = 5)
-        List<Item> biMonthlyItems = items.stream()
+        List<LedgerItemView> biMonthlyItems = items.stream()
             .filter(this::isBiMonthly)
             .toList();
 
-        for (Item item : biMonthlyItems) {
+        for (LedgerItemView item : biMonthlyItems) {
 
             // Default effective range = ledger range
             LocalDate effStart = ledgerStart;
             LocalDate effEnd   = ledgerEnd;
 
             // Only call resolveRange() when DateRangeReq == true
-            Boolean req = item.getDateRangeReq();
+            Boolean req = item.dateRangeReq();
             if (req != null && req) {
                 LocalDate[] range = RecurrenceRange.resolveRange(item, ledgerStart, ledgerEnd);
 
@@ -61,8 +61,8 @@ public class BiMonthlyRecurrenceExpander {
                 effEnd   = range[1];
             }
 
-            Integer day1 = item.getBiMonthlyDay1();
-            Integer day2 = item.getBiMonthlyDay2();
+            Integer day1 = item.biMonthlyDay1();
+            Integer day2 = item.biMonthlyDay2();
 
             if (day1 == null && day2 == null) {
                 // Missing recurrence days → skip expansion
@@ -89,9 +89,9 @@ public class BiMonthlyRecurrenceExpander {
      * @return true if the item's time period identifier corresponds to bi-monthly (5);
      *         false otherwise.
      */
-    public boolean isBiMonthly(Item item) {
-        if (item == null || item.getTimePeriod() == null) return false;
-        int pid = Math.toIntExact(item.getTimePeriod().getId());
+    public boolean isBiMonthly(LedgerItemView item) {
+        if (item == null || item.timePeriodId() == null) return false;
+        int pid = Math.toIntExact(item.timePeriodId());
         return pid == 5; // bi-monthly = 5
     }
 
@@ -2,10 +2,12 @@ package com.financialplanner.moduledisplaybc.recurrence;
 
 import com.financialplanner.moduledisplaybc.model.ItemDto;
 import com.financialplanner.moduledisplaybc.utility.RecurrenceRange;
-import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
@@ -19,6 +21,8 @@ import java.util.function.Function;
  * Bi-weekly recurrence is identified using a specific time period ID (4), and the expansion considers
  * the effective date ranges, target day of week, and ledger boundaries. The resulting expanded list
  * provides detailed entries for each occurrence of the recurring items.
+ * The two-week cycle is anchored on the first target weekday on or after the item's begin date, so the
+ * occurrences of an item are the same whichever ledger window they are expanded for.
  * Key functionalities of this class include:
  * - Filtering items for bi-weekly recurrence.
  * - Calculating bi-weekly dates within a given range matching a specific day of the week.
@@ -26,9 +30,9 @@ import java.util.function.Function;
  */
 public class BiWeeklyRecurrenceExpander {
 
-    private final Function<Item, ItemDto> mapper;
+    private final Function<LedgerItemView, ItemDto> mapper;
 
-    public BiWeeklyRecurrenceExpander(Function<Item, ItemDto> mapper) {
+    public BiWeeklyRecurrenceExpander(Function<LedgerItemView, ItemDto> mapper) {
         this.mapper = mapper;
     }
 
@@ -46,23 +50,23 @@ public class BiWeeklyRecurrenceExpander {
      * @return a list of `ItemDto` objects, each representing a single occurrence of a bi-weekly item
      *         on a specific date within the specified ledger range
      */
-    public List<ItemDto> expand(List<Item> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
+    public List<ItemDto> expand(List<LedgerItemView> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
         List<ItemDto> expanded = new ArrayList<>();
 
         // Filter bi-weekly items first (periodId = 4)
-        List<Item> biWeeklyItems = items.stream()
+        List<LedgerItemView> biWeeklyItems = items.stream()
             .filter(this::isBiWeekly)
             .toList();
 
-        for (Item item : biWeeklyItems) {
+        for (LedgerItemView item : biWeeklyItems) {
 
-            LocalDate begin = item.getBeginDate();
+            LocalDate begin = item.beginDate();
             // Default effective range = ledger range
             LocalDate effStart = begin.isAfter(ledgerStart) ? begin : ledgerStart;
             LocalDate effEnd   = ledgerEnd;
 
             // Only call resolveRange() when DateRangeReq == true
-            Boolean req = item.getDateRangeReq();
+            Boolean req = item.dateRangeReq();
             if (req != null && req) {
                 LocalDate[] range = RecurrenceRange.resolveRange(item, ledgerStart, ledgerEnd);
 
@@ -76,7 +80,7 @@ public class BiWeeklyRecurrenceExpander {
             }
 
             // Determine target weekday (everyOtherWeekDow)
-            Integer dowValue = item.getEveryOtherWeekDow();
+            Integer dowValue = item.everyOtherWeekDow();
             if (dowValue == null) {
                 // Missing weekday → skip expansion
                 continue;
@@ -84,8 +88,8 @@ public class BiWeeklyRecurrenceExpander {
 
             DayOfWeek targetDow = DayOfWeek.of(dowValue);
 
-            // Compute bi-weekly dates using the effective range
-            List<LocalDate> biWeeklyDates = computeBiWeeklyDates(effStart, effEnd, targetDow);
+            // Compute bi-weekly dates using the effective range, keeping the cycle anchored on the begin date
+            List<LocalDate> biWeeklyDates = computeBiWeeklyDates(begin, effStart, effEnd, targetDow);
 
             for (LocalDate date : biWeeklyDates) {
                 ItemDto dto = mapper.apply(item);
@@ -98,46 +102,46 @@ public class BiWeeklyRecurrenceExpander {
     }
 
     /**
-     * Checks if the given {@code Item} is associated with a bi-weekly recurrence pattern.
+     * Checks if the given {@code LedgerItemView} is associated with a bi-weekly recurrence pattern.
      * A bi-weekly item is identified by having a time period with an ID of 4.
-     * If the {@code Item} or its associated time period is {@code null}, this method
+     * If the {@code LedgerItemView} or its associated time period is {@code null}, this method
      * will return {@code false}.
      *
-     * @param item The {@code Item} to be checked for bi-weekly recurrence.
+     * @param item The {@code LedgerItemView} to be checked for bi-weekly recurrence.
      *             May be {@code null}.
-     * @return {@code true} if the {@code Item} is bi-weekly (time period ID equals 4),
+     * @return {@code true} if the {@code LedgerItemView} is bi-weekly (time period ID equals 4),
      *         {@code false} otherwise.
      */
-    public boolean isBiWeekly(Item item) {
-        if (item == null || item.getTimePeriod() == null) return false;
-        int pid = Math.toIntExact(item.getTimePeriod().getId());
+    public boolean isBiWeekly(LedgerItemView item) {
+        if (item == null || item.timePeriodId() == null) return false;
+        int pid = Math.toIntExact(item.timePeriodId());
         return pid == 4; // bi-weekly = 4
     }
 
     /**
      * Computes a list of bi-weekly dates within a specified range that match a given day of the week.
-     * The method determines all dates falling on the specified {@code targetDay} within the
-     * inclusive range defined by {@code start} and {@code end}, occurring at bi-weekly intervals.
+     * The cycle starts on the first {@code targetDay} on or after {@code anchor}; occurrences before
+     * {@code start} are skipped, so the phase never depends on where the range begins.
      *
+     * @param anchor the date the two-week cycle is counted from, typically the item's begin date; must not be null.
      * @param start the start date of the range; must not be null.
-     *              The computation begins from this date to find the first occurrence of the {@code targetDay}.
      * @param end the end date of the range; must not be null and must not be before the {@code start} date.
      *            No dates beyond this date will be included in the result.
      * @param targetDay the day of the week to match (e.g., MONDAY, TUESDAY); must not be null.
      * @return a list of {@code LocalDate} objects representing bi-weekly occurrences of the {@code targetDay}
      *         within the specified range. If no matching dates are found, the returned list will be empty.
      */
-    private static List<LocalDate> computeBiWeeklyDates(LocalDate start, LocalDate end, DayOfWeek targetDay) {
+    private static List<LocalDate> computeBiWeeklyDates(LocalDate anchor, LocalDate start, LocalDate end,
+                                                        DayOfWeek targetDay) {
         List<LocalDate> dates = new ArrayList<>();
 
-        LocalDate cursor = start;
+        // Snap the anchor forward to the first matching weekday
+        LocalDate cursor = anchor.with(TemporalAdjusters.nextOrSame(targetDay));
 
-        // Snap forward to first matching weekday
-        while (cursor.getDayOfWeek() != targetDay) {
-            cursor = cursor.plusDays(1);
-            if (cursor.isAfter(end)) {
-                return dates; // no occurrences in range
-            }
+        // Jump whole cycles forward to the first occurrence on or after the range start
+        if (cursor.isBefore(start)) {
+            long cycles = (ChronoUnit.DAYS.between(cursor, start) + 13) / 14;
+            cursor = cursor.plusWeeks(2 * cycles);
         }
 
         // Add bi-weekly occurrences
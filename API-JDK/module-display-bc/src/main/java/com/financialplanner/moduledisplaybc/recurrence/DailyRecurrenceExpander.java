@@ -2,7 +2,7 @@ package com.financialplanner.moduledisplaybc.recurrence;
 
 import com.financialplanner.moduledisplaybc.model.ItemDto;
 import com.financialplanner.moduledisplaybc.utility.RecurrenceRange;
-import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -10,44 +10,44 @@ import java.util.List;
 import java.util.function.Function;
 
 /**
- * A utility class for expanding daily recurring {@code Item} objects into individual
+ * A utility class for expanding daily recurring {@code LedgerItemView} objects into individual
  * occurrences represented as {@code ItemDto} objects over a specified date range.
  * The class processes items with daily recurrence, computes their occurrence dates
  * within a given range, and generates corresponding DTOs for each occurrence.
  */
 public class DailyRecurrenceExpander {
 
-    private final Function<Item, ItemDto> mapper;
+    private final Function<LedgerItemView, ItemDto> mapper;
 
-    public DailyRecurrenceExpander(Function<Item, ItemDto> mapper) {
+    public DailyRecurrenceExpander(Function<LedgerItemView, ItemDto> mapper) {
         this.mapper = mapper;
     }
 
     /**
-     * Expands a list of daily recurring {@code Item} objects into a list of {@code ItemDto} objects,
+     * Expands a list of daily recurring {@code LedgerItemView} objects into a list of {@code ItemDto} objects,
      * generating individual occurrences for each day within the specified date range.
      *
-     * @param items a list of {@code Item} objects to be expanded
+     * @param items a list of {@code LedgerItemView} objects to be expanded
      * @param ledgerStart the start date of the ledger range
      * @param ledgerEnd the end date of the ledger range
      * @return a list of {@code ItemDto} objects with occurrences for each applicable date
      */
-    public List<ItemDto> expand(List<Item> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
+    public List<ItemDto> expand(List<LedgerItemView> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
         List<ItemDto> expanded = new ArrayList<>();
 
         // Filter daily items first (periodId = 2)
-        List<Item> dailyItems = items.stream()
+        List<LedgerItemView> dailyItems = items.stream()
             .filter(this::isDaily)
             .toList();
 
-        for (Item item : dailyItems) {
+        for (LedgerItemView item : dailyItems) {
 
             // Default range = ledger range
             LocalDate effStart = ledgerStart;
             LocalDate effEnd   = ledgerEnd;
 
             // Only call resolveRange() when DateRangeReq == true
-            Boolean req = item.getDateRangeReq();
+            Boolean req = item.dateRangeReq();
             if (req != null && req) {
                 LocalDate[] range = RecurrenceRange.resolveRange(item, ledgerStart, ledgerEnd);
 
@@ -82,9 +82,9 @@ public class DailyRecurrenceExpander {
      * @param item The item to be checked. May be null.
      * @return {@code true} if the item has a daily recurrence pattern, {@code false} otherwise.
      */
-    public boolean isDaily(Item item) {
-        if (item == null || item.getTimePeriod() == null) return false;
-        int pid = Math.toIntExact(item.getTimePeriod().getId());
+    public boolean isDaily(LedgerItemView item) {
+        if (item == null || item.timePeriodId() == null) return false;
+        int pid = Math.toIntExact(item.timePeriodId());
         return pid == 2;
     }
 
@@ -2,7 +2,7 @@ package com.financialplanner.moduledisplaybc.recurrence;
 
 import com.financialplanner.moduledisplaybc.model.ItemDto;
 import com.financialplanner.moduledisplaybc.utility.RecurrenceRange;
-import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -19,14 +19,14 @@ import java.util.function.Function;
  */
 public class MonthlyRecurrenceExpander {
 
-    private final Function<Item, ItemDto> mapper;
+    private final Function<LedgerItemView, ItemDto> mapper;
 
-    public MonthlyRecurrenceExpander(Function<Item, ItemDto> mapper) {
+    public MonthlyRecurrenceExpander(Function<LedgerItemView, ItemDto> mapper) {
         this.mapper = mapper;
     }
 
     /**
-     * Expands a list of {@code Item} objects into a list of {@code ItemDto} instances,
+     * Expands a list of {@code LedgerItemView} objects into a list of {@code ItemDto} instances,
      * generating monthly occurrences within a specified ledger date range. The method
      * filters items that are marked as monthly recurring and calculates occurrences
      * based on specified day-of-month values.
@@ -36,22 +36,22 @@ public class MonthlyRecurrenceExpander {
      * @param ledgerEnd the end date of the ledger range to consider for calculating monthly occurrences
      * @return a list of {@code ItemDto} objects where each represents a monthly occurrence of an input item
      */
-    public List<ItemDto> expand(List<Item> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
+    public List<ItemDto> expand(List<LedgerItemView> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
         List<ItemDto> expanded = new ArrayList<>();
 
         // Filter monthly items first (periodId = 6)
-        List<Item> monthlyItems = items.stream()
+        List<LedgerItemView> monthlyItems = items.stream()
             .filter(this::isMonthly)
             .toList();
 
-        for (Item item : monthlyItems) {
+        for (LedgerItemView item : monthlyItems) {
 
             // Default effective range = ledger range
             LocalDate effStart = ledgerStart;
             LocalDate effEnd   = ledgerEnd;
 
             // Only call resolveRange() when DateRangeReq == true
-            Boolean req = item.getDateRangeReq();
+            Boolean req = item.dateRangeReq();
             if (req != null && req) {
                 LocalDate[] range = RecurrenceRange.resolveRange(item, ledgerStart, ledgerEnd);
 
@@ -64,7 +64,7 @@ public class MonthlyRecurrenceExpander {
                 effEnd   = range[1];
             }
 
-            Integer dom = item.getMonthlyDom();
+            Integer dom = item.monthlyDom();
             if (dom == null) {
                 // Missing day-of-month → skip expansion
                 continue;
@@ -90,9 +90,9 @@ public class MonthlyRecurrenceExpander {
      * @return true if the item's time period indicates it is monthly (period ID equals 6);
      *         false otherwise, including cases where the item or its time period is null
      */
-    public boolean isMonthly(Item item) {
-        if (item == null || item.getTimePeriod() == null) return false;
-        int pid = Math.toIntExact(item.getTimePeriod().getId());
+    public boolean isMonthly(LedgerItemView item) {
+        if (item == null || item.timePeriodId() == null) return false;
+        int pid = Math.toIntExact(item.timePeriodId());
         return pid == 6; // monthly = 6
     }
 
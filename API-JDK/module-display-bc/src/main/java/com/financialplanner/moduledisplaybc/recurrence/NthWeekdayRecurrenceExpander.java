@@ -2,7 +2,7 @@ package com.financialplanner.moduledisplaybc.recurrence;
 
 import com.financialplanner.moduledisplaybc.model.ItemDto;
 import com.financialplanner.moduledisplaybc.utility.RecurrenceRange;
-import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -12,27 +12,27 @@ import java.util.function.Function;
 
 public class NthWeekdayRecurrenceExpander {
 
-    private final Function<Item, ItemDto> mapper;
+    private final Function<LedgerItemView, ItemDto> mapper;
 
-    public NthWeekdayRecurrenceExpander(Function<Item, ItemDto> mapper) {
+    public NthWeekdayRecurrenceExpander(Function<LedgerItemView, ItemDto> mapper) {
         this.mapper = mapper;
     }
 
-    public List<ItemDto> expand(List<Item> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
+    public List<ItemDto> expand(List<LedgerItemView> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
         List<ItemDto> expanded = new ArrayList<>();
 
         // Filter items with periodId = 4 (Nth weekday monthly)
-        List<Item> nthItems = items.stream()
+        List<LedgerItemView> nthItems = items.stream()
             .filter(this::isNthWeekday)
             .toList();
 
-        for (Item item : nthItems) {
+        for (LedgerItemView item : nthItems) {
 
             // Default effective range = ledger range
             LocalDate effStart = ledgerStart;
             LocalDate effEnd   = ledgerEnd;
 
-            Boolean req = item.getDateRangeReq();
+            Boolean req = item.dateRangeReq();
             if (req != null && req) {
                 LocalDate[] range = RecurrenceRange.resolveRange(item, ledgerStart, ledgerEnd);
                 if (range == null) continue;
@@ -40,8 +40,8 @@ public class NthWeekdayRecurrenceExpander {
                 effEnd   = range[1];
             }
 
-            Integer dowVal   = item.getNthDow();
-            Integer indexVal = item.getNthIndex();
+            Integer dowVal   = item.nthDow();
+            Integer indexVal = item.nthIndex();
 
             if (dowVal == null || indexVal == null) continue;
 
@@ -59,9 +59,9 @@ public class NthWeekdayRecurrenceExpander {
         return expanded;
     }
 
-    public boolean isNthWeekday(Item item) {
-        if (item == null || item.getTimePeriod() == null) return false;
-        int pid = Math.toIntExact(item.getTimePeriod().getId());
+    public boolean isNthWeekday(LedgerItemView item) {
+        if (item == null || item.timePeriodId() == null) return false;
+        int pid = Math.toIntExact(item.timePeriodId());
         return pid == 10; // Nth-Weekday monthly recurrence
     }
 
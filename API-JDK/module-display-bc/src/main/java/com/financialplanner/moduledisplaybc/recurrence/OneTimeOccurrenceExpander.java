@@ -1,6 +1,6 @@
 package com.financialplanner.moduledisplaybc.recurrence;
 
-import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 import com.financialplanner.moduledisplaybc.model.ItemDto;
 
 import java.time.LocalDate;
@@ -17,9 +17,9 @@ import java.util.function.Function;
  */
 public class OneTimeOccurrenceExpander {
 
-    private final Function<Item, ItemDto> mapper;
+    private final Function<LedgerItemView, ItemDto> mapper;
 
-    public OneTimeOccurrenceExpander(Function<Item, ItemDto> mapper) {
+    public OneTimeOccurrenceExpander(Function<LedgerItemView, ItemDto> mapper) {
         this.mapper = mapper;
     }
 
@@ -34,10 +34,10 @@ public class OneTimeOccurrenceExpander {
      * @return a list of {@code ItemDto} objects representing one-time occurrences
      *         mapped within the specified ledger date range
      */
-    public List<ItemDto> expand(List<Item> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
+    public List<ItemDto> expand(List<LedgerItemView> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
         List<ItemDto> result = new ArrayList<>();
 
-        for (Item item : items) {
+        for (LedgerItemView item : items) {
 
             if (isOneTime(item)) {
                 // skip non one-time items; other expanders will handle them
@@ -48,8 +48,8 @@ public class OneTimeOccurrenceExpander {
             ItemDto dto = mapper.apply(item);
 
             // ensure occurrenceDate comes from beginDate and is within range
-            if (item.getBeginDate() != null) {
-                LocalDate occ = item.getBeginDate();
+            if (item.beginDate() != null) {
+                LocalDate occ = item.beginDate();
                 if (!occ.isBefore(ledgerStart) && !occ.isAfter(ledgerEnd)) {
                     dto.setOccurrenceDate(occ.toString());
                     result.add(dto);
@@ -62,23 +62,23 @@ public class OneTimeOccurrenceExpander {
     }
 
     /**
-     * Determines whether the specified {@code Item} is considered a one-time occurrence.
+     * Determines whether the specified {@code LedgerItemView} is considered a one-time occurrence.
      * An item is treated as one-time based on the associated {@code TimePeriod}'s ID.
      * If the item is {@code null}, it is considered one-time by default.
      * If the {@code TimePeriod} of the item is {@code null}, it is not considered one-time.
      * When the ID of the {@code TimePeriod} is equal to 1, the item is classified as one-time.
      * Otherwise, it is not considered one-time.
      *
-     * @param item the {@code Item} to evaluate; can be {@code null}
-     * @return {@code true} if the given {@code Item} is a one-time occurrence; {@code false} otherwise
+     * @param item the {@code LedgerItemView} to evaluate; can be {@code null}
+     * @return {@code true} if the given {@code LedgerItemView} is a one-time occurrence; {@code false} otherwise
      */
-    public boolean isOneTime(Item item) {
+    public boolean isOneTime(LedgerItemView item) {
         if (item == null) return true;
 
         // Treat missing TimePeriod as one-time (preserves previous behavior)
-        if (item.getTimePeriod() == null) return false;
+        if (item.timePeriodId() == null) return false;
 
-        int pid = Math.toIntExact(item.getTimePeriod().getId());
+        int pid = Math.toIntExact(item.timePeriodId());
         // Domain rule: id == 1 => one-time
         return pid != 1;
     }
@@ -2,7 +2,7 @@ package com.financialplanner.moduledisplaybc.recurrence;
 
 import com.financialplanner.moduledisplaybc.model.ItemDto;
 import com.financialplanner.moduledisplaybc.utility.RecurrenceRange;
-import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -18,9 +18,9 @@ import java.util.function.Function;
  */
 public class QuarterlyRecurrenceExpander {
 
-    private final Function<Item, ItemDto> mapper;
+    private final Function<LedgerItemView, ItemDto> mapper;
 
-    public QuarterlyRecurrenceExpander(Function<Item, ItemDto> mapper) {
+    public QuarterlyRecurrenceExpander(Function<LedgerItemView, ItemDto> mapper) {
         this.mapper = mapper;
     }
 
@@ -34,22 +34,22 @@ public class QuarterlyRecurrenceExpander {
      * @param ledgerEnd the end date of the ledger range
      * @return a list of {@code ItemDto} objects representing the expanded items with their occurrences
      */
-    public List<ItemDto> expand(List<Item> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
+    public List<ItemDto> expand(List<LedgerItemView> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
         List<ItemDto> expanded = new ArrayList<>();
 
         // Filter quarterly items first (periodId = 7)
-        List<Item> quarterlyItems = items.stream()
+        List<LedgerItemView> quarterlyItems = items.stream()
             .filter(this::isQuarterly)
             .toList();
 
-        for (Item item : quarterlyItems) {
+        for (LedgerItemView item : quarterlyItems) {
 
             // Default effective range = ledger range
             LocalDate effStart = ledgerStart;
             LocalDate effEnd   = ledgerEnd;
 
             // Only call resolveRange() when DateRangeReq == true
-            Boolean req = item.getDateRangeReq();
+            Boolean req = item.dateRangeReq();
             if (req != null && req) {
                 LocalDate[] range = RecurrenceRange.resolveRange(item, ledgerStart, ledgerEnd);
 
@@ -64,17 +64,17 @@ public class QuarterlyRecurrenceExpander {
 
             // Extract quarterly anchors
             Integer[] months = {
-                item.getQuarterly1Month(),
-                item.getQuarterly2Month(),
-                item.getQuarterly3Month(),
-                item.getQuarterly4Month()
+                item.quarterly1Month(),
+                item.quarterly2Month(),
+                item.quarterly3Month(),
+                item.quarterly4Month()
             };
 
             Integer[] days = {
-                item.getQuarterly1Day(),
-                item.getQuarterly2Day(),
-                item.getQuarterly3Day(),
-                item.getQuarterly4Day()
+                item.quarterly1Day(),
+                item.quarterly2Day(),
+                item.quarterly3Day(),
+                item.quarterly4Day()
             };
 
             // Compute quarterly dates using the effective range
@@ -96,9 +96,9 @@ public class QuarterlyRecurrenceExpander {
      * @param item the item to be checked; must not be null and must have a time period associated with it for the method to return true.
      * @return true if the item's time period ID is 7 (quarterly), false otherwise or if the item or its time period is null.
      */
-    public boolean isQuarterly(Item item) {
-        if (item == null || item.getTimePeriod() == null) return false;
-        int pid = Math.toIntExact(item.getTimePeriod().getId());
+    public boolean isQuarterly(LedgerItemView item) {
+        if (item == null || item.timePeriodId() == null) return false;
+        int pid = Math.toIntExact(item.timePeriodId());
         return pid == 7; // quarterly = 7
     }
 
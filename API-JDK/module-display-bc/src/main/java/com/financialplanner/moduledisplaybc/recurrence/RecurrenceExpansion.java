@@ -0,0 +1,164 @@
+package com.financialplanner.moduledisplaybc.recurrence;
+
+import com.financialplanner.moduledisplaybc.model.ItemDto;
+import com.financialplanner.moduleitemsbc.application.cache.ReferenceDataCache;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the recurrence expanders over a user's items in a fixed order: one-time, daily, weekly, bi-weekly,
+ * bi-monthly, monthly, quarterly, semi-annual, annual, nth-weekday. That order equals the time period ids
+ * 1 to 10 and, after a stable sort by date, decides the order of occurrences within a day.
+ * Shared by the ledger readout and the materialized occurrence table so both expand items identically.
+ * The item type and time period names of each occurrence are looked up in the {@link ReferenceDataCache}
+ * snapshots, since the ledger projection only carries their ids; building a ledger never reads the reference
+ * tables.
+ */
+@Component
+public class RecurrenceExpansion {
+
+    private static final int PERIOD_COUNT = 10;
+
+    private final OneTimeOccurrenceExpander oneTimeExpander;
+    private final DailyRecurrenceExpander dailyExpander;
+    private final WeeklyRecurrenceExpander weeklyExpander;
+    private final BiWeeklyRecurrenceExpander biWeeklyExpander;
+    private final BiMonthlyRecurrenceExpander biMonthlyExpander;
+    private final MonthlyRecurrenceExpander monthlyExpander;
+    private final QuarterlyRecurrenceExpander quarterlyExpander;
+    private final SemiAnnualRecurrenceExpander semiAnnualExpander;
+    private final AnnualRecurrenceExpander annualExpander;
+    private final NthWeekdayRecurrenceExpander nthWeekdayExpander;
+    private final ReferenceDataCache referenceData;
+
+    public RecurrenceExpansion(ReferenceDataCache referenceData) {
+        this.referenceData = referenceData;
+        this.oneTimeExpander = new OneTimeOccurrenceExpander(this::toDto);
+        this.dailyExpander = new DailyRecurrenceExpander(this::toDto);
+        this.weeklyExpander = new WeeklyRecurrenceExpander(this::toDto);
+        this.biWeeklyExpander = new BiWeeklyRecurrenceExpander(this::toDto);
+        this.biMonthlyExpander = new BiMonthlyRecurrenceExpander(this::toDto);
+        this.monthlyExpander = new MonthlyRecurrenceExpander(this::toDto);
+        this.quarterlyExpander = new QuarterlyRecurrenceExpander(this::toDto);
+        this.semiAnnualExpander = new SemiAnnualRecurrenceExpander(this::toDto);
+        this.annualExpander = new AnnualRecurrenceExpander(this::toDto);
+        this.nthWeekdayExpander = new NthWeekdayRecurrenceExpander(this::toDto);
+    }
+
+    /**
+     * Runs every recurrence expander over the user's items and combines their occurrences.
+     * The initial amount item (ItemType 3) is excluded, since it only seeds the running total.
+     *
+     * @param userItems the items belonging to the user
+     * @param start     the first day of the ledger (inclusive)
+     * @param end       the last day of the ledger (inclusive)
+     * @return all occurrences falling within the ledger range, in expander order
+     */
+    public List<ItemDto> expand(List<LedgerItemView> userItems, LocalDate start, LocalDate end) {
+        // remove initial amount from further processing
+        List<LedgerItemView> items = withoutInitialAmount(userItems);
+
+        // Each expander evaluates ALL items and expands only its own period.
+        // Non-matching items are ignored inside the expander.
+        List<ItemDto> itemDtos = new ArrayList<>();
+        itemDtos.addAll(oneTimeExpander.expand(items, start, end));
+        itemDtos.addAll(dailyExpander.expand(items, start, end));
+        itemDtos.addAll(weeklyExpander.expand(items, start, end));
+        itemDtos.addAll(biWeeklyExpander.expand(items, start, end));
+        itemDtos.addAll(biMonthlyExpander.expand(items, start, end));
+        itemDtos.addAll(monthlyExpander.expand(items, start, end));
+        itemDtos.addAll(quarterlyExpander.expand(items, start, end));
+        itemDtos.addAll(semiAnnualExpander.expand(items, start, end));
+        itemDtos.addAll(annualExpander.expand(items, start, end));
+        itemDtos.addAll(nthWeekdayExpander.expand(items, start, end));
+        return itemDtos;
+    }
+
+    /**
+     * Builds the same occurrences as {@link #expand} from pre-expanded occurrence dates, without running the
+     * expanders. Every expander yields the same dates for a day whatever window it expands, so stored dates
+     * can be reused for any window inside the one they were expanded for.
+     *
+     * @param userItems the items belonging to the user
+     * @param stored    the stored occurrence dates in the ledger range, by item id
+     * @return all occurrences falling within the ledger range, in expander order
+     */
+    public List<ItemDto> expand(List<LedgerItemView> userItems, Map<Long, List<LocalDate>> stored) {
+        List<LedgerItemView> items = withoutInitialAmount(userItems);
+
+        List<ItemDto> itemDtos = new ArrayList<>();
+        for (long periodId = 1; periodId <= PERIOD_COUNT; periodId++) {
+            for (LedgerItemView item : items) {
+                if (expanderPeriodId(item) != periodId) {
+                    continue;
+                }
+                for (LocalDate date : stored.getOrDefault(item.id(), List.of())) {
+                    ItemDto dto = toDto(item);
+                    dto.setOccurrenceDate(date.toString());
+                    itemDtos.add(dto);
+                }
+            }
+        }
+        return itemDtos;
+    }
+
+    /**
+     * Maps a {@code LedgerItemView} projection to an {@code ItemDto} object.
+     *
+     * @param i the {@code LedgerItemView} to be mapped, which contains the data to transform.
+     *          If any field in the {@code LedgerItemView} is null, a fallback or default value
+     *          will be applied during the mapping process.
+     * @return an {@code ItemDto} object containing the mapped data such as the item key,
+     *         type, name, signed amount, occurrence date, and period.
+     */
+    public ItemDto toDto(LedgerItemView i) {
+        ItemDto dto = new ItemDto();
+
+        // Extract itemType once
+        int itemType = Math.toIntExact((i.itemTypeId() != null ? i.itemTypeId() : 0));
+
+        // Raw amount (null-safe)
+        double rawAmount = (i.amount() != null ? i.amount() : 0.0);
+
+        // Apply sign based on itemType
+        double signedAmount = switch (itemType) {
+            case 1 -> rawAmount;        // CREDIT → positive
+            case 2 -> -rawAmount;       // DEBIT → negative
+            case 3 -> rawAmount;        // INITIAL AMOUNT → positive
+            default -> rawAmount;       // fallback
+        };
+
+        dto.setItemKey(Math.toIntExact(i.id()));
+        dto.setFkItemType(itemType);
+        dto.setItemType(referenceData.itemTypeName(i.itemTypeId()));
+        dto.setName(i.name());
+        dto.setAmount(signedAmount);
+
+        dto.setOccurrenceDate(i.beginDate() != null ? i.beginDate().toString() : null);
+
+        dto.setPeriod(referenceData.timePeriodName(i.timePeriodId()));
+
+        return dto;
+    }
+
+    /**
+     * Returns the time period id of the expander that handles the item; items without a period are
+     * expanded as one-time occurrences, and 0 means no expander handles the item.
+     */
+    private static long expanderPeriodId(LedgerItemView item) {
+        Long periodId = item.timePeriodId();
+        if (periodId == null) {
+            return 1;
+        }
+        return periodId >= 1 && periodId <= PERIOD_COUNT ? periodId : 0;
+    }
+
+    private static List<LedgerItemView> withoutInitialAmount(List<LedgerItemView> userItems) {
+        return userItems.stream().filter(i -> i.itemTypeId() == null || i.itemTypeId() != 3).toList();
+    }
+}
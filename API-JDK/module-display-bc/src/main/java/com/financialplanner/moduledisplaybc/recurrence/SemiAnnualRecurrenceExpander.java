@@ -2,7 +2,7 @@ package com.financialplanner.moduledisplaybc.recurrence;
 
 import com.financialplanner.moduledisplaybc.model.ItemDto;
 import com.financialplanner.moduledisplaybc.utility.RecurrenceRange;
-import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -22,9 +22,9 @@ import java.util.function.Function;
  */
 public class SemiAnnualRecurrenceExpander {
 
-    private final Function<Item, ItemDto> mapper;
+    private final Function<LedgerItemView, ItemDto> mapper;
 
-    public SemiAnnualRecurrenceExpander(Function<Item, ItemDto> mapper) {
+    public SemiAnnualRecurrenceExpander(Function<LedgerItemView, ItemDto> mapper) {
         this.mapper = mapper;
     }
 
@@ -33,27 +33,27 @@ public class SemiAnnualRecurrenceExpander {
      * Filters and processes semi-annual items, resolves their effective date ranges, and computes their
      * semi-annual occurrence dates. Returns a list of corresponding DTOs for the computed occurrences.
      *
-     * @param items the list of {@link Item} objects to be expanded
+     * @param items the list of {@link LedgerItemView} objects to be expanded
      * @param ledgerStart the start date of the ledger range
      * @param ledgerEnd the end date of the ledger range
      * @return a list of {@link ItemDto} objects corresponding to the computed semi-annual occurrences
      */
-    public List<ItemDto> expand(List<Item> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
+    public List<ItemDto> expand(List<LedgerItemView> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
         List<ItemDto> expanded = new ArrayList<>();
 
         // Filter semi-annual items first (periodId = 8)
-        List<Item> semiAnnualItems = items.stream()
+        List<LedgerItemView> semiAnnualItems = items.stream()
             .filter(this::isSemiAnnual)
             .toList();
 
-        for (Item item : semiAnnualItems) {
+        for (LedgerItemView item : semiAnnualItems) {
 
             // Default effective range = ledger range
             LocalDate effStart = ledgerStart;
             LocalDate effEnd   = ledgerEnd;
 
             // Only call resolveRange() when DateRangeReq == true
-            Boolean req = item.getDateRangeReq();
+            Boolean req = item.dateRangeReq();
             if (req != null && req) {
                 LocalDate[] range = RecurrenceRange.resolveRange(item, ledgerStart, ledgerEnd);
 
@@ -68,13 +68,13 @@ public class SemiAnnualRecurrenceExpander {
 
             // Extract semi-annual anchors
             Integer[] months = {
-                item.getSemiAnnual1Month(),
-                item.getSemiAnnual2Month()
+                item.semiAnnual1Month(),
+                item.semiAnnual2Month()
             };
 
             Integer[] days = {
-                item.getSemiAnnual1Day(),
-                item.getSemiAnnual2Day()
+                item.semiAnnual1Day(),
+                item.semiAnnual2Day()
             };
 
             // Compute semi-annual dates using the effective range
@@ -97,9 +97,9 @@ public class SemiAnnualRecurrenceExpander {
      * @return {@code true} if the item's time period corresponds to semi-annual (ID = 8),
      *         otherwise {@code false}.
      */
-    public boolean isSemiAnnual(Item item) {
-        if (item == null || item.getTimePeriod() == null) return false;
-        int pid = Math.toIntExact(item.getTimePeriod().getId());
+    public boolean isSemiAnnual(LedgerItemView item) {
+        if (item == null || item.timePeriodId() == null) return false;
+        int pid = Math.toIntExact(item.timePeriodId());
         return pid == 8; // semi-annual = 8
     }
 
@@ -2,7 +2,7 @@ package com.financialplanner.moduledisplaybc.recurrence;
 
 import com.financialplanner.moduledisplaybc.model.ItemDto;
 import com.financialplanner.moduledisplaybc.utility.RecurrenceRange;
-import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -11,20 +11,20 @@ import java.util.List;
 import java.util.function.Function;
 
 /**
- * The {@code WeeklyRecurrenceExpander} class is responsible for expanding a list of {@link Item}
+ * The {@code WeeklyRecurrenceExpander} class is responsible for expanding a list of {@link LedgerItemView}
  * objects into a list of {@link ItemDto} objects by generating recurring weekly dates within a
  * specified ledger range. Only items with a weekly recurrence type are considered for expansion.
  */
 public class WeeklyRecurrenceExpander {
 
-    private final Function<Item, ItemDto> mapper;
+    private final Function<LedgerItemView, ItemDto> mapper;
 
-    public WeeklyRecurrenceExpander(Function<Item, ItemDto> mapper) {
+    public WeeklyRecurrenceExpander(Function<LedgerItemView, ItemDto> mapper) {
         this.mapper = mapper;
     }
 
     /**
-     * Expands a list of {@link Item} objects into a list of {@link ItemDto} objects by generating
+     * Expands a list of {@link LedgerItemView} objects into a list of {@link ItemDto} objects by generating
      * recurring weekly dates within a specified ledger range. During expansion, only items with
      * a weekly recurrence type are processed, and their effective date range is resolved based
      * on the input ledger range and the item's data requirements.
@@ -38,22 +38,22 @@ public class WeeklyRecurrenceExpander {
      * @return a list of {@link ItemDto} objects representing the expanded items with their
      *         weekly recurrence dates calculated and set.
      */
-    public List<ItemDto> expand(List<Item> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
+    public List<ItemDto> expand(List<LedgerItemView> items, LocalDate ledgerStart, LocalDate ledgerEnd) {
         List<ItemDto> expanded = new ArrayList<>();
 
         // Filter weekly items first (periodId = 3)
-        List<Item> weeklyItems = items.stream()
+        List<LedgerItemView> weeklyItems = items.stream()
             .filter(this::isWeekly)
             .toList();
 
-        for (Item item : weeklyItems) {
+        for (LedgerItemView item : weeklyItems) {
 
             // Default effective range = ledger range
             LocalDate effStart = ledgerStart;
             LocalDate effEnd   = ledgerEnd;
 
             // Only call resolveRange() when DateRangeReq == true
-            Boolean req = item.getDateRangeReq();
+            Boolean req = item.dateRangeReq();
             if (req != null && req) {
                 LocalDate[] range = RecurrenceRange.resolveRange(item, ledgerStart, ledgerEnd);
 
@@ -66,7 +66,7 @@ public class WeeklyRecurrenceExpander {
                 effEnd   = range[1];
             }
 
-            Integer weeklyDow = item.getWeeklyDow();
+            Integer weeklyDow = item.weeklyDow();
             if (weeklyDow == null) {
                 // Missing data → skip weekly expansion
                 continue;
@@ -94,9 +94,9 @@ public class WeeklyRecurrenceExpander {
      * @param item the item to be checked for a weekly time period, may be null
      * @return true if the item's time period is weekly (period ID is 3), false otherwise or if the item or its time period is null
      */
-    public boolean isWeekly(Item item) {
-        if (item == null || item.getTimePeriod() == null) return false;
-        int pid = Math.toIntExact(item.getTimePeriod().getId());
+    public boolean isWeekly(LedgerItemView item) {
+        if (item == null || item.timePeriodId() == null) return false;
+        int pid = Math.toIntExact(item.timePeriodId());
         return pid == 3;
     }
 
@@ -0,0 +1,21 @@
+package com.financialplanner.moduledisplaybc.service;
+
+import com.financialplanner.moduledisplaybc.model.MonthlyTotal;
+import com.financialplanner.moduleitemsbc.domain.event.ItemChanged;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service interface for the materialized table of pre-expanded item occurrences over a rolling horizon.
+ * The table is maintained incrementally from item change events and rolled forward once a day.
+ */
+public interface ItemOccurrenceService {
+    void applyChanges(List<ItemChanged> changes);
+    void rollHorizon();
+    Optional<Map<Long, List<LocalDate>>> findOccurrenceDates(UUID userId, LocalDate start, LocalDate end);
+    Optional<List<MonthlyTotal>> findMonthlyTotals(UUID userId, LocalDate start, LocalDate end);
+}
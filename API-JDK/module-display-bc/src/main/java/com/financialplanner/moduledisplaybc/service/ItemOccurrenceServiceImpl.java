@@ -0,0 +1,189 @@
+package com.financialplanner.moduledisplaybc.service;
+
+import com.financialplanner.modulecommonbc.sharding.ShardContext;
+import com.financialplanner.modulecommonbc.sharding.ShardRouter;
+import com.financialplanner.moduledisplaybc.config.LedgerOccurrenceProperties;
+import com.financialplanner.moduledisplaybc.model.ItemDto;
+import com.financialplanner.moduledisplaybc.model.ItemOccurrence;
+import com.financialplanner.moduledisplaybc.model.MonthlyTotal;
+import com.financialplanner.moduledisplaybc.model.OccurrenceHorizon;
+import com.financialplanner.moduledisplaybc.persistence.ItemOccurrenceRepository;
+import com.financialplanner.moduledisplaybc.recurrence.RecurrenceExpansion;
+import com.financialplanner.moduleitemsbc.domain.event.ItemChanged;
+import com.financialplanner.moduleitemsbc.domain.service.ItemService;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Service implementation that keeps {@code item_occurrences} in step with the items table.
+ * Rows are produced by the same {@link RecurrenceExpansion} as the ledger, so the stored occurrences of any
+ * window inside the horizon equal what the ledger would expand for it.
+ * Item changes replace the rows of the changed items; the daily roll drops days that left the horizon and
+ * expands only the newly added days. Every write holds the repository lock for its transaction.
+ * The table trails item writes by the event delivery delay, so readers see it eventually consistent.
+ * Every shard holds the occurrences and horizon of its own users; writers run on the shard the caller routed
+ * them to, and readers route to the shard of the user they read.
+ */
+@Service
+public class ItemOccurrenceServiceImpl implements ItemOccurrenceService {
+
+    private final ItemService itemService;
+    private final RecurrenceExpansion expansion;
+    private final ItemOccurrenceRepository repo;
+    private final LedgerOccurrenceProperties properties;
+    private final ShardRouter shardRouter;
+
+    public ItemOccurrenceServiceImpl(ItemService itemService, RecurrenceExpansion expansion,
+                                     ItemOccurrenceRepository repo, LedgerOccurrenceProperties properties,
+                                     ShardRouter shardRouter) {
+        this.itemService = itemService;
+        this.expansion = expansion;
+        this.repo = repo;
+        this.properties = properties;
+        this.shardRouter = shardRouter;
+    }
+
+    /**
+     * Replaces the stored occurrences of the changed items with a fresh expansion over the current horizon.
+     * Does nothing while the table is disabled or has not been built yet.
+     *
+     * @param changes the committed item changes
+     */
+    @Override
+    @Transactional
+    public void applyChanges(List<ItemChanged> changes) {
+        if (!properties.isEnabled() || changes.isEmpty()) {
+            return;
+        }
+        repo.lock();
+        Optional<OccurrenceHorizon> horizon = repo.findHorizon();
+        if (horizon.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, Set<Long>> changedByUser = new LinkedHashMap<>();
+        Set<Long> changedIds = new HashSet<>();
+        for (ItemChanged change : changes) {
+            changedIds.add(change.itemId());
+            if (change.userId() != null) {
+                changedByUser.computeIfAbsent(change.userId(), u -> new HashSet<>()).add(change.itemId());
+            }
+        }
+        repo.deleteByItemIds(changedIds);
+
+        LocalDate start = horizon.get().start();
+        LocalDate end = horizon.get().end();
+        List<ItemOccurrence> rows = new ArrayList<>();
+        changedByUser.forEach((userId, ids) -> {
+            List<LedgerItemView> items = itemService.findLedgerItemsByUserIdInRange(userId, start, end)
+                                                    .stream()
+                                                    .filter(i -> ids.contains(i.id()))
+                                                    .toList();
+            rows.addAll(materialize(userId, items, start, end));
+        });
+        repo.insertAll(rows);
+    }
+
+    /**
+     * Moves the horizon to {@code lookbackDays} before today through {@code horizonDays} after it.
+     * The table is rebuilt from scratch when it has never been built or the new window does not overlap
+     * the old one from its start; otherwise only the days entering the window are expanded.
+     */
+    @Override
+    @Transactional
+    public void rollHorizon() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        repo.lock();
+        LocalDate today = LocalDate.now();
+        OccurrenceHorizon target = new OccurrenceHorizon(today.minusDays(properties.getLookbackDays()),
+                                                         today.plusDays(properties.getHorizonDays()));
+        OccurrenceHorizon current = repo.findHorizon().orElse(null);
+
+        if (current == null || target.start().isBefore(current.start()) || target.start().isAfter(current.end())) {
+            repo.deleteAll();
+            expandAllUsers(target.start(), target.end());
+        } else {
+            repo.deleteBefore(target.start());
+            if (target.end().isAfter(current.end())) {
+                expandAllUsers(current.end().plusDays(1), target.end());
+            } else {
+                repo.deleteAfter(target.end());
+            }
+        }
+        repo.saveHorizon(target);
+    }
+
+    /**
+     * Returns the user's stored occurrence dates in the window by item id, or empty when reading is disabled
+     * or the window is not fully inside the materialized horizon.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Map<Long, List<LocalDate>>> findOccurrenceDates(UUID userId, LocalDate start, LocalDate end) {
+        try (ShardContext.Scope shard = shardRouter.forUser(userId)) {
+            if (!covers(start, end)) {
+                return Optional.empty();
+            }
+            return Optional.of(repo.findDates(userId, start, end));
+        }
+    }
+
+    /**
+     * Returns the user's credit and debit totals per calendar month of the window, or empty when reading is
+     * disabled or the window is not fully inside the materialized horizon.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<List<MonthlyTotal>> findMonthlyTotals(UUID userId, LocalDate start, LocalDate end) {
+        try (ShardContext.Scope shard = shardRouter.forUser(userId)) {
+            if (!covers(start, end)) {
+                return Optional.empty();
+            }
+            return Optional.of(repo.findMonthlyTotals(userId, start, end));
+        }
+    }
+
+    private boolean covers(LocalDate start, LocalDate end) {
+        if (!properties.isEnabled() || !properties.isReadEnabled()) {
+            return false;
+        }
+        return repo.findHorizon()
+                   .map(h -> h.covers(start, end))
+                   .orElse(false);
+    }
+
+    private void expandAllUsers(LocalDate start, LocalDate end) {
+        for (UUID userId : itemService.findUserIds()) {
+            List<LedgerItemView> items = itemService.findLedgerItemsByUserIdInRange(userId, start, end);
+            repo.insertAll(materialize(userId, items, start, end));
+        }
+    }
+
+    /**
+     * Expands each item over the window into storable rows, numbering repeated occurrences of an item
+     * on the same day.
+     */
+    private List<ItemOccurrence> materialize(UUID userId, List<LedgerItemView> items, LocalDate start,
+                                             LocalDate end) {
+        List<ItemOccurrence> rows = new ArrayList<>();
+        for (LedgerItemView item : items) {
+            Map<LocalDate, Integer> seqByDate = new HashMap<>();
+            for (ItemDto dto : expansion.expand(List.of(item), start, end)) {
+                if (dto.getOccurrenceDate() == null) {
+                    continue;
+                }
+                LocalDate date = LocalDate.parse(dto.getOccurrenceDate());
+                int seq = seqByDate.merge(date, 1, Integer::sum) - 1;
+                rows.add(new ItemOccurrence(userId, date, item.id(), seq, dto.getFkItemType(),
+                                            dto.getAmount() != null ? dto.getAmount() : 0.0));
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,16 @@
+package com.financialplanner.moduledisplaybc.service;
+
+import com.financialplanner.moduledisplaybc.model.LedgerDto;
+
+import java.util.List;
+
+/**
+ * Receives a progressively computed ledger in month-sized batches. Callbacks are invoked on a
+ * background worker thread, in date order, followed by exactly one of {@link #onComplete()} or
+ * {@link #onError(Throwable)}. Throwing from {@link #onBatch(List)} stops the computation.
+ */
+public interface LedgerBatchListener {
+    void onBatch(List<LedgerDto> batch);
+    void onComplete();
+    void onError(Throwable error);
+}
@@ -0,0 +1,17 @@
+package com.financialplanner.moduledisplaybc.service;
+
+import com.financialplanner.moduledisplaybc.model.Ledger;
+import com.financialplanner.moduledisplaybc.model.LedgerRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+/**
+ * Service interface for exporting a ledger readout in a flat, file-friendly format.
+ * Exports are written incrementally to the supplied stream rather than returned as a list.
+ */
+public interface LedgerExportService {
+    void exportCsv(LedgerRequest request, OutputStream out) throws IOException;
+    void forEachSanitizedRow(LedgerRequest request, Consumer<Ledger> sink);
+}
@@ -0,0 +1,91 @@
+package com.financialplanner.moduledisplaybc.service;
+
+import com.financialplanner.modulecommonbc.sanitizer.Sanitizer;
+import com.financialplanner.moduledisplaybc.export.LedgerCsvWriter;
+import com.financialplanner.moduledisplaybc.model.Ledger;
+import com.financialplanner.moduledisplaybc.model.LedgerRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Service implementation that streams a ledger as CSV, or hands its sanitized rows to another writer.
+ * Rows come from {@link LedgerReadoutService#forEachLedgerRow} and are written as they are produced, so the
+ * export never holds the {@code LedgerDto} table in memory.
+ * Text columns are passed through the {@link Sanitizer} the same way the JSON readout is; because a
+ * ledger repeats the same few item names on every occurrence, sanitized values are memoized per export.
+ */
+@Service
+public class LedgerExportServiceImpl implements LedgerExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final LedgerReadoutService ledgerReadoutService;
+    private final Sanitizer sanitizer;
+
+    public LedgerExportServiceImpl(LedgerReadoutService ledgerReadoutService, Sanitizer sanitizer) {
+        this.ledgerReadoutService = ledgerReadoutService;
+        this.sanitizer            = sanitizer;
+    }
+
+    /**
+     * Writes the ledger described by the request to the given stream as UTF-8 CSV, header first.
+     * The stream is flushed but not closed.
+     *
+     * @param request the {@link LedgerRequest} containing the user ID, start date, and end date
+     * @param out     the destination stream
+     * @throws IOException if writing to the stream fails
+     */
+    @Override
+    public void exportCsv(LedgerRequest request, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        LedgerCsvWriter csv = new LedgerCsvWriter(writer);
+
+        csv.writeHeader();
+        try {
+            forEachSanitizedRow(request, row -> {
+                try {
+                    csv.writeRow(row);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Hands each flat ledger row to the sink in date order, with its text columns sanitized.
+     *
+     * @param request the {@link LedgerRequest} containing the user ID, start date, and end date
+     * @param sink    the consumer receiving each sanitized row
+     */
+    @Override
+    public void forEachSanitizedRow(LedgerRequest request, Consumer<Ledger> sink) {
+        Map<String, String> sanitized = new HashMap<>();
+        ledgerReadoutService.forEachLedgerRow(request, row -> {
+            row.setName(sanitize(row.getName(), sanitized));
+            row.setItemType(sanitize(row.getItemType(), sanitized));
+            row.setPeriodName(sanitize(row.getPeriodName(), sanitized));
+            sink.accept(row);
+        });
+    }
+
+    private String sanitize(String value, Map<String, String> sanitized) {
+        if (value == null) {
+            return null;
+        }
+        return sanitized.computeIfAbsent(value, sanitizer::sanitizeString);
+    }
+}
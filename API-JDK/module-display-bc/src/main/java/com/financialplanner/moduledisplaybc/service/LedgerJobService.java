@@ -0,0 +1,18 @@
+package com.financialplanner.moduledisplaybc.service;
+
+import com.financialplanner.moduledisplaybc.model.LedgerDto;
+import com.financialplanner.moduledisplaybc.model.LedgerJob;
+import com.financialplanner.moduledisplaybc.model.LedgerRequest;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service interface for building ledgers in the background. Long projections are submitted as jobs,
+ * polled for status and progress, and their results collected once complete.
+ */
+public interface LedgerJobService {
+    LedgerJob submit(LedgerRequest request);
+    LedgerJob getJob(String jobId);
+    Optional<List<LedgerDto>> getResult(String jobId);
+}
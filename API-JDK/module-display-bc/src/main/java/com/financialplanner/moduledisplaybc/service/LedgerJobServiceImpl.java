@@ -0,0 +1,182 @@
+package com.financialplanner.moduledisplaybc.service;
+
+import com.financialplanner.modulecommonbc.exception.DomainValidationException;
+import com.financialplanner.modulecommonbc.exception.ItemNotFoundException;
+import com.financialplanner.modulecommonbc.exception.ServiceUnavailableException;
+import com.financialplanner.modulecommonbc.logging.ErrorLogger;
+import com.financialplanner.moduledisplaybc.config.LedgerJobProperties;
+import com.financialplanner.moduledisplaybc.model.LedgerDto;
+import com.financialplanner.moduledisplaybc.model.LedgerJob;
+import com.financialplanner.moduledisplaybc.model.LedgerJobStatus;
+import com.financialplanner.moduledisplaybc.model.LedgerRequest;
+import com.financialplanner.moduledisplaybc.utility.DaemonThreadFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service implementation that builds ledgers on a bounded background executor so long horizons
+ * do not hold servlet threads. Jobs beyond the worker and queue limits are rejected with a
+ * {@link ServiceUnavailableException} instead of piling up. Job state and results are kept in a
+ * bounded, least-recently-used store and expire after the configured TTL once finished.
+ */
+@Service
+public class LedgerJobServiceImpl implements LedgerJobService {
+
+    private final LedgerReadoutService ledgerReadoutService;
+    private final LedgerJobProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, JobState> jobs;
+
+    public LedgerJobServiceImpl(LedgerReadoutService ledgerReadoutService, LedgerJobProperties properties) {
+        this.ledgerReadoutService = ledgerReadoutService;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(properties.getWorkerThreads(), properties.getWorkerThreads(),
+                                               0L, TimeUnit.MILLISECONDS,
+                                               new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                                               new DaemonThreadFactory("ledger-job-"),
+                                               new ThreadPoolExecutor.AbortPolicy());
+
+        int maxRetained = properties.getMaxRetainedJobs();
+        this.jobs = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JobState> eldest) {
+                return size() > maxRetained;
+            }
+        });
+    }
+
+    /**
+     * Queues a ledger build for background execution.
+     *
+     * @param request the {@link LedgerRequest} containing the user ID, start date, and end date
+     * @return a snapshot of the newly queued job
+     * @throws DomainValidationException   if the request is missing the user or a valid date range
+     * @throws ServiceUnavailableException if the job queue is full
+     */
+    @Override
+    public LedgerJob submit(LedgerRequest request) {
+        if (request.userId() == null || request.ledgerStartDate() == null || request.ledgerEndDate() == null) {
+            throw new DomainValidationException("Ledger job requires a user ID, start date and end date");
+        }
+        if (request.ledgerEndDate().isBefore(request.ledgerStartDate())) {
+            throw new DomainValidationException("Ledger end date must not be before the start date");
+        }
+
+        purgeExpired();
+
+        JobState state = new JobState(UUID.randomUUID().toString(), request);
+        jobs.put(state.jobId, state);
+        try {
+            executor.execute(() -> run(state));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(state.jobId);
+            throw new ServiceUnavailableException("Ledger job queue is full, retry later");
+        }
+        return state.snapshot();
+    }
+
+    /**
+     * Returns the current status and progress of a job.
+     *
+     * @param jobId the job identifier returned by {@link #submit}
+     * @return a snapshot of the job
+     * @throws ItemNotFoundException if the job is unknown or has expired
+     */
+    @Override
+    public LedgerJob getJob(String jobId) {
+        return find(jobId).snapshot();
+    }
+
+    /**
+     * Returns the computed ledger of a completed job.
+     *
+     * @param jobId the job identifier returned by {@link #submit}
+     * @return the ledger, or empty if the job has not completed successfully
+     * @throws ItemNotFoundException if the job is unknown or has expired
+     */
+    @Override
+    public Optional<List<LedgerDto>> getResult(String jobId) {
+        JobState state = find(jobId);
+        return state.status == LedgerJobStatus.COMPLETED ? Optional.of(state.result) : Optional.empty();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(JobState state) {
+        state.startedAt = Instant.now();
+        state.status = LedgerJobStatus.RUNNING;
+        try {
+            state.result = ledgerReadoutService.buildLedgerReadout(state.request, percent -> state.progress = percent);
+            state.progress = 100;
+            state.status = LedgerJobStatus.COMPLETED;
+        } catch (RuntimeException ex) {
+            String correlationId = ErrorLogger.logException(ex);
+            state.message = "Ledger job failed, correlation ID " + correlationId;
+            state.status = LedgerJobStatus.FAILED;
+        } finally {
+            state.finishedAt = Instant.now();
+        }
+    }
+
+    private JobState find(String jobId) {
+        purgeExpired();
+        JobState state = jobs.get(jobId);
+        if (state == null) {
+            throw new ItemNotFoundException("Ledger job not found: " + jobId);
+        }
+        return state;
+    }
+
+    /**
+     * Drops finished jobs whose results have outlived the configured TTL.
+     */
+    private void purgeExpired() {
+        Instant cutoff = Instant.now().minusMillis(properties.getResultTtlMs());
+        synchronized (jobs) {
+            jobs.values().removeIf(s -> s.finishedAt != null && s.finishedAt.isBefore(cutoff));
+        }
+    }
+
+    /**
+     * Mutable job state shared between the submitting thread, the worker and pollers.
+     */
+    private static final class JobState {
+        private final String jobId;
+        private final LedgerRequest request;
+        private final Instant submittedAt = Instant.now();
+        private volatile LedgerJobStatus status = LedgerJobStatus.QUEUED;
+        private volatile int progress;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile String message;
+        private volatile List<LedgerDto> result;
+
+        private JobState(String jobId, LedgerRequest request) {
+            this.jobId = jobId;
+            this.request = request;
+        }
+
+        private LedgerJob snapshot() {
+            LedgerJob job = new LedgerJob();
+            job.setJobId(jobId);
+            job.setUserId(request.userId());
+            job.setStatus(status);
+            job.setProgress(progress);
+            job.setSubmittedAt(submittedAt);
+            job.setStartedAt(startedAt);
+            job.setFinishedAt(finishedAt);
+            job.setMessage(message);
+            return job;
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package com.financialplanner.moduledisplaybc.service;
 
+import com.financialplanner.moduledisplaybc.model.Ledger;
 import com.financialplanner.moduledisplaybc.model.LedgerDto;
 import com.financialplanner.moduledisplaybc.model.LedgerRequest;
+import com.financialplanner.moduledisplaybc.model.MonthlyTotal;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.Stream;
 
 /**
  * Service interface for generating a ledger readout based on a user's financial data.
@@ -12,4 +17,9 @@ import java.util.List;
  */
 public interface LedgerReadoutService {
     List<LedgerDto> buildLedgerReadout(LedgerRequest request);
+    List<LedgerDto> buildLedgerReadout(LedgerRequest request, IntConsumer progress);
+    void forEachLedgerRow(LedgerRequest request, Consumer<Ledger> sink);
+    Stream<Ledger> streamLedgerRows(LedgerRequest request);
+    Stream<LedgerDto> streamLedgerReadout(LedgerRequest request);
+    List<MonthlyTotal> buildMonthlyTotals(LedgerRequest request);
 }
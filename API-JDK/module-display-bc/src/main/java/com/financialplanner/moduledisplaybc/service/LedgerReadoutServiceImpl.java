@@ -1,52 +1,47 @@
 package com.financialplanner.moduledisplaybc.service;
 
 import com.financialplanner.moduledisplaybc.model.ItemDto;
+import com.financialplanner.moduledisplaybc.model.Ledger;
 import com.financialplanner.moduledisplaybc.model.LedgerDto;
 import com.financialplanner.moduledisplaybc.model.LedgerRequest;
-import com.financialplanner.moduledisplaybc.recurrence.*;
+import com.financialplanner.moduledisplaybc.model.MonthlyTotal;
+import com.financialplanner.moduledisplaybc.recurrence.RecurrenceExpansion;
+import com.financialplanner.moduleitemsbc.domain.service.InitialAmountService;
 import com.financialplanner.moduleitemsbc.domain.service.ItemService;
-import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Service implementation responsible for constructing ledger readouts based on user-specific
  * items and their recurrence types within a specified date range. The service integrates data
  * transformations and computations across multiple recurrence types while generating a detailed
- * daily ledger summary.
+ * daily ledger summary. When the materialized occurrence table is enabled for reads and covers the
+ * requested window, stored occurrence dates replace the per-item expansion. The initial amount that seeds the
+ * running total is served from a per-user cache.
  */
 @Service
 public class LedgerReadoutServiceImpl implements LedgerReadoutService {
 
     private final ItemService itemService;
-    private final OneTimeOccurrenceExpander oneTimeExpander;
-    private final DailyRecurrenceExpander dailyExpander;
-    private final WeeklyRecurrenceExpander weeklyExpander;
-    private final BiWeeklyRecurrenceExpander biWeeklyExpander;
-    private final BiMonthlyRecurrenceExpander biMonthlyExpander;
-    private final MonthlyRecurrenceExpander monthlyExpander;
-    private final QuarterlyRecurrenceExpander quarterlyExpander;
-    private final SemiAnnualRecurrenceExpander semiAnnualExpander;
-    private final AnnualRecurrenceExpander annualExpander;
-    private final NthWeekdayRecurrenceExpander nthWeekdayExpander;
-
-    public LedgerReadoutServiceImpl(ItemService itemService) {
+    private final InitialAmountService initialAmountService;
+    private final RecurrenceExpansion expansion;
+    private final ItemOccurrenceService occurrenceService;
+
+    public LedgerReadoutServiceImpl(ItemService itemService, InitialAmountService initialAmountService,
+                                    RecurrenceExpansion expansion, ItemOccurrenceService occurrenceService) {
         this.itemService = itemService;
-        this.oneTimeExpander = new OneTimeOccurrenceExpander(this::mapItemToDto);
-        this.dailyExpander = new DailyRecurrenceExpander(this::mapItemToDto);
-        this.weeklyExpander = new WeeklyRecurrenceExpander(this::mapItemToDto);
-        this.biWeeklyExpander = new BiWeeklyRecurrenceExpander(this::mapItemToDto);
-        this.biMonthlyExpander = new BiMonthlyRecurrenceExpander(this::mapItemToDto);
-        this.monthlyExpander = new MonthlyRecurrenceExpander(this::mapItemToDto);
-        this.quarterlyExpander = new QuarterlyRecurrenceExpander(this::mapItemToDto);
-        this.semiAnnualExpander = new SemiAnnualRecurrenceExpander(this::mapItemToDto);
-        this.annualExpander = new AnnualRecurrenceExpander(this::mapItemToDto);
-        this.nthWeekdayExpander = new NthWeekdayRecurrenceExpander(this::mapItemToDto);
+        this.initialAmountService = initialAmountService;
+        this.expansion = expansion;
+        this.occurrenceService = occurrenceService;
     }
 
     /**
@@ -61,40 +56,30 @@ public class LedgerReadoutServiceImpl implements LedgerReadoutService {
      */
     @Override
     public List<LedgerDto> buildLedgerReadout(LedgerRequest request) {
-        List<Item> userItems = itemService.findByUserId(request.userId());
+        return buildLedgerReadout(request, percent -> { });
+    }
+
+    /**
+     * Builds the same ledger readout as {@link #buildLedgerReadout(LedgerRequest)} while reporting progress.
+     * Loading and expansion account for the first half of the work; the remainder advances day by day
+     * during enrichment. The listener is only called when the whole-percent value changes.
+     *
+     * @param request  the {@link LedgerRequest} containing the user ID, start date, and end date
+     * @param progress receives the completion percentage (0-100) as the build advances
+     * @return a list of {@link LedgerDto} objects representing the detailed ledger with daily finances
+     */
+    @Override
+    public List<LedgerDto> buildLedgerReadout(LedgerRequest request, IntConsumer progress) {
+        List<LedgerItemView> userItems = loadLedgerItems(request);
+        progress.accept(10);
         // Initial amount (ItemType 3)
-        double initialAmount = extractInitialAmount(userItems);
-        // remove initial amount from further processing
-        userItems = userItems.stream().filter(i -> i.getItemType() == null || i.getItemType().getId() != 3).toList();
+        double initialAmount = loadInitialAmount(request);
 
         LocalDate start = request.ledgerStartDate();
         LocalDate end = request.ledgerEndDate();
 
-        // Each expander evaluates ALL items and expands only its own period.
-        // Non-matching items are ignored inside the expander.
-        List<ItemDto> oneTimeDtos   = oneTimeExpander.expand(userItems, start, end);
-        List<ItemDto> dailyDtos     = dailyExpander.expand(userItems, start, end);
-        List<ItemDto> weeklyDtos    = weeklyExpander.expand(userItems, start, end);
-        List<ItemDto> biWeeklyDtos  = biWeeklyExpander.expand(userItems, start, end);
-        List<ItemDto> biMonthlyDtos = biMonthlyExpander.expand(userItems, start, end);
-        List<ItemDto> monthlyDtos   = monthlyExpander.expand(userItems, start, end);
-        List<ItemDto> quarterlyDtos = quarterlyExpander.expand(userItems, start, end);
-        List<ItemDto> semiAnnualDtos = semiAnnualExpander.expand(userItems, start, end);
-        List<ItemDto> annualDtos = annualExpander.expand(userItems, start, end);
-        List<ItemDto> nthWeekdayDtos = nthWeekdayExpander.expand(userItems, start, end);
-
-        // Combine all occurrences from all recurrence types
-        List<ItemDto> itemDtos = new ArrayList<>();
-        itemDtos.addAll(oneTimeDtos);
-        itemDtos.addAll(dailyDtos);
-        itemDtos.addAll(weeklyDtos);
-        itemDtos.addAll(biWeeklyDtos);
-        itemDtos.addAll(biMonthlyDtos);
-        itemDtos.addAll(monthlyDtos);
-        itemDtos.addAll(quarterlyDtos);
-        itemDtos.addAll(semiAnnualDtos);
-        itemDtos.addAll(annualDtos);
-        itemDtos.addAll(nthWeekdayDtos);
+        List<ItemDto> itemDtos = expandOccurrences(request.userId(), userItems, start, end);
+        progress.accept(50);
         // Build ledger table (DTO)
         List<LedgerDto> ledger = buildLedgerTable(start, end);
 
@@ -102,11 +87,160 @@ public class LedgerReadoutServiceImpl implements LedgerReadoutService {
         applyInitialRunningTotals(ledger, initialAmount);
 
         // Daily enrichment (add/subtract occurrences)
-        applyDailyEnrichment(ledger, itemDtos);
+        applyDailyEnrichment(ledger, itemDtos, progress);
 
+        progress.accept(100);
         return ledger;
     }
 
+    /**
+     * Walks the requested date range day by day and hands flat {@link Ledger} rows to the sink: one row
+     * per occurrence carrying that day's summary, or a single summary-only row for days without occurrences.
+     * Rows are produced with the same credit/debit/running-total rules as {@link #buildLedgerReadout}, but no
+     * {@link LedgerDto} table is built, so callers can write rows straight to an output stream.
+     *
+     * @param request the {@link LedgerRequest} containing the user ID, start date, and end date
+     * @param sink    the consumer receiving each row in date order
+     */
+    @Override
+    public void forEachLedgerRow(LedgerRequest request, Consumer<Ledger> sink) {
+        streamLedgerRows(request).forEach(sink);
+    }
+
+    /**
+     * Builds the flat ledger as a lazy, ordered stream of {@link Ledger} rows: one row per occurrence carrying
+     * that day's summary, or a single summary-only row for days without occurrences.
+     * Occurrences are sorted by date once and consumed with a cursor while the stream is pulled, so no per-day
+     * lists and no {@link LedgerDto} table are allocated. The user's items are loaded when this method is called.
+     *
+     * @param request the {@link LedgerRequest} containing the user ID, start date, and end date
+     * @return a sequential stream of rows in date order
+     */
+    @Override
+    public Stream<Ledger> streamLedgerRows(LedgerRequest request) {
+        List<LedgerItemView> userItems = loadLedgerItems(request);
+        double initialAmount = loadInitialAmount(request);
+
+        LocalDate start = request.ledgerStartDate();
+        LocalDate end = request.ledgerEndDate();
+
+        DatedOccurrences occurrences = sortByOccurrenceDate(expandOccurrences(request.userId(), userItems, start, end));
+
+        return StreamSupport.stream(new FlatLedgerSpliterator(occurrences, start, end, initialAmount), false);
+    }
+
+    /**
+     * Builds the nested ledger as a lazy, ordered stream with one {@link LedgerDto} per day, using the same rules
+     * as {@link #buildLedgerReadout(LedgerRequest)}. Each day is finalized only when the stream is pulled, so
+     * callers can deliver early days while later ones are still to be computed. The user's items are loaded and
+     * expanded when this method is called.
+     *
+     * @param request the {@link LedgerRequest} containing the user ID, start date, and end date
+     * @return a sequential stream of daily ledger rows in date order
+     */
+    @Override
+    public Stream<LedgerDto> streamLedgerReadout(LedgerRequest request) {
+        List<LedgerItemView> userItems = loadLedgerItems(request);
+        double initialAmount = loadInitialAmount(request);
+
+        LocalDate start = request.ledgerStartDate();
+        LocalDate end = request.ledgerEndDate();
+
+        DatedOccurrences occurrences = sortByOccurrenceDate(expandOccurrences(request.userId(), userItems, start, end));
+
+        return StreamSupport.stream(new DailyLedgerSpliterator(occurrences, start, end, initialAmount), false);
+    }
+
+    /**
+     * Sums credits and debits per calendar month of the requested range. The totals come straight from the
+     * materialized occurrence table when it covers the range, and from the streamed ledger otherwise.
+     *
+     * @param request the {@link LedgerRequest} containing the user ID, start date, and end date
+     * @return one total per calendar month touched by the range, in order
+     */
+    @Override
+    public List<MonthlyTotal> buildMonthlyTotals(LedgerRequest request) {
+        Optional<List<MonthlyTotal>> stored = occurrenceService.findMonthlyTotals(request.userId(),
+                                                                                  request.ledgerStartDate(),
+                                                                                  request.ledgerEndDate());
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        Map<YearMonth, MonthlyTotal> totals = new LinkedHashMap<>();
+        streamLedgerReadout(request).forEach(day -> {
+            MonthlyTotal total = totals.computeIfAbsent(YearMonth.from(day.getWDate()), ym -> {
+                MonthlyTotal t = new MonthlyTotal();
+                t.setYear(ym.getYear());
+                t.setMonth(ym.getMonthValue());
+                return t;
+            });
+            total.setCreditSummary(total.getCreditSummary() + day.getCreditSummary());
+            total.setDebitSummary(total.getDebitSummary() + day.getDebitSummary());
+            total.setNet(total.getCreditSummary() + total.getDebitSummary());
+        });
+        return new ArrayList<>(totals.values());
+    }
+
+    /**
+     * Sorts occurrences by date, parsing each occurrence date once and dropping any without a date.
+     * The sort is stable, so expander order is kept within a day, matching {@link #buildLedgerReadout}.
+     *
+     * @param occurrences the expanded occurrences in expander order
+     * @return the occurrences and their epoch days as parallel arrays in date order
+     */
+    private static DatedOccurrences sortByOccurrenceDate(List<ItemDto> occurrences) {
+        List<ItemDto> dated = new ArrayList<>(occurrences.size());
+        for (ItemDto dto : occurrences) {
+            if (dto.getOccurrenceDate() != null) {
+                dated.add(dto);
+            }
+        }
+
+        long[] epochDays = new long[dated.size()];
+        Integer[] order = new Integer[dated.size()];
+        for (int i = 0; i < order.length; i++) {
+            epochDays[i] = LocalDate.parse(dated.get(i).getOccurrenceDate()).toEpochDay();
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> epochDays[i]));
+
+        ItemDto[] sorted = new ItemDto[order.length];
+        long[] sortedDays = new long[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = dated.get(order[i]);
+            sortedDays[i] = epochDays[order[i]];
+        }
+        return new DatedOccurrences(sorted, sortedDays);
+    }
+
+    /**
+     * Loads the user's items that can contribute to the requested window; the initial amount is read separately.
+     * Items that cannot produce an occurrence in the window are filtered out by the database.
+     */
+    private List<LedgerItemView> loadLedgerItems(LedgerRequest request) {
+        return itemService.findLedgerItemsByUserIdInRange(request.userId(), request.ledgerStartDate(),
+                                                          request.ledgerEndDate());
+    }
+
+    /**
+     * Expands the user's items into occurrences within the range, from the materialized occurrence table when
+     * it covers the range and by running every recurrence expander otherwise. Both produce the same
+     * occurrences in the same expander order.
+     *
+     * @param userId    the owner of the items
+     * @param userItems the items belonging to the user
+     * @param start     the first day of the ledger (inclusive)
+     * @param end       the last day of the ledger (inclusive)
+     * @return all occurrences falling within the ledger range, in expander order
+     */
+    private List<ItemDto> expandOccurrences(UUID userId, List<LedgerItemView> userItems, LocalDate start,
+                                            LocalDate end) {
+        return occurrenceService.findOccurrenceDates(userId, start, end)
+                                .map(stored -> expansion.expand(userItems, stored))
+                                .orElseGet(() -> expansion.expand(userItems, start, end));
+    }
+
     /**
      * Constructs a ledger table for the given date range. Each entry in the table corresponds to a
      * specific date within the range, and includes details such as the rollup key, year, and date.
@@ -147,13 +281,14 @@ public class LedgerReadoutServiceImpl implements LedgerReadoutService {
     }
 
     /**
-     * Extracts the initial amount from a list of items by finding the first item with a specific item type.
+     * Returns the user's initial amount (the ItemType 3 item) from the per-user cache.
      *
-     * @param items the list of items to process
-     * @return the amount of the first item with an item type of 3, or 0.0 if no such item exists
+     * @param request the {@link LedgerRequest} naming the user
+     * @return the user's initial amount, or 0.0 if the user has none
      */
-    private double extractInitialAmount(List<Item> items) {
-        return items.stream().filter(i -> i.getItemType() != null && i.getItemType().getId() == 3).findFirst().map(Item::getAmount).orElse(0.0);
+    private double loadInitialAmount(LedgerRequest request) {
+        return initialAmountService.findAmount(request.userId())
+                                   .orElse(0.0);
     }
 
     /**
@@ -164,35 +299,28 @@ public class LedgerReadoutServiceImpl implements LedgerReadoutService {
      *               Each entry contains details for a specific date.
      * @param items A list of {@link ItemDto} objects representing items to be processed.
      *              Each item is associated with a specific occurrence date and type (credit or debit).
+     * @param progress receives the overall completion percentage, advancing from 50 to 100 across the days
      */
-    private void applyDailyEnrichment(List<LedgerDto> ledger, List<ItemDto> items) {
+    private void applyDailyEnrichment(List<LedgerDto> ledger, List<ItemDto> items, IntConsumer progress) {
 
         // Group items by LocalDate
-        Map<LocalDate, List<ItemDto>> itemsByDate = items.stream()
-            .filter(i -> i.getOccurrenceDate() != null)
-            .collect(Collectors.groupingBy(i -> LocalDate.parse(i.getOccurrenceDate())));
+        Map<LocalDate, List<ItemDto>> itemsByDate = groupByOccurrenceDate(items);
 
         double running = ledger.getFirst().getRunningTotal(); // initial amount
+        int days = ledger.size();
+        int dayIndex = 0;
+        int lastPercent = 50;
 
         for (LedgerDto row : ledger) {
             LocalDate date = row.getWDate();
             List<ItemDto> todaysItems = itemsByDate.getOrDefault(date, List.of());
 
-            double credit = 0.0;
-            double debit = 0.0;
+            double credit = creditSummary(todaysItems);
+            double debit = debitSummary(todaysItems);
 
             int itemKeyCounter = 1;
 
             for (ItemDto item : todaysItems) {
-                double amt = item.getAmount() != null ? item.getAmount() : 0.0;
-
-                switch (item.getFkItemType()) {
-                    case 1 -> credit += amt; // credit (positive)
-                    case 2 -> debit += amt; // debit stored negative
-                    default -> {
-                    } // ignore others
-                }
-
                 item.setItemKey(itemKeyCounter++);
                 row.getItems().add(item);
             }
@@ -204,45 +332,225 @@ public class LedgerReadoutServiceImpl implements LedgerReadoutService {
             row.setDebitSummary(debit);
             row.setNet(net);
             row.setRunningTotal(running);
+
+            int percent = 50 + (int) (50L * ++dayIndex / days);
+            if (percent != lastPercent) {
+                lastPercent = percent;
+                progress.accept(percent);
+            }
         }
     }
 
     /**
-     * Maps an {@code Item} object to an {@code ItemDto} object.
+     * Groups occurrences by their occurrence date, dropping any without a date.
      *
-     * @param i the {@code Item} to be mapped, which contains the data to transform.
-     *          If any field in the {@code Item} is null, a fallback or default value
-     *          will be applied during the mapping process.
-     * @return an {@code ItemDto} object containing the mapped data such as the item key,
-     *         type, name, signed amount, occurrence date, and period.
+     * @param items the occurrences to group
+     * @return a map from occurrence date to the occurrences falling on that day
      */
-    private ItemDto mapItemToDto(Item i) {
-        ItemDto dto = new ItemDto();
+    private Map<LocalDate, List<ItemDto>> groupByOccurrenceDate(List<ItemDto> items) {
+        return items.stream()
+            .filter(i -> i.getOccurrenceDate() != null)
+            .collect(Collectors.groupingBy(i -> LocalDate.parse(i.getOccurrenceDate())));
+    }
 
-        // Extract itemType once
-        int itemType = Math.toIntExact((i.getItemType() != null ? i.getItemType().getId() : 0));
+    /**
+     * Sums the credit (ItemType 1) amounts of a day's occurrences.
+     */
+    private static double creditSummary(List<ItemDto> todaysItems) {
+        double credit = 0.0;
+        for (ItemDto item : todaysItems) {
+            if (item.getFkItemType() == 1) {
+                credit += item.getAmount() != null ? item.getAmount() : 0.0; // credit (positive)
+            }
+        }
+        return credit;
+    }
 
-        // Raw amount (null-safe)
-        double rawAmount = (i.getAmount() != null ? i.getAmount() : 0.0);
+    /**
+     * Sums the debit (ItemType 2) amounts of a day's occurrences. Debits are already stored negative.
+     */
+    private static double debitSummary(List<ItemDto> todaysItems) {
+        double debit = 0.0;
+        for (ItemDto item : todaysItems) {
+            if (item.getFkItemType() == 2) {
+                debit += item.getAmount() != null ? item.getAmount() : 0.0; // debit stored negative
+            }
+        }
+        return debit;
+    }
 
-        // Apply sign based on itemType
-        double signedAmount = switch (itemType) {
-            case 1 -> rawAmount;        // CREDIT → positive
-            case 2 -> -rawAmount;       // DEBIT → negative
-            case 3 -> rawAmount;        // INITIAL AMOUNT → positive
-            default -> rawAmount;       // fallback
-        };
+    /**
+     * Creates a flat ledger row holding only the day summary; occurrence columns are left at their defaults.
+     */
+    private static Ledger summaryRow(int rollupKey, LocalDate date, double credit, double debit, double net,
+                                     double running) {
+        Ledger row = new Ledger();
+        row.setRollupKey(rollupKey);
+        row.setYear(date.getYear());
+        row.setWDate(date);
+        row.setCreditSummary(credit);
+        row.setDebitSummary(debit);
+        row.setNet(net);
+        row.setRunningTotal(running);
+        return row;
+    }
 
-        dto.setItemKey(Math.toIntExact(i.getId()));
-        dto.setFkItemType(itemType);
-        dto.setItemType(i.getItemType() != null ? i.getItemType().getName() : null);
-        dto.setName(i.getName());
-        dto.setAmount(signedAmount);
+    /**
+     * Creates a flat ledger row for a single occurrence, carrying the day summary alongside the occurrence columns.
+     */
+    private static Ledger occurrenceRow(int rollupKey, LocalDate date, double credit, double debit, double net,
+                                        double running, ItemDto item) {
+        Ledger row = summaryRow(rollupKey, date, credit, debit, net, running);
+        row.setOccurrenceDate(date);
+        row.setFkItemType(item.getFkItemType());
+        row.setItemType(item.getItemType());
+        row.setPeriodName(item.getPeriod());
+        row.setName(item.getName());
+        row.setAmount(item.getAmount() != null ? item.getAmount() : 0.0);
+        return row;
+    }
 
-        dto.setOccurrenceDate(i.getBeginDate() != null ? i.getBeginDate().toString() : null);
+    /**
+     * Lazily walks the ledger range one day at a time over occurrences pre-sorted by epoch day.
+     * Each call to {@link #tryAdvance} emits either the next occurrence of the open day or opens the next day,
+     * so only the current day's summary is held in memory.
+     */
+    private static final class FlatLedgerSpliterator extends Spliterators.AbstractSpliterator<Ledger> {
+
+        private final ItemDto[] items;
+        private final long[] epochDays;
+        private final List<ItemDto> itemView;
+        private final LocalDate end;
+
+        private LocalDate cursor;
+        private int rollupKey = 1;
+        private double running;
+        private int next;
+
+        // State of the day currently being emitted
+        private LocalDate dayDate;
+        private int dayKey;
+        private int emitIndex;
+        private int dayEnd;
+        private double credit;
+        private double debit;
+        private double net;
+
+        FlatLedgerSpliterator(DatedOccurrences occurrences, LocalDate start, LocalDate end, double initialAmount) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.items = occurrences.items();
+            this.epochDays = occurrences.epochDays();
+            this.itemView = Arrays.asList(items);
+            this.end = end;
+            this.cursor = start;
+            this.running = initialAmount;
+        }
 
-        dto.setPeriod(i.getTimePeriod() != null ? i.getTimePeriod().getName() : null);
+        @Override
+        public boolean tryAdvance(Consumer<? super Ledger> action) {
+            if (emitIndex < dayEnd) {
+                action.accept(occurrenceRow(dayKey, dayDate, credit, debit, net, running, items[emitIndex++]));
+                return true;
+            }
+            if (cursor.isAfter(end)) {
+                return false;
+            }
+
+            long epochDay = cursor.toEpochDay();
+            while (next < items.length && epochDays[next] < epochDay) {
+                next++; // outside the requested range
+            }
+            int dayStart = next;
+            while (next < items.length && epochDays[next] == epochDay) {
+                next++;
+            }
+
+            List<ItemDto> todaysItems = itemView.subList(dayStart, next);
+            dayDate = cursor;
+            dayKey = rollupKey++;
+            credit = creditSummary(todaysItems);
+            debit = debitSummary(todaysItems);
+            net = credit + debit;
+            running += net;
+            emitIndex = dayStart;
+            dayEnd = next;
+            cursor = cursor.plusDays(1);
 
-        return dto;
+            if (emitIndex == dayEnd) {
+                action.accept(summaryRow(dayKey, dayDate, credit, debit, net, running));
+            } else {
+                action.accept(occurrenceRow(dayKey, dayDate, credit, debit, net, running, items[emitIndex++]));
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Occurrences sorted by date, with each occurrence's epoch day held in a parallel array.
+     */
+    private record DatedOccurrences(ItemDto[] items, long[] epochDays) { }
+
+    /**
+     * Lazily walks the ledger range one day at a time over occurrences pre-sorted by epoch day, producing one
+     * {@link LedgerDto} per call to {@link #tryAdvance} with its occurrences attached and its running total applied.
+     */
+    private static final class DailyLedgerSpliterator extends Spliterators.AbstractSpliterator<LedgerDto> {
+
+        private final ItemDto[] items;
+        private final long[] epochDays;
+        private final LocalDate end;
+
+        private LocalDate cursor;
+        private int rollupKey = 1;
+        private double running;
+        private int next;
+
+        DailyLedgerSpliterator(DatedOccurrences occurrences, LocalDate start, LocalDate end, double initialAmount) {
+            super(start.isAfter(end) ? 0 : end.toEpochDay() - start.toEpochDay() + 1,
+                  Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.SIZED);
+            this.items = occurrences.items();
+            this.epochDays = occurrences.epochDays();
+            this.end = end;
+            this.cursor = start;
+            this.running = initialAmount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super LedgerDto> action) {
+            if (cursor.isAfter(end)) {
+                return false;
+            }
+
+            long epochDay = cursor.toEpochDay();
+            while (next < items.length && epochDays[next] < epochDay) {
+                next++; // outside the requested range
+            }
+
+            LedgerDto row = new LedgerDto();
+            row.setRollupKey(rollupKey++);
+            row.setYear(cursor.getYear());
+            row.setWDate(cursor);
+
+            int itemKeyCounter = 1;
+            while (next < items.length && epochDays[next] == epochDay) {
+                ItemDto item = items[next++];
+                item.setItemKey(itemKeyCounter++);
+                row.getItems().add(item);
+            }
+
+            double credit = creditSummary(row.getItems());
+            double debit = debitSummary(row.getItems());
+            double net = credit + debit;
+            running += net;
+
+            row.setCreditSummary(credit);
+            row.setDebitSummary(debit);
+            row.setNet(net);
+            row.setRunningTotal(running);
+
+            cursor = cursor.plusDays(1);
+            action.accept(row);
+            return true;
+        }
     }
 }
@@ -0,0 +1,11 @@
+package com.financialplanner.moduledisplaybc.service;
+
+import com.financialplanner.moduledisplaybc.model.LedgerRequest;
+
+/**
+ * Service interface for delivering a ledger progressively, one calendar month at a time,
+ * so clients can render early periods while later ones are still being computed.
+ */
+public interface LedgerStreamService {
+    void streamByMonth(LedgerRequest request, LedgerBatchListener listener);
+}
@@ -0,0 +1,96 @@
+package com.financialplanner.moduledisplaybc.service;
+
+import com.financialplanner.modulecommonbc.exception.ServiceUnavailableException;
+import com.financialplanner.modulecommonbc.sanitizer.Sanitizer;
+import com.financialplanner.moduledisplaybc.config.LedgerStreamProperties;
+import com.financialplanner.moduledisplaybc.model.LedgerDto;
+import com.financialplanner.moduledisplaybc.model.LedgerRequest;
+import com.financialplanner.moduledisplaybc.utility.DaemonThreadFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Service implementation that pulls the lazy daily ledger from {@link LedgerReadoutService#streamLedgerReadout}
+ * on a bounded worker pool and hands it to a {@link LedgerBatchListener} one calendar month at a time.
+ * Each batch is sanitized before delivery, as the API layer would sanitize a complete ledger response.
+ */
+@Service
+public class LedgerStreamServiceImpl implements LedgerStreamService {
+
+    private final LedgerReadoutService ledgerReadoutService;
+    private final Sanitizer sanitizer;
+    private final ThreadPoolExecutor executor;
+
+    public LedgerStreamServiceImpl(LedgerReadoutService ledgerReadoutService, Sanitizer sanitizer,
+                                   LedgerStreamProperties properties) {
+        this.ledgerReadoutService = ledgerReadoutService;
+        this.sanitizer = sanitizer;
+        this.executor = new ThreadPoolExecutor(properties.getWorkerThreads(), properties.getWorkerThreads(),
+                                               0L, TimeUnit.MILLISECONDS,
+                                               new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                                               new DaemonThreadFactory("ledger-stream-"),
+                                               new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Starts computing the ledger in the background and returns immediately.
+     *
+     * @param request  the {@link LedgerRequest} containing the user ID, start date, and end date
+     * @param listener receives the month batches and the final completion or error signal
+     * @throws ServiceUnavailableException if the worker pool and its queue are full
+     */
+    @Override
+    public void streamByMonth(LedgerRequest request, LedgerBatchListener listener) {
+        try {
+            executor.execute(() -> deliver(request, listener));
+        } catch (RejectedExecutionException ex) {
+            throw new ServiceUnavailableException("Ledger stream capacity exhausted, retry later");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void deliver(LedgerRequest request, LedgerBatchListener listener) {
+        try (Stream<LedgerDto> days = ledgerReadoutService.streamLedgerReadout(request)) {
+            Iterator<LedgerDto> it = days.iterator();
+            List<LedgerDto> batch = new ArrayList<>();
+            YearMonth month = null;
+
+            while (it.hasNext()) {
+                LedgerDto day = it.next();
+                YearMonth dayMonth = YearMonth.from(day.getWDate());
+                if (month != null && !month.equals(dayMonth)) {
+                    publish(batch, listener);
+                    batch = new ArrayList<>();
+                }
+                month = dayMonth;
+                batch.add(day);
+            }
+            if (!batch.isEmpty()) {
+                publish(batch, listener);
+            }
+        } catch (RuntimeException ex) {
+            listener.onError(ex);
+            return;
+        }
+        listener.onComplete();
+    }
+
+    private void publish(List<LedgerDto> batch, LedgerBatchListener listener) {
+        sanitizer.sanitize(batch);
+        listener.onBatch(batch);
+    }
+}
@@ -1,6 +1,6 @@
 package com.financialplanner.moduledisplaybc.utility;
 
-import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 
 import java.time.LocalDate;
 
@@ -25,17 +25,17 @@ public class RecurrenceRange {
      * @return a two-element array containing the effective start and end dates, or null if
      *         there is no overlap between the calculated and ledger ranges
      */
-    public static LocalDate[] resolveRange(Item item, LocalDate ledgerStart, LocalDate ledgerEnd) {
+    public static LocalDate[] resolveRange(LedgerItemView item, LocalDate ledgerStart, LocalDate ledgerEnd) {
 
-        Boolean req = item.getDateRangeReq();
+        Boolean req = item.dateRangeReq();
 
         // If no override requested → use ledger range
         if (req == null || !req) {
             return new LocalDate[]{ ledgerStart, ledgerEnd };
         }
 
-        LocalDate begin = item.getBeginDate();
-        LocalDate end   = item.getEndDate();
+        LocalDate begin = item.beginDate();
+        LocalDate end   = item.endDate();
 
         // If item has bad data → fallback to ledger range
         if (begin == null || end == null) {
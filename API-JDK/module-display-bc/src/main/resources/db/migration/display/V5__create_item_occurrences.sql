@@ -0,0 +1,25 @@
+-- Optional materialized ledger occurrences over a rolling horizon (ledger.occurrences.enabled).
+-- Rows are written by the application only; the primary key doubles as the index for per-user date
+-- range scans, and item_id serves incremental maintenance on item writes.
+
+create table if not exists fpfl.item_occurrences (
+    user_id         uuid      not null,
+    occurrence_date date      not null,
+    item_id         bigint    not null,
+    seq             integer   not null,
+    fk_item_type    bigint    not null,
+    amount          float(53) not null,
+    constraint pk_item_occurrences primary key (user_id, occurrence_date, item_id, seq)
+);
+
+create index if not exists ix_item_occurrences_item_id on fpfl.item_occurrences (item_id);
+
+-- The single materialized window
+create table if not exists fpfl.item_occurrence_horizon (
+    id           smallint                 not null,
+    start_date   date                     not null,
+    end_date     date                     not null,
+    refreshed_at timestamp with time zone not null default now(),
+    constraint pk_item_occurrence_horizon primary key (id),
+    constraint ck_item_occurrence_horizon_single check (id = 1)
+);
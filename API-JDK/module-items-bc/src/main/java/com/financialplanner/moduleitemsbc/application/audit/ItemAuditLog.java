@@ -0,0 +1,252 @@
+package com.financialplanner.moduleitemsbc.application.audit;
+
+import com.financialplanner.modulecommonbc.logging.ErrorLogger;
+import com.financialplanner.modulecommonbc.sharding.ShardContext;
+import com.financialplanner.modulecommonbc.sharding.ShardRouter;
+import com.financialplanner.moduleitemsbc.config.ItemAuditProperties;
+import com.financialplanner.moduleitemsbc.domain.event.ItemChangeListener;
+import com.financialplanner.moduleitemsbc.domain.event.ItemChanged;
+import com.financialplanner.moduleitemsbc.domain.model.ItemAuditEntry;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.audit.ItemAuditRepository;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Append-only audit trail of committed item changes, written off the request path.
+ * Each change delivered by the item change publisher becomes one {@link ItemAuditEntry} in a bounded queue of
+ * this log's own, so slow audit inserts never hold up the other item change listeners. A single daemon writer
+ * inserts the queued entries in JDBC batches of at most {@code maxBatchSize}, at the latest
+ * {@code flushIntervalMs} after the first entry of the batch arrived; each shard gets the entries of its users.
+ * When the queue is full the delivering thread waits up to {@code offerTimeoutMs} for room, then applies the
+ * overflow policy: {@code CALLER_RUNS} inserts the entries on that thread, {@code DROP} discards and counts them.
+ * A failed insert is logged and its entries are counted as failed, not retried. On shutdown the writer inserts
+ * whatever is still queued.
+ * Counters and cumulative timings are exposed for metrics: the latency of an entry runs from queueing to the
+ * end of its insert.
+ */
+@Component
+public class ItemAuditLog implements ItemChangeListener {
+
+    private static final long SHUTDOWN_WAIT_MS = 5000;
+
+    private final ItemAuditRepository repo;
+    private final ShardRouter shardRouter;
+    private final ItemAuditProperties properties;
+    private final BlockingQueue<Pending> queue;
+    private final Thread writer;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchNanos = new LongAdder();
+
+    public ItemAuditLog(ItemAuditRepository repo, ShardRouter shardRouter, ItemAuditProperties properties) {
+        this.repo        = repo;
+        this.shardRouter = shardRouter;
+        this.properties  = properties;
+        this.queue       = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.writer      = !properties.isEnabled() ? null : Thread.ofPlatform()
+                                                                  .name("item-audit")
+                                                                  .daemon(true)
+                                                                  .start(this::drain);
+    }
+
+    /**
+     * Queues one audit entry per change. Once the queue stays full for the offer timeout, the rest of the
+     * batch goes to the overflow policy without waiting again.
+     */
+    @Override
+    public void onItemsChanged(List<ItemChanged> batch) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long queuedAt = System.nanoTime();
+        List<Pending> overflow = null;
+        for (ItemChanged change : batch) {
+            Pending pending = new Pending(entryOf(change), queuedAt);
+            if (overflow == null && !offer(pending)) {
+                overflow = new ArrayList<>();
+            }
+            if (overflow != null) {
+                overflow.add(pending);
+            }
+        }
+        if (overflow != null) {
+            overflow(overflow);
+        }
+    }
+
+    public int queueSize() {
+        return queue.size();
+    }
+
+    public long writtenCount() {
+        return written.sum();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public long failedCount() {
+        return failed.sum();
+    }
+
+    /**
+     * Returns the number of entries that found the queue full, whatever the overflow policy did with them.
+     */
+    public long overflowCount() {
+        return overflowed.sum();
+    }
+
+    /**
+     * Returns the summed queue-to-insert latency of every written entry.
+     */
+    public long latencyTotalNanos() {
+        return latencyNanos.sum();
+    }
+
+    public long batchCount() {
+        return batches.sum();
+    }
+
+    public long batchTotalNanos() {
+        return batchNanos.sum();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (writer != null) {
+            writer.interrupt();
+            writer.join(SHUTDOWN_WAIT_MS);
+        }
+    }
+
+    private boolean offer(Pending pending) {
+        try {
+            return queue.offer(pending, properties.getOfferTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void overflow(List<Pending> entries) {
+        overflowed.add(entries.size());
+        if (properties.getOverflowPolicy() == ItemAuditProperties.OverflowPolicy.DROP) {
+            dropped.add(entries.size());
+            return;
+        }
+        // Back-pressure: the writer is behind, so this thread inserts its own entries
+        writeInBatches(entries);
+    }
+
+    private void drain() {
+        int maxBatchSize = properties.getMaxBatchSize();
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMs());
+        List<Pending> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (true) {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < maxBatchSize) {
+                    queue.drainTo(batch, maxBatchSize - batch.size());
+                    long wait = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatchSize || wait <= 0) {
+                        break;
+                    }
+                    Pending next = queue.poll(wait, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException ex) {
+            // Shutting down: insert what is still queued
+            queue.drainTo(batch);
+            writeInBatches(batch);
+        }
+    }
+
+    private void writeInBatches(List<Pending> entries) {
+        int maxBatchSize = properties.getMaxBatchSize();
+        for (int from = 0; from < entries.size(); from += maxBatchSize) {
+            write(entries.subList(from, Math.min(from + maxBatchSize, entries.size())));
+        }
+    }
+
+    /**
+     * Inserts the entries of each shard with one JDBC batch and records the outcome.
+     */
+    private void write(List<Pending> batch) {
+        long start = System.nanoTime();
+        Map<String, List<Pending>> byShard = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            byShard.computeIfAbsent(shardOf(pending.entry()), s -> new ArrayList<>()).add(pending);
+        }
+        byShard.forEach((shard, pendings) -> {
+            try (ShardContext.Scope scope = shardRouter.onShard(shard)) {
+                repo.insertAll(pendings.stream()
+                                       .map(Pending::entry)
+                                       .toList());
+            } catch (RuntimeException ex) {
+                failed.add(pendings.size());
+                ErrorLogger.logException(ex);
+                return;
+            }
+            long end = System.nanoTime();
+            written.add(pendings.size());
+            for (Pending pending : pendings) {
+                latencyNanos.add(end - pending.queuedAt());
+            }
+        });
+        batches.increment();
+        batchNanos.add(System.nanoTime() - start);
+    }
+
+    private String shardOf(ItemAuditEntry entry) {
+        return entry.userId() == null ? shardRouter.directoryShard() : shardRouter.shardFor(entry.userId());
+    }
+
+    /**
+     * Classifies the change by its snapshots. A change with only a new state is a create unless that state
+     * has already been versioned, as when an initial amount save overwrites the existing one.
+     * The entry is stamped with the commit time carried by the event rather than the delivery time, so the
+     * trail's time order is the commit order.
+     */
+    private static ItemAuditEntry entryOf(ItemChanged change) {
+        Item before = change.before();
+        Item after = change.after();
+        ItemAuditEntry.Action action;
+        if (after != null) {
+            action = before != null || after.getVersion() > 0 ? ItemAuditEntry.Action.UPDATE
+                                                              : ItemAuditEntry.Action.CREATE;
+        } else {
+            action = before != null ? ItemAuditEntry.Action.DELETE : ItemAuditEntry.Action.CHANGE;
+        }
+        Instant changedAt = change.committedAt() != null ? change.committedAt() : Instant.now();
+        return new ItemAuditEntry(changedAt, change.userId(), change.itemId(), action,
+                                  after == null ? null : after.getVersion(),
+                                  before == null ? null : before.getAmount(),
+                                  after == null ? null : after.getAmount());
+    }
+
+    private record Pending(ItemAuditEntry entry, long queuedAt) { }
+}
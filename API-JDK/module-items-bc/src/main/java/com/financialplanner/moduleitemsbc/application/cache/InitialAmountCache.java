@@ -0,0 +1,150 @@
+package com.financialplanner.moduleitemsbc.application.cache;
+
+import com.financialplanner.modulecommonbc.invalidation.CacheInvalidation;
+import com.financialplanner.modulecommonbc.invalidation.CacheInvalidationListener;
+import com.financialplanner.modulecommonbc.invalidation.InvalidationKind;
+import com.financialplanner.moduleitemsbc.config.InitialAmountCacheProperties;
+import com.financialplanner.moduleitemsbc.domain.event.ItemChangeListener;
+import com.financialplanner.moduleitemsbc.domain.event.ItemChanged;
+import com.financialplanner.moduleitemsbc.domain.repository.ItemRepository;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, least-recently-used cache of each user's initial amount, read by every ledger build.
+ * A miss loads the amount with one lookup on the unique initial amount index; users without an initial
+ * amount are cached as such. Entries expire after the configured TTL.
+ * Initial amount writes evict the user synchronously, before and after their transaction completes. Other
+ * item writes are seen through the committed change events, and writes on other nodes through the
+ * cross-node invalidation channel. Ordered ahead of the other item change listeners so a ledger rebuilt after
+ * its cache entry is evicted for the same batch never reads a stale amount.
+ * As in the ledger cache, a load only stores its result if no eviction happened while it ran.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class InitialAmountCache implements ItemChangeListener, CacheInvalidationListener {
+
+    private static final long INITIAL_AMOUNT_ITEM_TYPE_ID = 3L;
+
+    private final ItemRepository repo;
+    private final long ttlMs;
+    private final Map<UUID, Entry> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    public InitialAmountCache(ItemRepository repo, InitialAmountCacheProperties properties) {
+        this.repo  = repo;
+        this.ttlMs = properties.getTtlMs();
+        int maxEntries = properties.getMaxEntries();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Returns the user's initial amount, or empty if the user has none, loading it on a miss.
+     */
+    public Optional<Double> get(UUID userId) {
+        Entry entry = entries.get(userId);
+        if (entry != null && entry.expiresAt >= System.currentTimeMillis()) {
+            return Optional.ofNullable(entry.amount);
+        }
+        long stamp = generation.get();
+        Double amount = repo.findInitialAmount(userId)
+                            .orElse(null);
+        Entry loaded = new Entry(amount, System.currentTimeMillis() + ttlMs);
+        synchronized (entries) {
+            if (generation.get() == stamp) {
+                entries.put(userId, loaded);
+            }
+        }
+        return Optional.ofNullable(amount);
+    }
+
+    /**
+     * Evicts the user now and again when the current transaction completes, so an amount loaded by a
+     * concurrent reader before the commit is not served afterwards.
+     */
+    public void evictAfterWrite(UUID userId) {
+        evictUser(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictUser(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Removes the user's cached initial amount.
+     */
+    public void evictUser(UUID userId) {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.remove(userId);
+        }
+    }
+
+    /**
+     * Removes every cached initial amount.
+     */
+    public void evictAll() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    /**
+     * Evicts the users whose changes may have touched an initial amount; changes without snapshots always do.
+     */
+    @Override
+    public void onItemsChanged(List<ItemChanged> batch) {
+        batch.stream()
+             .filter(change -> change.userId() != null)
+             .filter(InitialAmountCache::mayTouchInitialAmount)
+             .map(ItemChanged::userId)
+             .distinct()
+             .forEach(this::evictUser);
+    }
+
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        if (invalidation.kind() != InvalidationKind.ITEMS) {
+            return;
+        }
+        if (invalidation.userId() == null) {
+            evictAll();
+        } else {
+            evictUser(invalidation.userId());
+        }
+    }
+
+    private static boolean mayTouchInitialAmount(ItemChanged change) {
+        if (change.before() == null && change.after() == null) {
+            return true; // set-based writes carry no snapshots
+        }
+        return isInitialAmount(change.before()) || isInitialAmount(change.after());
+    }
+
+    private static boolean isInitialAmount(Item item) {
+        return item != null && item.getItemType() != null
+               && Objects.equals(item.getItemType().getId(), INITIAL_AMOUNT_ITEM_TYPE_ID);
+    }
+
+    /**
+     * Cached amount; null when the user has no initial amount.
+     */
+    private record Entry(Double amount, long expiresAt) { }
+}
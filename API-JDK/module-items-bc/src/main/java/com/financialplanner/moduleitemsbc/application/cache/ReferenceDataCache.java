@@ -0,0 +1,194 @@
+package com.financialplanner.moduleitemsbc.application.cache;
+
+import com.financialplanner.modulecommonbc.invalidation.CacheInvalidation;
+import com.financialplanner.modulecommonbc.invalidation.CacheInvalidationBus;
+import com.financialplanner.modulecommonbc.invalidation.CacheInvalidationListener;
+import com.financialplanner.modulecommonbc.invalidation.InvalidationKind;
+import com.financialplanner.moduleitemsbc.domain.repository.ItemTypeRepository;
+import com.financialplanner.moduleitemsbc.domain.repository.TimePeriodRepository;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.ItemType;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.TimePeriod;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * In-memory copy of the {@code ItemType} and {@code TimePeriod} reference tables.
+ * Both tables hold about ten rows and change almost never, so they are loaded once at startup and
+ * reloaded by {@code ItemTypeServiceImpl} / {@code TimePeriodServiceImpl} after each write instead of
+ * being queried on every item create, update, catalog read or ledger build. Local writes are announced on the
+ * {@link CacheInvalidationBus} so the other nodes reload their snapshots too.
+ * Each snapshot is an immutable id-to-name map swapped atomically on reload. Callers always receive
+ * fresh detached entity copies, so in-place sanitization or mutation never leaks into the cache. The ledger
+ * mapper, which needs a type and period name per occurrence, reads the names directly without a copy.
+ * A lookup that misses falls back to the repository once, which picks up rows written by another
+ * node; ids that do not exist there either are reported as empty.
+ */
+@Component
+public class ReferenceDataCache implements CacheInvalidationListener {
+
+    private final ItemTypeRepository itemTypeRepository;
+    private final TimePeriodRepository timePeriodRepository;
+    private final CacheInvalidationBus invalidationBus;
+
+    private volatile Map<Long, String> itemTypes;
+    private volatile Map<Long, String> timePeriods;
+
+    public ReferenceDataCache(ItemTypeRepository itemTypeRepository, TimePeriodRepository timePeriodRepository,
+                              CacheInvalidationBus invalidationBus) {
+        this.itemTypeRepository   = itemTypeRepository;
+        this.timePeriodRepository = timePeriodRepository;
+        this.invalidationBus      = invalidationBus;
+    }
+
+    /**
+     * Loads both reference tables once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refreshItemTypes();
+        refreshTimePeriods();
+    }
+
+    /**
+     * Returns copies of all item types ordered by id.
+     */
+    public List<ItemType> itemTypes() {
+        return itemTypeSnapshot().entrySet()
+                                 .stream()
+                                 .map(e -> new ItemType(e.getKey(), e.getValue()))
+                                 .toList();
+    }
+
+    /**
+     * Returns a copy of the item type with the given id, if it exists.
+     *
+     * @param id the item type identifier
+     */
+    public Optional<ItemType> itemType(Long id) {
+        String name = itemTypeName(id);
+        return name == null ? Optional.empty() : Optional.of(new ItemType(id, name));
+    }
+
+    /**
+     * Returns the name of the item type with the given id, or null if it does not exist.
+     *
+     * @param id the item type identifier
+     */
+    public String itemTypeName(Long id) {
+        if (id == null) {
+            return null;
+        }
+        String name = itemTypeSnapshot().get(id);
+        if (name == null && itemTypeRepository.findById(id)
+                                              .isPresent()) {
+            name = refreshItemTypes().get(id);
+        }
+        return name;
+    }
+
+    /**
+     * Returns copies of all time periods ordered by id.
+     */
+    public List<TimePeriod> timePeriods() {
+        return timePeriodSnapshot().entrySet()
+                                   .stream()
+                                   .map(e -> new TimePeriod(e.getKey(), e.getValue()))
+                                   .toList();
+    }
+
+    /**
+     * Returns a copy of the time period with the given id, if it exists.
+     *
+     * @param id the time period identifier
+     */
+    public Optional<TimePeriod> timePeriod(Long id) {
+        String name = timePeriodName(id);
+        return name == null ? Optional.empty() : Optional.of(new TimePeriod(id, name));
+    }
+
+    /**
+     * Returns the name of the time period with the given id, or null if it does not exist.
+     *
+     * @param id the time period identifier
+     */
+    public String timePeriodName(Long id) {
+        if (id == null) {
+            return null;
+        }
+        String name = timePeriodSnapshot().get(id);
+        if (name == null && timePeriodRepository.findById(id)
+                                                .isPresent()) {
+            name = refreshTimePeriods().get(id);
+        }
+        return name;
+    }
+
+    /**
+     * Reloads the item type snapshot after a local write and tells the other nodes to do the same.
+     */
+    public void itemTypesChanged() {
+        refreshItemTypes();
+        invalidationBus.publish(CacheInvalidation.all(InvalidationKind.ITEM_TYPES));
+    }
+
+    /**
+     * Reloads the time period snapshot after a local write and tells the other nodes to do the same.
+     */
+    public void timePeriodsChanged() {
+        refreshTimePeriods();
+        invalidationBus.publish(CacheInvalidation.all(InvalidationKind.TIME_PERIODS));
+    }
+
+    /**
+     * Reloads the snapshot another node reported as changed.
+     */
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        switch (invalidation.kind()) {
+            case ITEM_TYPES -> refreshItemTypes();
+            case TIME_PERIODS -> refreshTimePeriods();
+            default -> { }
+        }
+    }
+
+    /**
+     * Reloads the item type snapshot from the repository.
+     *
+     * @return the new snapshot
+     */
+    public Map<Long, String> refreshItemTypes() {
+        Map<Long, String> snapshot = new TreeMap<>();
+        for (ItemType type : itemTypeRepository.findAll()) {
+            snapshot.put(type.getId(), type.getName());
+        }
+        itemTypes = Collections.unmodifiableMap(snapshot);
+        return itemTypes;
+    }
+
+    /**
+     * Reloads the time period snapshot from the repository.
+     *
+     * @return the new snapshot
+     */
+    public Map<Long, String> refreshTimePeriods() {
+        Map<Long, String> snapshot = new TreeMap<>();
+        for (TimePeriod period : timePeriodRepository.findAll()) {
+            snapshot.put(period.getId(), period.getName());
+        }
+        timePeriods = Collections.unmodifiableMap(snapshot);
+        return timePeriods;
+    }
+
+    private Map<Long, String> itemTypeSnapshot() {
+        Map<Long, String> snapshot = itemTypes;
+        return snapshot != null ? snapshot : refreshItemTypes();
+    }
+
+    private Map<Long, String> timePeriodSnapshot() {
+        Map<Long, String> snapshot = timePeriods;
+        return snapshot != null ? snapshot : refreshTimePeriods();
+    }
+}
@@ -0,0 +1,45 @@
+package com.financialplanner.moduleitemsbc.application.event;
+
+import com.financialplanner.modulecommonbc.invalidation.CacheInvalidation;
+import com.financialplanner.modulecommonbc.invalidation.CacheInvalidationBus;
+import com.financialplanner.modulecommonbc.invalidation.InvalidationKind;
+import com.financialplanner.moduleitemsbc.domain.event.ItemChangeListener;
+import com.financialplanner.moduleitemsbc.domain.event.ItemChanged;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Forwards committed item changes to the other nodes as one {@code ITEMS} invalidation per user,
+ * sent in a single notification round trip per batch. The version is the highest item version
+ * reported for the user in the batch, or 0 when no snapshot carried one.
+ */
+@Component
+public class ItemChangeBroadcaster implements ItemChangeListener {
+
+    private final CacheInvalidationBus invalidationBus;
+
+    public ItemChangeBroadcaster(CacheInvalidationBus invalidationBus) {
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    public void onItemsChanged(List<ItemChanged> batch) {
+        Map<UUID, Long> versions = new LinkedHashMap<>();
+        for (ItemChanged event : batch) {
+            if (event.userId() != null) {
+                Item after = event.after();
+                versions.merge(event.userId(), after == null ? 0L : after.getVersion(), Math::max);
+            }
+        }
+        invalidationBus.publishAll(versions.entrySet()
+                                           .stream()
+                                           .map(e -> new CacheInvalidation(InvalidationKind.ITEMS, e.getKey(),
+                                                                           e.getValue()))
+                                           .toList());
+    }
+}
@@ -0,0 +1,150 @@
+package com.financialplanner.moduleitemsbc.application.event;
+
+import com.financialplanner.modulecommonbc.logging.ErrorLogger;
+import com.financialplanner.moduleitemsbc.config.ItemEventProperties;
+import com.financialplanner.moduleitemsbc.domain.event.ItemChangeListener;
+import com.financialplanner.moduleitemsbc.domain.event.ItemChanged;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process publisher of {@link ItemChanged} events.
+ * Events published inside a transaction are held until it commits and discarded on rollback; events
+ * published outside a transaction describe changes that are already committed and are queued at once.
+ * A single daemon worker drains the queue and hands each {@link ItemChangeListener} bean the pending
+ * events in batches of at most {@code maxBatchSize}, so writers never wait on subscribers.
+ * When the queue is full the publishing thread waits for room, up to {@code enqueueTimeoutMs}, instead of
+ * delivering itself, so listeners always see changes on the worker thread in commit order. An event that
+ * still finds no room is dropped and logged.
+ */
+@Component
+public class ItemChangePublisher {
+
+    private final ObjectProvider<ItemChangeListener> listeners;
+    private final BlockingQueue<ItemChanged> queue;
+    private final int maxBatchSize;
+    private final long enqueueTimeoutMs;
+    private final Thread worker;
+
+    public ItemChangePublisher(ObjectProvider<ItemChangeListener> listeners, ItemEventProperties properties) {
+        this.listeners        = listeners;
+        this.queue            = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.maxBatchSize     = properties.getMaxBatchSize();
+        this.enqueueTimeoutMs = properties.getEnqueueTimeoutMs();
+        this.worker           = Thread.ofPlatform()
+                                      .name("item-events")
+                                      .daemon(true)
+                                      .start(this::drain);
+    }
+
+    /**
+     * Publishes one change once the surrounding transaction, if any, has committed.
+     *
+     * @param event the change to announce
+     */
+    public void publish(ItemChanged event) {
+        publishAll(List.of(event));
+    }
+
+    /**
+     * Publishes several changes once the surrounding transaction, if any, has committed.
+     *
+     * @param events the changes to announce, in the order they were made
+     */
+    public void publishAll(List<ItemChanged> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(events);
+            return;
+        }
+        pendingForTransaction().addAll(events);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        worker.interrupt();
+    }
+
+    /**
+     * Returns the buffer of the current transaction, registering its after-commit hand-off on first use.
+     */
+    @SuppressWarnings("unchecked")
+    private List<ItemChanged> pendingForTransaction() {
+        List<ItemChanged> pending = (List<ItemChanged>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<ItemChanged> buffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(buffer);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ItemChangePublisher.this);
+                }
+            });
+            pending = buffer;
+        }
+        return pending;
+    }
+
+    /**
+     * Stamps the events with the commit time and queues them; runs on the committing thread right after commit.
+     */
+    private void enqueue(List<ItemChanged> events) {
+        Instant committedAt = Instant.now();
+        for (ItemChanged event : events) {
+            try {
+                // Back-pressure: wait for the worker rather than deliver out of order on this thread
+                if (!queue.offer(event.committedAt(committedAt), enqueueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    ErrorLogger.logException(new IllegalStateException(
+                        "Item change queue stayed full for " + enqueueTimeoutMs + " ms; dropped change to item "
+                        + event.itemId()));
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                ErrorLogger.logException(ex);
+                return;
+            }
+        }
+    }
+
+    private void drain() {
+        List<ItemChanged> batch = new ArrayList<>(maxBatchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException ex) {
+                return;
+            }
+            queue.drainTo(batch, maxBatchSize - 1);
+            deliver(List.copyOf(batch));
+            batch.clear();
+        }
+    }
+
+    private void deliver(List<ItemChanged> batch) {
+        listeners.orderedStream()
+                 .forEach(listener -> {
+                     try {
+                         listener.onItemsChanged(batch);
+                     } catch (RuntimeException ex) {
+                         ErrorLogger.logException(ex);
+                     }
+                 });
+    }
+}
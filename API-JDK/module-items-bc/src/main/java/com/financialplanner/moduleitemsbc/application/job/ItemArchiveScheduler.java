@@ -0,0 +1,48 @@
+package com.financialplanner.moduleitemsbc.application.job;
+
+import com.financialplanner.modulecommonbc.logging.ErrorLogger;
+import com.financialplanner.modulecommonbc.sharding.ShardRouter;
+import com.financialplanner.moduleitemsbc.config.ItemArchiveProperties;
+import com.financialplanner.moduleitemsbc.domain.service.ItemArchiveService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the item archive job on its cron schedule. Batches are committed one at a time until a batch comes back
+ * short or the per-run cap is reached, so a large backlog is drained over several nights without long-running
+ * transactions or lock queues on the hot table. Each shard is drained in turn with its own cap.
+ */
+@Component
+public class ItemArchiveScheduler {
+
+    private final ItemArchiveService archiveService;
+    private final ItemArchiveProperties properties;
+    private final ShardRouter shardRouter;
+
+    public ItemArchiveScheduler(ItemArchiveService archiveService, ItemArchiveProperties properties,
+                                ShardRouter shardRouter) {
+        this.archiveService = archiveService;
+        this.properties     = properties;
+        this.shardRouter    = shardRouter;
+    }
+
+    @Scheduled(cron = "${items.archive.cron:0 15 3 * * *}")
+    public void archive() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        shardRouter.forEachShard(this::archiveCurrentShard);
+    }
+
+    private void archiveCurrentShard() {
+        try {
+            for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+                if (archiveService.archiveExpiredBatch() < properties.getBatchSize()) {
+                    return;
+                }
+            }
+        } catch (RuntimeException ex) {
+            ErrorLogger.logException(ex);
+        }
+    }
+}
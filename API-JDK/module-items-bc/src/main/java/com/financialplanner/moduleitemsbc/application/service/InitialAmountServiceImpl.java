@@ -0,0 +1,111 @@
+package com.financialplanner.moduleitemsbc.application.service;
+
+import com.financialplanner.modulecommonbc.exception.DomainValidationException;
+import com.financialplanner.modulecommonbc.exception.ItemNotFoundException;
+import com.financialplanner.moduleitemsbc.application.cache.InitialAmountCache;
+import com.financialplanner.moduleitemsbc.application.event.ItemChangePublisher;
+import com.financialplanner.moduleitemsbc.domain.event.ItemChanged;
+import com.financialplanner.moduleitemsbc.domain.model.InitialAmountResult;
+import com.financialplanner.moduleitemsbc.domain.repository.ItemRepository;
+import com.financialplanner.moduleitemsbc.domain.service.InitialAmountService;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.mapper.ItemEntityMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Implementation of the {@code InitialAmountService} interface.
+ * Every write is one statement: a save inserts or overwrites the user's initial amount through an upsert
+ * arbitrated by the unique initial amount index, so concurrent saves can never create a second one, and an
+ * update by id is a single conditional update without a prior lookup.
+ * Reads are served from the {@code InitialAmountCache}, which every write evicts for the user. Writes publish
+ * {@code ItemChanged} events through the {@code ItemChangePublisher} like any other item write; the events
+ * carry no previous state, since it is never read.
+ *
+ * Exceptions thrown by this class:
+ * - {@code DomainValidationException} for invalid input validation
+ * - {@code ItemNotFoundException} when an update names an id that is not the user's initial amount
+ */
+@Service
+public class InitialAmountServiceImpl implements InitialAmountService {
+
+    private static final long INITIAL_AMOUNT_ITEM_TYPE_ID = 3L;
+
+    private final ItemRepository repo;
+    private final InitialAmountCache cache;
+    private final ItemEntityMapper mapper;
+    private final ItemChangePublisher events;
+
+    public InitialAmountServiceImpl(ItemRepository repo, InitialAmountCache cache, ItemEntityMapper mapper,
+                                    ItemChangePublisher events) {
+        this.repo   = repo;
+        this.cache  = cache;
+        this.mapper = mapper;
+        this.events = events;
+    }
+
+    @Override
+    public Optional<Double> findAmount(UUID userId) {
+        // Validate input
+        if (userId == null) {
+            throw new DomainValidationException("UserId cannot be null");
+        }
+        return cache.get(userId);
+    }
+
+    @Override
+    @Transactional
+    public InitialAmountResult save(Item entity) {
+        // Validate input
+        validate(entity);
+        // Insert or overwrite in one statement and announce it
+        InitialAmountResult result = repo.upsertInitialAmount(entity);
+        cache.evictAfterWrite(entity.getUserId());
+        events.publish(new ItemChanged(entity.getUserId(), result.item().getId(), null, snapshot(result.item())));
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public Item update(Long id, Item entity) {
+        // Validate input
+        if (id == null || id <= 0) {
+            throw new DomainValidationException("Item id must be a positive integer");
+        }
+        validate(entity);
+        // Update in one statement; the id must be the user's initial amount
+        Long version = repo.updateInitialAmount(id, entity)
+                           .orElseThrow(() -> new ItemNotFoundException("InitialAmount " + id + " for UserId: "
+                                                                        + entity.getUserId() + " not found"));
+        cache.evictAfterWrite(entity.getUserId());
+        Item result = mapper.copyEntity(id, entity);
+        result.setVersion(version);
+        events.publish(new ItemChanged(result.getUserId(), id, null, snapshot(result)));
+        return result;
+    }
+
+    private static void validate(Item entity) {
+        if (entity == null || entity.getUserId() == null) {
+            throw new DomainValidationException("InitialAmount UserId is required and cannot be blank");
+        }
+        if (entity.getAmount() == null) {
+            throw new DomainValidationException("InitialAmount Amount is required and cannot be null");
+        }
+        if (entity.getItemType() != null && entity.getItemType().getId() != null
+            && entity.getItemType().getId() != INITIAL_AMOUNT_ITEM_TYPE_ID) {
+            throw new DomainValidationException("InitialAmount must have ItemType " + INITIAL_AMOUNT_ITEM_TYPE_ID);
+        }
+    }
+
+    /**
+     * Returns a detached copy of the item, so event subscribers never share state with the caller.
+     */
+    private Item snapshot(Item item) {
+        Item copy = mapper.copyEntity(item.getId(), item);
+        copy.setVersion(item.getVersion());
+        return copy;
+    }
+}
@@ -0,0 +1,91 @@
+package com.financialplanner.moduleitemsbc.application.service;
+
+import com.financialplanner.modulecommonbc.exception.DomainValidationException;
+import com.financialplanner.moduleitemsbc.application.cache.ReferenceDataCache;
+import com.financialplanner.moduleitemsbc.application.event.ItemChangePublisher;
+import com.financialplanner.moduleitemsbc.config.ItemArchiveProperties;
+import com.financialplanner.moduleitemsbc.domain.event.ItemChanged;
+import com.financialplanner.moduleitemsbc.domain.model.ItemKey;
+import com.financialplanner.moduleitemsbc.domain.repository.ItemRepository;
+import com.financialplanner.moduleitemsbc.domain.service.ItemArchiveService;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of the {@code ItemArchiveService} interface.
+ * Moves items that can no longer produce a ledger occurrence from the hot {@code items} table to
+ * {@code items_archive}, so per-user ledger loads only read items with active schedules, and serves the
+ * archived items to explicit history queries.
+ *
+ * Archived items are announced as deletions through the {@code ItemChangePublisher}, so ledger caches and the
+ * occurrence table drop them once the batch has committed.
+ *
+ * Exceptions thrown by this class:
+ * - {@code DomainValidationException} for invalid input validation
+ */
+@Service
+public class ItemArchiveServiceImpl implements ItemArchiveService {
+
+    private final ItemRepository repo;
+    private final ReferenceDataCache referenceData;
+    private final ItemChangePublisher events;
+    private final ItemArchiveProperties properties;
+
+    public ItemArchiveServiceImpl(ItemRepository repo, ReferenceDataCache referenceData, ItemChangePublisher events,
+                                  ItemArchiveProperties properties) {
+        this.repo          = repo;
+        this.referenceData = referenceData;
+        this.events        = events;
+        this.properties    = properties;
+    }
+
+    /**
+     * Moves one batch of at most {@code batchSize} expired items to the archive in its own transaction.
+     *
+     * @return the number of items moved; less than the batch size once no expired items remain
+     */
+    @Override
+    @Transactional
+    public int archiveExpiredBatch() {
+        LocalDate cutoff = LocalDate.now()
+                                    .minusDays(properties.getRetentionDays());
+        List<ItemKey> moved = repo.archiveExpired(cutoff, properties.getBatchSize());
+        events.publishAll(moved.stream()
+                               .map(key -> new ItemChanged(key.userId(), key.id(), null, null))
+                               .toList());
+        return moved.size();
+    }
+
+    /**
+     * Returns the user's archived items in id order, with their item type and time period resolved from the
+     * reference data cache.
+     *
+     * @param userId the owner of the items
+     * @return the user's archived items
+     */
+    @Override
+    public List<Item> findArchivedByUserId(UUID userId) {
+        // Validate input
+        if (userId == null) {
+            throw new DomainValidationException("UserId cannot be null");
+        }
+
+        List<Item> items = repo.findArchivedByUserId(userId);
+        for (Item item : items) {
+            referenceData.itemType(item.getItemType()
+                                       .getId())
+                         .ifPresent(item::setItemType);
+            if (item.getTimePeriod() != null) {
+                referenceData.timePeriod(item.getTimePeriod()
+                                             .getId())
+                             .ifPresent(item::setTimePeriod);
+            }
+        }
+        return items;
+    }
+}
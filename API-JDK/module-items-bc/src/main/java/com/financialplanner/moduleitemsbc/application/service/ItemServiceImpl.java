@@ -2,14 +2,33 @@ package com.financialplanner.moduleitemsbc.application.service;
 
 import com.financialplanner.modulecommonbc.exception.DomainValidationException;
 import com.financialplanner.modulecommonbc.exception.ItemNotFoundException;
+import com.financialplanner.modulecommonbc.exception.PreconditionFailedException;
+import com.financialplanner.modulecommonbc.sharding.ShardRouter;
+import com.financialplanner.moduleitemsbc.application.event.ItemChangePublisher;
+import com.financialplanner.moduleitemsbc.domain.event.ItemChanged;
+import com.financialplanner.moduleitemsbc.domain.model.ItemBatchPatch;
+import com.financialplanner.moduleitemsbc.domain.model.ItemBatchResult;
+import com.financialplanner.moduleitemsbc.domain.model.ItemPage;
+import com.financialplanner.moduleitemsbc.domain.model.ItemPageQuery;
+import com.financialplanner.moduleitemsbc.domain.model.ItemUpdateResult;
 import com.financialplanner.moduleitemsbc.domain.repository.ItemRepository;
 import com.financialplanner.moduleitemsbc.domain.service.ItemService;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.mapper.ItemEntityMapper;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the {@code ItemService} interface.
@@ -18,28 +37,57 @@ import java.util.UUID;
  * uses the {@code ItemEntityMapper} for entity conversion tasks.
  *
  * Responsibilities include:
- * - Retrieving all items
- * - Retrieving an item by ID
+ * - Retrieving all items, or streaming them in constant memory
+ * - Retrieving an item by ID, or by owner and ID
+ * - Retrieving filtered keyset pages of items
  * - Finding items by user ID and item type ID
  * - Finding items by user ID
+ * - Listing the users that own items
+ * - Loading read-only ledger projections by user ID, optionally limited to a ledger window
  * - Creating a new item
- * - Updating an existing item
- * - Deleting an item by ID
+ * - Importing many new items in one transaction
+ * - Updating an existing item in a single statement, optionally conditional on its version
+ * - Updating or deleting many of a user's items with per-id results
+ * - Deleting an item by owner and ID and returning it
+ *
+ * Every write publishes {@code ItemChanged} events through the {@code ItemChangePublisher}; they reach
+ * subscribers only after the write has committed.
  *
  * Exceptions thrown by this class:
  * - {@code DomainValidationException} for invalid input validation
  * - {@code ItemNotFoundException} for missing entities during retrieval
+ * - {@code PreconditionFailedException} when a conditional update finds a different version
  */
 @Service
 public class ItemServiceImpl implements ItemService {
 
+    /**
+     * Upper bound on the number of items accepted by a single bulk import.
+     */
+    private static final int MAX_BULK_ITEMS = 5000;
+
+    /**
+     * Upper bound on the number of ids accepted by a single batch update or delete.
+     */
+    private static final int MAX_BATCH_IDS = 1000;
+
+    /**
+     * Upper bound on the number of items returned in one page.
+     */
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final ItemRepository repo;
     private final ItemEntityMapper mapper;
+    private final ItemChangePublisher events;
+    private final ShardRouter shardRouter;
 
     // Constructor
-    public ItemServiceImpl(ItemRepository repo, ItemEntityMapper mapper) {
-        this.repo   = repo;
-        this.mapper = mapper;
+    public ItemServiceImpl(ItemRepository repo, ItemEntityMapper mapper, ItemChangePublisher events,
+                           ShardRouter shardRouter) {
+        this.repo        = repo;
+        this.mapper      = mapper;
+        this.events      = events;
+        this.shardRouter = shardRouter;
     }
 
     @Override
@@ -49,18 +97,62 @@ public class ItemServiceImpl implements ItemService {
         return list == null ? List.of() : list;
     }
 
+    /**
+     * Hands every item to the action in id order while it is read from a database cursor, so the whole
+     * table is never held in memory. The cursor lives in this read-only transaction and is closed when the
+     * action has seen the last item or throws.
+     *
+     * @param action receives each detached item
+     */
     @Override
-    public Item get(Long id) {
+    @Transactional(readOnly = true)
+    public void forEachItem(Consumer<Item> action) {
+        try (Stream<Item> items = repo.streamAll()) {
+            items.forEach(action);
+        }
+    }
+
+    @Override
+    public Item get(UUID userId, Long id) {
         // Validate input
         if (id == null || id <= 0) {
             throw new DomainValidationException("ItemType id must be a positive integer");
         }
-        // Return the domain model
-        return repo.findById(id)
-                   .orElseThrow(() -> new ItemNotFoundException("Item " + id + " not found"));
+        requireOwnerWhenSharded(userId);
+        // Return the domain model, looked up by its full key when the owner is known
+        Optional<Item> item = userId != null ? repo.findByUserIdAndId(userId, id) : repo.findById(id);
+        return item.orElseThrow(() -> new ItemNotFoundException("Item " + id + " not found"));
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public ItemPage findPage(ItemPageQuery query) {
+        // Validate input
+        if (query.limit() < 1 || query.limit() > MAX_PAGE_SIZE) {
+            throw new DomainValidationException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (query.afterId() != null && query.afterUserId() == null) {
+            throw new DomainValidationException("Page cursor requires the user ID of the previous page");
+        }
+        if (query.userId() != null && query.afterUserId() != null && !query.userId().equals(query.afterUserId())) {
+            throw new DomainValidationException("Page cursor does not belong to the requested user");
+        }
+        if (query.from() != null && query.to() != null && query.to().isBefore(query.from())) {
+            throw new DomainValidationException("Date window must have a start on or before its end");
+        }
+
+        // One extra row tells whether another page follows
+        List<Item> rows = repo.findPage(query);
+        if (rows.size() <= query.limit()) {
+            return new ItemPage(rows, null, null);
+        }
+        List<Item> page = rows.subList(0, query.limit());
+        Item last = page.getLast();
+        return new ItemPage(page, last.getUserId(), last.getId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Item> findByUserIdAndItemTypeId(UUID userId, Long itemTypeId) {
         // Validate input
         if (userId == null) {
@@ -74,6 +166,7 @@ public class ItemServiceImpl implements ItemService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Item> findByUserId(UUID userId) {
         // Validate input
         if (userId == null) {
@@ -86,32 +179,209 @@ public class ItemServiceImpl implements ItemService {
         return items == null ? List.of() : items;
     }
 
+    @Override
+    public List<UUID> findUserIds() {
+        // Delegate to repository
+        return repo.findUserIds();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LedgerItemView> findLedgerItemsByUserId(UUID userId) {
+        // Validate input
+        if (userId == null) {
+            throw new DomainValidationException("UserId cannot be null");
+        }
+
+        // Delegate to repository; projections are never managed, so nothing is flushed or dirty-checked
+        List<LedgerItemView> items = repo.findLedgerItemsByUserId(userId);
+
+        return items == null ? List.of() : items;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LedgerItemView> findLedgerItemsByUserIdInRange(UUID userId, LocalDate start, LocalDate end) {
+        // Validate input
+        if (userId == null) {
+            throw new DomainValidationException("UserId cannot be null");
+        }
+        if (start == null || end == null || end.isBefore(start)) {
+            throw new DomainValidationException("Ledger date range must have a start on or before its end");
+        }
+
+        // Delegate to repository; the window is applied in SQL
+        List<LedgerItemView> items = repo.findLedgerItemsByUserIdInRange(userId, start, end);
+
+        return items == null ? List.of() : items;
+    }
+
     @Override
     public Item create(Item entity) {
-        // Return the new domain model
-        return repo.save(entity);
+        // Persist the domain model and announce it
+        Item created = repo.save(entity);
+        events.publish(new ItemChanged(created.getUserId(), created.getId(), null, snapshot(created)));
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public List<Item> createAll(List<Item> entities) {
+        // Validate input in a single pass before anything is written
+        if (entities == null || entities.isEmpty()) {
+            throw new DomainValidationException("Bulk import requires at least one item");
+        }
+        if (entities.size() > MAX_BULK_ITEMS) {
+            throw new DomainValidationException("Bulk import is limited to " + MAX_BULK_ITEMS + " items");
+        }
+        for (int k = 0; k < entities.size(); k++) {
+            Item item = entities.get(k);
+            if (item == null || item.getUserId() == null || item.getItemType() == null
+                || item.getItemType().getId() == null || item.getDateRangeReq() == null) {
+                throw new DomainValidationException("Bulk import item " + k
+                                                    + " requires a user ID, item type and date range flag");
+            }
+        }
+        // Insert all items with multi-row statements; generated ids are set on the entities
+        repo.insertAll(entities);
+        events.publishAll(entities.stream()
+                                  .map(item -> new ItemChanged(item.getUserId(), item.getId(), null, snapshot(item)))
+                                  .toList());
+        return entities;
     }
 
     @Override
     public Item update(Long id, Item entity) {
+        return update(id, entity, null);
+    }
+
+    @Override
+    @Transactional
+    public Item update(Long id, Item entity, Long expectedVersion) {
         // Validate input
         if (id == null || id <= 0) {
             throw new DomainValidationException("Item id must be a positive integer");
         }
-        Item e = repo.findById(id)
-                     .orElseThrow(() -> new ItemNotFoundException("Item " + id + " not found"));
+        if (entity == null || entity.getUserId() == null) {
+            throw new DomainValidationException("Item UserId is required and cannot be blank");
+        }
+        // Update the domain model in one statement; the version check happens in SQL, and the same
+        // statement returns the previous state for the change event
+        ItemUpdateResult updated = repo.updateIfVersion(id, entity, expectedVersion)
+                                       .orElseThrow(() -> new ItemNotFoundException("Item " + id + " not found"));
+        Item before = updated.before();
+        if (updated.version() == null) {
+            throw new PreconditionFailedException("Item " + id + " has been modified, current version is "
+                                                  + before.getVersion());
+        }
         Item result = mapper.copyEntity(id, entity);
-        // Update the domain model
-        return repo.save(result);
+        result.setVersion(updated.version());
+        events.publish(new ItemChanged(result.getUserId(), id, before, snapshot(result)));
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public ItemBatchResult updateAll(UUID userId, List<Long> ids, ItemBatchPatch patch) {
+        // Validate input
+        List<Long> requested = validateBatch(userId, ids);
+        if (patch == null || patch.isEmpty()) {
+            throw new DomainValidationException("Batch update requires at least one field to change");
+        }
+        if (patch.amount() != null && patch.amount() <= 0) {
+            throw new DomainValidationException("Item Amount must be a positive currency value");
+        }
+        // Update all items with one statement and report per id
+        ItemBatchResult result = batchResult(requested, repo.updateAll(userId, requested, patch));
+        publishBatch(userId, result);
+        return result;
     }
 
     @Override
-    public void delete(Long id) {
+    @Transactional
+    public Item delete(UUID userId, Long id) {
         // Validate input
         if (id == null || id <= 0) {
             throw new DomainValidationException("Item id must be a positive integer");
         }
-        // Delete the domain model
-        repo.deleteById(id);
+        requireOwnerWhenSharded(userId);
+        // Delete the domain model in one statement that returns the deleted row
+        Item deleted = repo.deleteById(userId, id)
+                           .orElseThrow(() -> new ItemNotFoundException("Item " + id + " not found"));
+        events.publish(new ItemChanged(deleted.getUserId(), id, snapshot(deleted), null));
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public ItemBatchResult deleteAll(UUID userId, List<Long> ids) {
+        // Validate input
+        List<Long> requested = validateBatch(userId, ids);
+        // Delete all items with one statement and report per id
+        ItemBatchResult result = batchResult(requested, repo.deleteAll(userId, requested));
+        publishBatch(userId, result);
+        return result;
+    }
+
+    /**
+     * Checks the owner and ids of a batch operation and returns the distinct ids in request order.
+     */
+    private static List<Long> validateBatch(UUID userId, List<Long> ids) {
+        if (userId == null) {
+            throw new DomainValidationException("UserId cannot be null");
+        }
+        if (ids == null || ids.isEmpty()) {
+            throw new DomainValidationException("Batch operation requires at least one item id");
+        }
+        Set<Long> distinct = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id == null || id <= 0) {
+                throw new DomainValidationException("Item id must be a positive integer");
+            }
+            distinct.add(id);
+        }
+        if (distinct.size() > MAX_BATCH_IDS) {
+            throw new DomainValidationException("Batch operation is limited to " + MAX_BATCH_IDS + " items");
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    /**
+     * Announces the items changed by a set-based statement; no snapshots are available for them.
+     */
+    private void publishBatch(UUID userId, ItemBatchResult result) {
+        events.publishAll(result.succeeded()
+                                .stream()
+                                .map(id -> new ItemChanged(userId, id, null, null))
+                                .toList());
+    }
+
+    /**
+     * Item ids are only unique within a shard, so while sharding is enabled a lookup by id alone is ambiguous
+     * and would only see the current shard.
+     */
+    private void requireOwnerWhenSharded(UUID userId) {
+        if (userId == null && shardRouter.isEnabled()) {
+            throw new DomainValidationException("Item UserId is required while items are sharded");
+        }
+    }
+
+    /**
+     * Returns a detached copy of the item, so event subscribers never share state with the caller.
+     */
+    private Item snapshot(Item item) {
+        Item copy = mapper.copyEntity(item.getId(), item);
+        copy.setVersion(item.getVersion());
+        return copy;
+    }
+
+    private static ItemBatchResult batchResult(List<Long> requested, List<Long> affected) {
+        Set<Long> hit = new HashSet<>(affected);
+        List<Long> succeeded = new ArrayList<>(hit.size());
+        List<Long> notFound = new ArrayList<>();
+        for (Long id : requested) {
+            (hit.contains(id) ? succeeded : notFound).add(id);
+        }
+        return new ItemBatchResult(succeeded, notFound);
     }
 }
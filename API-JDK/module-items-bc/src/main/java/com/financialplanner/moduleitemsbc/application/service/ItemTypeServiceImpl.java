@@ -3,12 +3,15 @@ package com.financialplanner.moduleitemsbc.application.service;
 import com.financialplanner.modulecommonbc.exception.DomainValidationException;
 import com.financialplanner.modulecommonbc.exception.DuplicateItemException;
 import com.financialplanner.modulecommonbc.exception.ItemNotFoundException;
+import com.financialplanner.modulecommonbc.sharding.ShardRouter;
+import com.financialplanner.moduleitemsbc.application.cache.ReferenceDataCache;
 import com.financialplanner.moduleitemsbc.domain.repository.ItemTypeRepository;
 import com.financialplanner.moduleitemsbc.domain.service.ItemTypeService;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.ItemType;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Implementation of {@code ItemTypeService} for managing {@code ItemType} entities.
@@ -29,6 +32,9 @@ import java.util.List;
  * if the entity does not exist.
  * - {@code delete(Long id)}: Deletes a specific {@code ItemType} entity by its identifier. Throws exceptions for
  * invalid input or if the entity does not exist.
+ * Writes are applied on every shard, because the items on each shard reference the item types by foreign
+ * key. Every shard is checked before anything is written, and each per-shard write is idempotent, so a write
+ * that fails on one shard can simply be repeated.
  * Exceptions:
  * - {@code DomainValidationException}: Thrown for invalid inputs or constraints violations.
  * - {@code DuplicateItemException}: Thrown when attempting to create an entity that already exists.
@@ -38,17 +44,21 @@ import java.util.List;
 public class ItemTypeServiceImpl implements ItemTypeService {
 
     private final ItemTypeRepository repo;
+    private final ReferenceDataCache referenceDataCache;
+    private final ShardRouter shardRouter;
 
     // Constructor
-    public ItemTypeServiceImpl(ItemTypeRepository repo) {
-        this.repo = repo;
+    public ItemTypeServiceImpl(ItemTypeRepository repo, ReferenceDataCache referenceDataCache,
+                               ShardRouter shardRouter) {
+        this.repo               = repo;
+        this.referenceDataCache = referenceDataCache;
+        this.shardRouter        = shardRouter;
     }
 
     @Override
     public List<ItemType> list() {
-        // Retrieve all ItemType entities from the repository
-        List<ItemType> list = repo.findAll();
-        return list == null ? List.of() : list;
+        // Serve the ItemType entities from the in-memory reference snapshot
+        return referenceDataCache.itemTypes();
     }
 
     @Override
@@ -57,39 +67,76 @@ public class ItemTypeServiceImpl implements ItemTypeService {
         if (id == null || id <= 0) {
             throw new DomainValidationException("ItemType id must be a positive integer");
         }
-        // Return the domain model
-        return repo.findById(id)
-                   .orElseThrow(() -> new ItemNotFoundException("ItemType " + id + " not found"));
+        // Return the domain model from the in-memory reference snapshot
+        return referenceDataCache.itemType(id)
+                                 .orElseThrow(() -> new ItemNotFoundException("ItemType " + id + " not found"));
     }
 
     @Override
     public ItemType create(ItemType entity) {
-        // Validate input
-        if (repo.findById(entity.getId())
-                .isPresent()) {
+        // Validate input on every shard before writing anything
+        if (existsOnAnyShard(entity.getId())) {
             throw new DuplicateItemException("ItemType " + entity.getId() + " already exists.");
         }
+        // Insert on every shard, then reload the reference snapshot
+        writeOnEveryShard(() -> repo.upsert(entity));
         // Return the new domain model
-        return repo.save(entity);
+        return entity;
     }
 
     @Override
     public ItemType update(ItemType entity) {
-        // Validate input
-        ItemType e = repo.findById(entity.getId())
-                         .orElseThrow(() -> new ItemNotFoundException("ItemType " + entity.getId() + " not found"));
-        // Update the domain model
-        return repo.save(entity);
+        // Validate input on every shard before writing anything
+        if (!existsOnAnyShard(entity.getId())) {
+            throw new ItemNotFoundException("ItemType " + entity.getId() + " not found");
+        }
+        // Update the domain model on every shard, then reload the reference snapshot; shards that
+        // missed an earlier write get the row inserted
+        writeOnEveryShard(() -> repo.upsert(entity));
+        return entity;
     }
 
     @Override
     public void delete(Long id) {
-        // Validate input
+        // Validate input on every shard before writing anything
         if (id == null || id <= 0) {
             throw new DomainValidationException("ItemType id must be a positive integer");
         }
-        // Delete the domain model
-        repo.deleteById(id);
+        if (!existsOnAnyShard(id)) {
+            throw new ItemNotFoundException("ItemType " + id + " not found");
+        }
+        AtomicBoolean referenced = new AtomicBoolean();
+        shardRouter.forEachShard(() -> {
+            if (!referenced.get() && repo.isReferenced(id)) {
+                referenced.set(true);
+            }
+        });
+        if (referenced.get()) {
+            throw new DomainValidationException("ItemType " + id + " is still used by items");
+        }
+        // Delete the domain model on every shard where it exists, then reload the reference snapshot
+        writeOnEveryShard(() -> repo.deleteById(id));
+    }
+
+    private boolean existsOnAnyShard(Long id) {
+        AtomicBoolean found = new AtomicBoolean();
+        shardRouter.forEachShard(() -> {
+            if (!found.get() && repo.existsById(id)) {
+                found.set(true);
+            }
+        });
+        return found.get();
     }
-}
 
+    /**
+     * Runs an idempotent write on every shard. The reference snapshot is reloaded even when a shard fails
+     * part way, so the cache reflects what was written; repeating the request brings the shards back in line.
+     */
+    private void writeOnEveryShard(Runnable write) {
+        try {
+            shardRouter.forEachShard(write);
+        } finally {
+            referenceDataCache.itemTypesChanged();
+        }
+    }
+}
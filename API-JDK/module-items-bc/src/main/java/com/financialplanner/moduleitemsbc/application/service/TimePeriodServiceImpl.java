@@ -3,12 +3,15 @@ package com.financialplanner.moduleitemsbc.application.service;
 import com.financialplanner.modulecommonbc.exception.DomainValidationException;
 import com.financialplanner.modulecommonbc.exception.DuplicateItemException;
 import com.financialplanner.modulecommonbc.exception.ItemNotFoundException;
+import com.financialplanner.modulecommonbc.sharding.ShardRouter;
+import com.financialplanner.moduleitemsbc.application.cache.ReferenceDataCache;
 import com.financialplanner.moduleitemsbc.domain.repository.TimePeriodRepository;
 import com.financialplanner.moduleitemsbc.domain.service.TimePeriodService;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.TimePeriod;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Implementation of the {@code TimePeriodService} interface for managing
@@ -25,6 +28,8 @@ import java.util.List;
  * - Validates inputs for all operations to ensure data integrity.
  * - Handles scenarios where requested objects are not found.
  * - Prevents duplication during entity creation.
+ * - Applies writes on every shard, since the items on each shard reference the time periods by foreign key.
+ *   Every shard is checked before anything is written, and each per-shard write is idempotent.
  * Exceptions:
  * - {@code DomainValidationException}: Thrown when invalid input is provided.
  * - {@code ItemNotFoundException}: Thrown when requested entities do not exist.
@@ -36,17 +41,21 @@ import java.util.List;
 public class TimePeriodServiceImpl implements TimePeriodService {
 
     private final TimePeriodRepository repo;
+    private final ReferenceDataCache referenceDataCache;
+    private final ShardRouter shardRouter;
 
     // Constructor
-    public TimePeriodServiceImpl(TimePeriodRepository repo) {
-        this.repo = repo;
+    public TimePeriodServiceImpl(TimePeriodRepository repo, ReferenceDataCache referenceDataCache,
+                                 ShardRouter shardRouter) {
+        this.repo               = repo;
+        this.referenceDataCache = referenceDataCache;
+        this.shardRouter        = shardRouter;
     }
 
     @Override
     public List<TimePeriod> list() {
-        // Retrieve all TimePeriod entities from the repository
-        List<TimePeriod> list = repo.findAll();
-        return list == null ? List.of() : list;
+        // Serve the TimePeriod entities from the in-memory reference snapshot
+        return referenceDataCache.timePeriods();
     }
 
     @Override
@@ -55,38 +64,76 @@ public class TimePeriodServiceImpl implements TimePeriodService {
         if (id == null || id <= 0) {
             throw new DomainValidationException("TimePeriod id must be a positive integer");
         }
-        // Return the domain model
-        return repo.findById(id)
-                   .orElseThrow(() -> new ItemNotFoundException("TimePeriod " + id + " not found"));
+        // Return the domain model from the in-memory reference snapshot
+        return referenceDataCache.timePeriod(id)
+                                 .orElseThrow(() -> new ItemNotFoundException("TimePeriod " + id + " not found"));
     }
 
     @Override
     public TimePeriod create(TimePeriod entity) {
-        // Validate input
-        if (repo.findById(entity.getId())
-                .isPresent()) {
+        // Validate input on every shard before writing anything
+        if (existsOnAnyShard(entity.getId())) {
             throw new DuplicateItemException("TimePeriod " + entity.getId() + " already exists.");
         }
+        // Insert on every shard, then reload the reference snapshot
+        writeOnEveryShard(() -> repo.upsert(entity));
         // Return the new domain model
-        return repo.save(entity);
+        return entity;
     }
 
     @Override
     public TimePeriod update(TimePeriod entity) {
-        // Validate input
-        TimePeriod e = repo.findById(entity.getId())
-                           .orElseThrow(() -> new ItemNotFoundException("TimePeriod " + entity.getId() + " not found"));
-        // Update the domain model
-        return repo.save(entity);
+        // Validate input on every shard before writing anything
+        if (!existsOnAnyShard(entity.getId())) {
+            throw new ItemNotFoundException("TimePeriod " + entity.getId() + " not found");
+        }
+        // Update the domain model on every shard, then reload the reference snapshot; shards that
+        // missed an earlier write get the row inserted
+        writeOnEveryShard(() -> repo.upsert(entity));
+        return entity;
     }
 
     @Override
     public void delete(Long id) {
-        // Validate input
+        // Validate input on every shard before writing anything
         if (id == null || id <= 0) {
             throw new DomainValidationException("TimePeriod id must be a positive integer");
         }
-        // Delete the domain model
-        repo.deleteById(id);
+        if (!existsOnAnyShard(id)) {
+            throw new ItemNotFoundException("TimePeriod " + id + " not found");
+        }
+        AtomicBoolean referenced = new AtomicBoolean();
+        shardRouter.forEachShard(() -> {
+            if (!referenced.get() && repo.isReferenced(id)) {
+                referenced.set(true);
+            }
+        });
+        if (referenced.get()) {
+            throw new DomainValidationException("TimePeriod " + id + " is still used by items");
+        }
+        // Delete the domain model on every shard where it exists, then reload the reference snapshot
+        writeOnEveryShard(() -> repo.deleteById(id));
+    }
+
+    private boolean existsOnAnyShard(Long id) {
+        AtomicBoolean found = new AtomicBoolean();
+        shardRouter.forEachShard(() -> {
+            if (!found.get() && repo.existsById(id)) {
+                found.set(true);
+            }
+        });
+        return found.get();
+    }
+
+    /**
+     * Runs an idempotent write on every shard. The reference snapshot is reloaded even when a shard fails
+     * part way, so the cache reflects what was written; repeating the request brings the shards back in line.
+     */
+    private void writeOnEveryShard(Runnable write) {
+        try {
+            shardRouter.forEachShard(write);
+        } finally {
+            referenceDataCache.timePeriodsChanged();
+        }
     }
 }
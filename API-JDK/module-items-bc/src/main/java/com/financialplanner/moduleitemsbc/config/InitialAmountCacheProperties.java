@@ -0,0 +1,15 @@
+package com.financialplanner.moduleitemsbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Size and freshness limits for the in-memory per-user initial amount cache.
+ */
+@lombok.Data
+@Component
+@ConfigurationProperties(prefix = "items.initial-amount-cache")
+public class InitialAmountCacheProperties {
+    private int maxEntries = 10000;
+    private long ttlMs = 300000;
+}
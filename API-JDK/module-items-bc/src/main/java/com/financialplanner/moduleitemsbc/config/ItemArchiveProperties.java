@@ -0,0 +1,21 @@
+package com.financialplanner.moduleitemsbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the job that moves expired items to {@code items_archive}.
+ * An item is expired once it cannot produce an occurrence after {@code retentionDays} ago: a one-time item
+ * whose date lies before that day, or a range-bound recurring item whose range ended before it.
+ * Each run moves at most {@code batchSize * maxBatchesPerRun} items, one transaction per batch.
+ */
+@lombok.Data
+@Component
+@ConfigurationProperties(prefix = "items.archive")
+public class ItemArchiveProperties {
+    private boolean enabled = false;
+    private int retentionDays = 730;
+    private int batchSize = 1000;
+    private int maxBatchesPerRun = 100;
+    private String cron = "0 15 3 * * *";
+}
@@ -0,0 +1,30 @@
+package com.financialplanner.moduleitemsbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the asynchronous item audit log writer.
+ * Entries wait in a queue of {@code queueCapacity} and are inserted by a single writer thread in JDBC
+ * batches of at most {@code maxBatchSize}, at the latest {@code flushIntervalMs} after the first entry of
+ * a batch arrived. When the queue is full the publishing thread waits up to {@code offerTimeoutMs} for room
+ * (backpressure), then applies the {@code overflowPolicy}.
+ */
+@lombok.Data
+@Component
+@ConfigurationProperties(prefix = "items.audit")
+public class ItemAuditProperties {
+    private boolean enabled = true;
+    private int queueCapacity = 10000;
+    private int maxBatchSize = 500;
+    private long flushIntervalMs = 200;
+    private long offerTimeoutMs = 50;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.CALLER_RUNS;
+
+    public enum OverflowPolicy {
+        /** The publishing thread inserts its entries itself, so none are lost. */
+        CALLER_RUNS,
+        /** The entries are dropped and counted, so publishers never wait longer than the offer timeout. */
+        DROP
+    }
+}
@@ -0,0 +1,19 @@
+package com.financialplanner.moduleitemsbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits for the item change-event dispatcher.
+ * When {@code queueCapacity} is exhausted the publishing thread waits up to {@code enqueueTimeoutMs} for the
+ * worker to make room, so events keep their commit order; only an event that still finds no room is dropped
+ * and logged.
+ */
+@lombok.Data
+@Component
+@ConfigurationProperties(prefix = "items.events")
+public class ItemEventProperties {
+    private int queueCapacity = 10000;
+    private int maxBatchSize = 500;
+    private long enqueueTimeoutMs = 30000;
+}
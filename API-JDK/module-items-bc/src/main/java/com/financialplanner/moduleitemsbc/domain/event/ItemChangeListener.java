@@ -0,0 +1,13 @@
+package com.financialplanner.moduleitemsbc.domain.event;
+
+import java.util.List;
+
+/**
+ * Subscriber to committed item changes. Implementations are discovered as Spring beans.
+ * Batches are delivered on a single background thread, in commit order, and may combine changes
+ * from several transactions and users. A listener that throws is logged and does not affect
+ * the other listeners or later batches.
+ */
+public interface ItemChangeListener {
+    void onItemsChanged(List<ItemChanged> batch);
+}
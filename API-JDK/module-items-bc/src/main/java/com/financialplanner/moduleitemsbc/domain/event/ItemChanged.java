@@ -0,0 +1,35 @@
+package com.financialplanner.moduleitemsbc.domain.event;
+
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Announces a committed change to one item.
+ * {@code before} is null for creates and {@code after} is null for deletes. Batch updates and deletes
+ * are applied by a single set-based statement that does not read the rows, so their events carry
+ * neither snapshot; subscribers that need the new state reload it. Snapshots are detached copies and
+ * must be treated as read-only.
+ * {@code committedAt} is stamped by the publisher on the committing thread right after the commit, so it
+ * follows the commit order however late the event is delivered.
+ *
+ * @param userId      the owner of the item
+ * @param itemId      the item identifier
+ * @param before      the item as it was before the change, if known
+ * @param after       the item as it is after the change, if known
+ * @param committedAt when the change was committed; null until the event is published
+ */
+public record ItemChanged(UUID userId, Long itemId, Item before, Item after, Instant committedAt) {
+
+    public ItemChanged(UUID userId, Long itemId, Item before, Item after) {
+        this(userId, itemId, before, after, null);
+    }
+
+    /**
+     * Returns this change stamped with its commit time.
+     */
+    public ItemChanged committedAt(Instant at) {
+        return new ItemChanged(userId, itemId, before, after, at);
+    }
+}
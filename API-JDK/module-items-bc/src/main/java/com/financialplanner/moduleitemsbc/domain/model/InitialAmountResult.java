@@ -0,0 +1,11 @@
+package com.financialplanner.moduleitemsbc.domain.model;
+
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+
+/**
+ * Outcome of saving a user's initial amount.
+ *
+ * @param item    the saved initial amount item, with its id and new version
+ * @param created whether the item was inserted rather than updated
+ */
+public record InitialAmountResult(Item item, boolean created) {}
@@ -0,0 +1,29 @@
+package com.financialplanner.moduleitemsbc.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One row of the item audit log.
+ * Set-based batch writes and archiving do not read the rows they change, so their entries carry
+ * {@link Action#CHANGE} without version or amounts.
+ *
+ * @param changedAt    when the change was committed
+ * @param userId       the owner of the item, if known
+ * @param itemId       the item identifier
+ * @param action       what happened to the item
+ * @param version      the item version after the change, if known
+ * @param amountBefore the amount before the change, if known
+ * @param amountAfter  the amount after the change, if known
+ */
+public record ItemAuditEntry(Instant changedAt, UUID userId, Long itemId, Action action, Long version,
+                             Double amountBefore, Double amountAfter) {
+
+    public enum Action {
+        CREATE,
+        UPDATE,
+        DELETE,
+        /** A change whose kind is unknown because no snapshot was taken. */
+        CHANGE
+    }
+}
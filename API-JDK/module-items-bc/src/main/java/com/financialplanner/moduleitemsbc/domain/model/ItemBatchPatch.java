@@ -0,0 +1,26 @@
+package com.financialplanner.moduleitemsbc.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Field changes applied to every item of a batch update.
+ * A {@code null} component leaves the corresponding column unchanged.
+ *
+ * @param name         the new item name
+ * @param amount       the new amount
+ * @param timePeriodId the new time period identifier
+ * @param beginDate    the new begin date
+ * @param endDate      the new end date
+ * @param dateRangeReq the new date range flag
+ */
+public record ItemBatchPatch(String name, Double amount, Long timePeriodId, LocalDate beginDate, LocalDate endDate,
+                             Boolean dateRangeReq) {
+
+    /**
+     * Returns {@code true} when the patch does not change any column.
+     */
+    public boolean isEmpty() {
+        return name == null && amount == null && timePeriodId == null && beginDate == null && endDate == null
+               && dateRangeReq == null;
+    }
+}
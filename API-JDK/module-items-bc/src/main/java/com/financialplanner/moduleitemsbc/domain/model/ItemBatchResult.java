@@ -0,0 +1,11 @@
+package com.financialplanner.moduleitemsbc.domain.model;
+
+import java.util.List;
+
+/**
+ * Per-id outcome of a batch update or delete.
+ *
+ * @param succeeded the ids that were updated or deleted, in request order
+ * @param notFound  the ids that do not exist or do not belong to the user, in request order
+ */
+public record ItemBatchResult(List<Long> succeeded, List<Long> notFound) {}
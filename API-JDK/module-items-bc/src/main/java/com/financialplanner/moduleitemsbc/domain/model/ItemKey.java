@@ -0,0 +1,12 @@
+package com.financialplanner.moduleitemsbc.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Identifies an item together with its owner.
+ *
+ * @param userId the owner of the item
+ * @param id     the item identifier
+ */
+public record ItemKey(UUID userId, Long id) {
+}
@@ -0,0 +1,23 @@
+package com.financialplanner.moduleitemsbc.domain.model;
+
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One page of items in {@code (user_id, id)} order, with the key of its last item when more follow.
+ *
+ * @param items      the items on this page
+ * @param nextUserId the user ID to continue after, or {@code null} on the last page
+ * @param nextId     the item id to continue after, or {@code null} on the last page
+ */
+public record ItemPage(List<Item> items, UUID nextUserId, Long nextId) {
+
+    /**
+     * Returns {@code true} when another page follows this one.
+     */
+    public boolean hasNext() {
+        return nextId != null;
+    }
+}
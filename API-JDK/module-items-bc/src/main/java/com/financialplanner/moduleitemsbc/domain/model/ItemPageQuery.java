@@ -0,0 +1,20 @@
+package com.financialplanner.moduleitemsbc.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Filters and keyset position for one page of items ordered by {@code (user_id, id)}.
+ * A {@code null} filter is not applied.
+ *
+ * @param userId       restricts the page to one user's items
+ * @param itemTypeId   restricts the page to one item type
+ * @param timePeriodId restricts the page to one time period
+ * @param from         keeps items whose date range ends on or after this day
+ * @param to           keeps items whose date range begins on or before this day
+ * @param afterUserId  the user ID of the last item of the previous page
+ * @param afterId      the id of the last item of the previous page; {@code null} for the first page
+ * @param limit        the maximum number of items on the page
+ */
+public record ItemPageQuery(UUID userId, Long itemTypeId, Long timePeriodId, LocalDate from, LocalDate to,
+                            UUID afterUserId, Long afterId, int limit) {}
@@ -0,0 +1,43 @@
+package com.financialplanner.moduleitemsbc.domain.model;
+
+/**
+ * The recurrence fields of an item as one immutable value. A {@code null} component means the field is unset.
+ * Persisted in compact form in the {@code schedule_rule} column, see {@code ScheduleRuleCodec}.
+ *
+ * @param weeklyDow         the day of the week for weekly occurrences
+ * @param everyOtherWeekDow the day of the week for bi-weekly occurrences
+ * @param biMonthlyDay1     the first day of the month for bi-monthly occurrences
+ * @param biMonthlyDay2     the second day of the month for bi-monthly occurrences
+ * @param monthlyDom        the day of the month for monthly occurrences
+ * @param quarterly1Month   the month of the first quarterly occurrence
+ * @param quarterly1Day     the day of the first quarterly occurrence
+ * @param quarterly2Month   the month of the second quarterly occurrence
+ * @param quarterly2Day     the day of the second quarterly occurrence
+ * @param quarterly3Month   the month of the third quarterly occurrence
+ * @param quarterly3Day     the day of the third quarterly occurrence
+ * @param quarterly4Month   the month of the fourth quarterly occurrence
+ * @param quarterly4Day     the day of the fourth quarterly occurrence
+ * @param semiAnnual1Month  the month of the first semi-annual occurrence
+ * @param semiAnnual1Day    the day of the first semi-annual occurrence
+ * @param semiAnnual2Month  the month of the second semi-annual occurrence
+ * @param semiAnnual2Day    the day of the second semi-annual occurrence
+ * @param annualMoy         the month of the year for annual occurrences
+ * @param annualDom         the day of the month for annual occurrences
+ * @param nthDow            the day of the week for nth-weekday occurrences
+ * @param nthIndex          the week index for nth-weekday occurrences
+ */
+public record ItemSchedule(Integer weeklyDow, Integer everyOtherWeekDow, Integer biMonthlyDay1, Integer biMonthlyDay2,
+                           Integer monthlyDom, Integer quarterly1Month, Integer quarterly1Day,
+                           Integer quarterly2Month, Integer quarterly2Day, Integer quarterly3Month,
+                           Integer quarterly3Day, Integer quarterly4Month, Integer quarterly4Day,
+                           Integer semiAnnual1Month, Integer semiAnnual1Day, Integer semiAnnual2Month,
+                           Integer semiAnnual2Day, Integer annualMoy, Integer annualDom, Integer nthDow,
+                           Integer nthIndex) {
+
+    /**
+     * The schedule with every field unset, as held by one-time and initial amount items.
+     */
+    public static final ItemSchedule NONE = new ItemSchedule(null, null, null, null, null, null, null, null, null,
+                                                             null, null, null, null, null, null, null, null, null,
+                                                             null, null, null);
+}
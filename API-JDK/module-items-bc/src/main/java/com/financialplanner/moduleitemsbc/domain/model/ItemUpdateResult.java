@@ -0,0 +1,12 @@
+package com.financialplanner.moduleitemsbc.domain.model;
+
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+
+/**
+ * Outcome of a single-statement item update.
+ *
+ * @param before  the item as it was before the update, read by the same statement
+ * @param version the new version of the item, or {@code null} if the expected version did not match and
+ *                nothing was written
+ */
+public record ItemUpdateResult(Item before, Long version) {}
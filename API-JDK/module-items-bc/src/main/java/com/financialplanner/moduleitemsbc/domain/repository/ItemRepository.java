@@ -1,10 +1,18 @@
 package com.financialplanner.moduleitemsbc.domain.repository;
 
+import com.financialplanner.moduleitemsbc.domain.model.InitialAmountResult;
+import com.financialplanner.moduleitemsbc.domain.model.ItemBatchPatch;
+import com.financialplanner.moduleitemsbc.domain.model.ItemKey;
+import com.financialplanner.moduleitemsbc.domain.model.ItemPageQuery;
+import com.financialplanner.moduleitemsbc.domain.model.ItemUpdateResult;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@code Item} entities.
@@ -14,8 +22,23 @@ import java.util.UUID;
 public interface ItemRepository {
     List<Item> findAll();
     Optional<Item> findById(Long id);
+    Optional<Item> findByUserIdAndId(UUID userId, Long id);
     List<Item> findByUserIdAndItemTypeId(UUID userId, Long itemTypeId);
     List<Item> findByUserId(UUID userId);
+    List<UUID> findUserIds();
+    Stream<Item> streamAll();
+    List<LedgerItemView> findLedgerItemsByUserId(UUID userId);
+    List<LedgerItemView> findLedgerItemsByUserIdInRange(UUID userId, LocalDate start, LocalDate end);
+    List<Item> findPage(ItemPageQuery query);
     Item save(Item entity);
-    void deleteById(Long id);
+    List<Long> insertAll(List<Item> entities);
+    Optional<ItemUpdateResult> updateIfVersion(Long id, Item entity, Long expectedVersion);
+    List<Long> updateAll(UUID userId, List<Long> ids, ItemBatchPatch patch);
+    List<Long> deleteAll(UUID userId, List<Long> ids);
+    List<ItemKey> archiveExpired(LocalDate cutoff, int limit);
+    List<Item> findArchivedByUserId(UUID userId);
+    Optional<Double> findInitialAmount(UUID userId);
+    InitialAmountResult upsertInitialAmount(Item entity);
+    Optional<Long> updateInitialAmount(Long id, Item entity);
+    Optional<Item> deleteById(UUID userId, Long id);
 }
@@ -13,8 +13,9 @@ import java.util.Optional;
  * - Retrieve all {@code ItemType} entities.
  * - Retrieve a specific {@code ItemType} entity by its ID.
  * - Retrieve a reference to an {@code ItemType} entity without fully loading it.
- * - Save a new or updated {@code ItemType} entity.
- * - Delete an {@code ItemType} entity by its ID.
+ * - Check whether an {@code ItemType} exists, or is still used by items, without loading it.
+ * - Save a new or updated {@code ItemType} entity, or upsert it with one idempotent write.
+ * - Delete an {@code ItemType} entity by its ID if it exists.
  * Usage:
  * - This interface is used by higher-level service layers or components that require
  * access to {@code ItemType} data and operations.
@@ -28,7 +29,10 @@ import java.util.Optional;
 public interface ItemTypeRepository {
     List<ItemType> findAll();
     Optional<ItemType> findById(Long id);
+    boolean existsById(Long id);
+    boolean isReferenced(Long id);
     ItemType getReferenceById(Long id);
     ItemType save(ItemType entity);
-    void deleteById(Long id);
+    void upsert(ItemType entity);
+    boolean deleteById(Long id);
 }
@@ -12,8 +12,9 @@ import java.util.Optional;
  * Responsibilities:
  * - Retrieve all {@code TimePeriod} entities.
  * - Retrieve a specific {@code TimePeriod} entity by its ID.
- * - Save a new or updated {@code TimePeriod} entity.
- * - Delete a {@code TimePeriod} entity by its ID.
+ * - Check whether a {@code TimePeriod} exists, or is still used by items, without loading it.
+ * - Save a new or updated {@code TimePeriod} entity, or upsert it with one idempotent write.
+ * - Delete a {@code TimePeriod} entity by its ID if it exists.
  * Usage:
  * - This interface is used within service layers or other components that require access
  * to {@code TimePeriod} data.
@@ -23,7 +24,10 @@ import java.util.Optional;
 public interface TimePeriodRepository {
     List<TimePeriod> findAll();
     Optional<TimePeriod> findById(Long id);
+    boolean existsById(Long id);
+    boolean isReferenced(Long id);
     TimePeriod getReferenceById(Long id);
     TimePeriod save(TimePeriod entity);
-    void deleteById(Long id);
+    void upsert(TimePeriod entity);
+    boolean deleteById(Long id);
 }
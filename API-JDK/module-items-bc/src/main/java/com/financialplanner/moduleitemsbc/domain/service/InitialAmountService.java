@@ -0,0 +1,17 @@
+package com.financialplanner.moduleitemsbc.domain.service;
+
+import com.financialplanner.moduleitemsbc.domain.model.InitialAmountResult;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Provides a service interface for a user's initial amount, the single item of type 3 that seeds the
+ * ledger's running total.
+ */
+public interface InitialAmountService {
+    Optional<Double> findAmount(UUID userId);
+    InitialAmountResult save(Item entity);
+    Item update(Long id, Item entity);
+}
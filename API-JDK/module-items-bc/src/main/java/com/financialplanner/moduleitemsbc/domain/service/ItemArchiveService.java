@@ -0,0 +1,11 @@
+package com.financialplanner.moduleitemsbc.domain.service;
+
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ItemArchiveService {
+    int archiveExpiredBatch();
+    List<Item> findArchivedByUserId(UUID userId);
+}
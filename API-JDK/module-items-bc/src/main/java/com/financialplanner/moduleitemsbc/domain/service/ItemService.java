@@ -1,10 +1,17 @@
 package com.financialplanner.moduleitemsbc.domain.service;
 
+import com.financialplanner.moduleitemsbc.domain.model.ItemBatchPatch;
+import com.financialplanner.moduleitemsbc.domain.model.ItemBatchResult;
+import com.financialplanner.moduleitemsbc.domain.model.ItemPage;
+import com.financialplanner.moduleitemsbc.domain.model.ItemPageQuery;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Provides a service interface for managing items.
@@ -14,10 +21,19 @@ import java.util.UUID;
  */
 public interface ItemService {
     List<Item> list();
-    Item get(Long id);
+    void forEachItem(Consumer<Item> action);
+    Item get(UUID userId, Long id);
+    ItemPage findPage(ItemPageQuery query);
     List<Item> findByUserIdAndItemTypeId(UUID userId, Long itemTypeId);
     List<Item> findByUserId(UUID userId);
+    List<UUID> findUserIds();
+    List<LedgerItemView> findLedgerItemsByUserId(UUID userId);
+    List<LedgerItemView> findLedgerItemsByUserIdInRange(UUID userId, LocalDate start, LocalDate end);
     Item create(Item entity);
+    List<Item> createAll(List<Item> entities);
     Item update(Long id, Item entity);
-    void delete(Long id);
+    Item update(Long id, Item entity, Long expectedVersion);
+    ItemBatchResult updateAll(UUID userId, List<Long> ids, ItemBatchPatch patch);
+    Item delete(UUID userId, Long id);
+    ItemBatchResult deleteAll(UUID userId, List<Long> ids);
 }
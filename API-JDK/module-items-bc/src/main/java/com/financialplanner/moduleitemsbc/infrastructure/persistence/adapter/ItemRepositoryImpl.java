@@ -1,18 +1,34 @@
 package com.financialplanner.moduleitemsbc.infrastructure.persistence.adapter;
 
+import com.financialplanner.modulecommonbc.exception.DomainValidationException;
 import com.financialplanner.modulecommonbc.exception.DuplicateItemException;
-import com.financialplanner.modulecommonbc.exception.ItemNotFoundException;
 import com.financialplanner.modulecommonbc.exception.RepositoryException;
+import com.financialplanner.modulecommonbc.sharding.ShardContext;
+import com.financialplanner.modulecommonbc.sharding.ShardRouter;
 import com.financialplanner.moduleitemsbc.domain.repository.ItemRepository;
+import com.financialplanner.moduleitemsbc.domain.model.InitialAmountResult;
+import com.financialplanner.moduleitemsbc.domain.model.ItemBatchPatch;
+import com.financialplanner.moduleitemsbc.domain.model.ItemKey;
+import com.financialplanner.moduleitemsbc.domain.model.ItemPageQuery;
+import com.financialplanner.moduleitemsbc.domain.model.ItemUpdateResult;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.ItemType;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.TimePeriod;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.repository.entity.JpaItemRepository;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.repository.entity.JpaItemTypeRepository;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.repository.entity.JpaTimePeriodRepository;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the {@link ItemRepository} interface for managing {@link Item} entities.
@@ -20,22 +36,51 @@ import java.util.UUID;
  * using the underlying {@link JpaItemRepository}.
  *
  * Responsibilities:
- * - Fetch all {@link Item} entities from the data source.
- * - Retrieve a specific {@link Item} by its unique identifier.
+ * - Fetch all {@link Item} entities from the data source, or stream them through a database cursor.
+ * - Retrieve a specific {@link Item} by its unique identifier, or by its owner and identifier on the owner's shard.
  * - Retrieve {@link Item} entities by user ID and item type ID.
  * - Retrieve all {@link Item} entities for a specific user.
- * - Save a new or updated {@link Item} entity to the data source.
- * - Delete an {@link Item} entity by its unique identifier.
+ * - Retrieve the read-only {@link LedgerItemView} projections for a specific user, optionally limited to a
+ *   ledger date window.
+ * - Retrieve filtered keyset pages of {@link Item} entities ordered by user ID and id; pages across all users
+ *   are merged from every shard.
+ * - Save a new or updated {@link Item} entity to the data source. Detached {@link ItemType} and {@link TimePeriod}
+ *   values (such as the reference data cache copies) are written as unloaded references, so the save does
+ *   not select them again.
+ * - Insert many new {@link Item} entities at once through multi-row JDBC inserts.
+ * - Update a single {@link Item} in one statement, optionally only if its version still matches, returning the
+ *   previous state.
+ * - Update or delete many of a user's {@link Item} entities with one set-based statement each.
+ * - Delete an {@link Item} entity by its owner and identifier in one statement on the owner's shard, returning
+ *   the deleted row.
+ * - Move expired {@link Item} entities to the archive table in bounded batches, and read a user's archived items.
+ * - Read a user's initial amount, insert or overwrite it in one upsert, or overwrite it by id.
  * - Handle exceptions during data access operations and provide meaningful error feedback.
+ *
+ * Calls that name a user are routed to that user's shard; pages across all users are merged from every shard,
+ * and the others (by id, all items, archiving) run on the shard of the caller's current {@link ShardContext}.
  */
 @Component
 public class ItemRepositoryImpl implements ItemRepository {
 
+    /**
+     * Keyset order of item pages, matching {@code order by user_id, id}.
+     */
+    private static final Comparator<Item> PAGE_ORDER =
+        Comparator.comparing(Item::getUserId, ItemRepositoryImpl::compareUuids).thenComparing(Item::getId);
+
     private final JpaItemRepository jpa;
+    private final JpaItemTypeRepository itemTypeJpa;
+    private final JpaTimePeriodRepository timePeriodJpa;
+    private final ShardRouter shardRouter;
 
     // Constructor
-    public ItemRepositoryImpl(JpaItemRepository jpa) {
-        this.jpa = jpa;
+    public ItemRepositoryImpl(JpaItemRepository jpa, JpaItemTypeRepository itemTypeJpa,
+                              JpaTimePeriodRepository timePeriodJpa, ShardRouter shardRouter) {
+        this.jpa           = jpa;
+        this.itemTypeJpa   = itemTypeJpa;
+        this.timePeriodJpa = timePeriodJpa;
+        this.shardRouter   = shardRouter;
     }
 
     @Override
@@ -56,9 +101,18 @@ public class ItemRepositoryImpl implements ItemRepository {
         }
     }
 
+    @Override
+    public Optional<Item> findByUserIdAndId(UUID userId, Long id) {
+        try (ShardContext.Scope shard = shardRouter.forUser(userId)) {
+            return jpa.findByUserIdAndId(userId, id);
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while fetching Item " + id, ex);
+        }
+    }
+
     @Override
     public List<Item> findByUserIdAndItemTypeId(UUID userId, Long itemTypeId) {
-        try {
+        try (ShardContext.Scope shard = shardRouter.forUser(userId)) {
             return jpa.findByUserIdAndItemTypeId(userId, itemTypeId);
         } catch (DataAccessException ex) {
             throw new RepositoryException("Database failure while fetching Items", ex);
@@ -67,7 +121,7 @@ public class ItemRepositoryImpl implements ItemRepository {
 
     @Override
     public List<Item> findByUserId(UUID userId) {
-        try {
+        try (ShardContext.Scope shard = shardRouter.forUser(userId)) {
             return jpa.findByUserId(userId);
         } catch (DataAccessException ex) {
             throw new RepositoryException("Database failure while fetching Items for user " + userId, ex);
@@ -75,23 +129,206 @@ public class ItemRepositoryImpl implements ItemRepository {
     }
 
     @Override
-    public Item save(Item entity) {
+    public List<UUID> findUserIds() {
+        try {
+            return jpa.findUserIds();
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while fetching Item owners", ex);
+        }
+    }
+
+    @Override
+    public Stream<Item> streamAll() {
+        try {
+            return jpa.streamAll();
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while streaming Items", ex);
+        }
+    }
+
+    @Override
+    public List<LedgerItemView> findLedgerItemsByUserId(UUID userId) {
+        try (ShardContext.Scope shard = shardRouter.forUser(userId)) {
+            return jpa.findLedgerItemsByUserId(userId);
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while fetching ledger Items for user " + userId, ex);
+        }
+    }
+
+    @Override
+    public List<LedgerItemView> findLedgerItemsByUserIdInRange(UUID userId, LocalDate start, LocalDate end) {
+        try (ShardContext.Scope shard = shardRouter.forUser(userId)) {
+            return jpa.findLedgerItemsByUserIdInRange(userId, start, end);
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while fetching ledger Items for user " + userId, ex);
+        }
+    }
+
+    @Override
+    public List<Item> findPage(ItemPageQuery query) {
+        if (query.userId() == null && shardRouter.isEnabled()) {
+            return findPageOnEveryShard(query);
+        }
+        try (ShardContext.Scope shard = shardRouter.forUser(query.userId())) {
+            return jpa.findPage(query);
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while fetching a page of Items", ex);
+        }
+    }
+
+    /**
+     * Reads an all-users page from every shard. Each shard holds whole users, so merging the shards' pages in
+     * {@code (user_id, id)} order and keeping the first {@code limit + 1} rows gives the page a single database
+     * would return, and the cursor of that page stays valid on every shard.
+     */
+    private List<Item> findPageOnEveryShard(ItemPageQuery query) {
+        List<Item> rows = new ArrayList<>();
         try {
-            return jpa.save(entity);
+            shardRouter.forEachShard(() -> rows.addAll(jpa.findPage(query)));
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while fetching a page of Items", ex);
+        }
+        rows.sort(PAGE_ORDER);
+        return rows.size() > query.limit() + 1 ? new ArrayList<>(rows.subList(0, query.limit() + 1)) : rows;
+    }
+
+    /**
+     * Compares uuids the way Postgres orders them, by their unsigned bytes, which {@link UUID#compareTo} does not.
+     */
+    private static int compareUuids(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    @Override
+    public Item save(Item entity) {
+        ItemType itemType = entity.getItemType();
+        TimePeriod timePeriod = entity.getTimePeriod();
+        try (ShardContext.Scope shard = shardRouter.forUser(entity.getUserId())) {
+            // Write the foreign keys through unloaded references instead of re-selecting the reference rows
+            if (itemType != null && itemType.getId() != null) {
+                entity.setItemType(itemTypeJpa.getReferenceById(itemType.getId()));
+            }
+            if (timePeriod != null && timePeriod.getId() != null) {
+                entity.setTimePeriod(timePeriodJpa.getReferenceById(timePeriod.getId()));
+            }
+            Item saved = jpa.save(entity);
+            saved.setItemType(itemType);
+            saved.setTimePeriod(timePeriod);
+            return saved;
         } catch (DataIntegrityViolationException ex) {
             throw new DuplicateItemException("Item already exists: " + entity.getId(), ex);
         } catch (DataAccessException ex) {
             throw new RepositoryException("Database failure while saving Item " + entity.getId(), ex);
+        } finally {
+            entity.setItemType(itemType);
+            entity.setTimePeriod(timePeriod);
         }
     }
 
     @Override
-    public void deleteById(Long id) {
+    public List<Long> insertAll(List<Item> entities) {
+        // One import is one transaction, which cannot span shards
+        if (entities.stream()
+                    .map(item -> shardRouter.shardFor(item.getUserId()))
+                    .distinct()
+                    .count() > 1) {
+            throw new DomainValidationException("Bulk import items must belong to users on the same shard");
+        }
+        try (ShardContext.Scope shard = shardRouter.forUser(entities.isEmpty() ? null : entities.get(0).getUserId())) {
+            return jpa.insertAll(entities);
+        } catch (DataIntegrityViolationException ex) {
+            throw new DomainValidationException("Bulk item import violates a data constraint");
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while importing " + entities.size() + " Items", ex);
+        }
+    }
+
+    @Override
+    public Optional<ItemUpdateResult> updateIfVersion(Long id, Item entity, Long expectedVersion) {
+        try (ShardContext.Scope shard = shardRouter.forUser(entity.getUserId())) {
+            return jpa.updateIfVersion(id, entity, expectedVersion);
+        } catch (DataIntegrityViolationException ex) {
+            throw new DomainValidationException("Item update violates a data constraint");
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while updating Item " + id, ex);
+        }
+    }
+
+    @Override
+    public List<Long> updateAll(UUID userId, List<Long> ids, ItemBatchPatch patch) {
+        try (ShardContext.Scope shard = shardRouter.forUser(userId)) {
+            return jpa.updateAll(userId, ids, patch);
+        } catch (DataIntegrityViolationException ex) {
+            throw new DomainValidationException("Batch item update violates a data constraint");
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while updating Items for user " + userId, ex);
+        }
+    }
+
+    @Override
+    public List<Long> deleteAll(UUID userId, List<Long> ids) {
+        try (ShardContext.Scope shard = shardRouter.forUser(userId)) {
+            return jpa.deleteAll(userId, ids);
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while deleting Items for user " + userId, ex);
+        }
+    }
+
+    @Override
+    public List<ItemKey> archiveExpired(LocalDate cutoff, int limit) {
         try {
-            if (!jpa.existsById(id)) {
-                throw new ItemNotFoundException("Item " + id + " not found");
-            }
-            jpa.deleteById(id);
+            return jpa.archiveExpired(cutoff, limit);
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while archiving Items expired before " + cutoff, ex);
+        }
+    }
+
+    @Override
+    public List<Item> findArchivedByUserId(UUID userId) {
+        try (ShardContext.Scope shard = shardRouter.forUser(userId)) {
+            return jpa.findArchivedByUserId(userId);
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while fetching archived Items for user " + userId, ex);
+        }
+    }
+
+    @Override
+    public Optional<Double> findInitialAmount(UUID userId) {
+        try (ShardContext.Scope shard = shardRouter.forUser(userId)) {
+            return jpa.findInitialAmount(userId);
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while fetching the initial amount for user " + userId, ex);
+        }
+    }
+
+    @Override
+    public InitialAmountResult upsertInitialAmount(Item entity) {
+        try (ShardContext.Scope shard = shardRouter.forUser(entity.getUserId())) {
+            return jpa.upsertInitialAmount(entity);
+        } catch (DataIntegrityViolationException ex) {
+            throw new DomainValidationException("Initial amount violates a data constraint");
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while saving the initial amount for user "
+                                          + entity.getUserId(), ex);
+        }
+    }
+
+    @Override
+    public Optional<Long> updateInitialAmount(Long id, Item entity) {
+        try (ShardContext.Scope shard = shardRouter.forUser(entity.getUserId())) {
+            return jpa.updateInitialAmount(id, entity);
+        } catch (DataIntegrityViolationException ex) {
+            throw new DomainValidationException("Initial amount update violates a data constraint");
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while updating initial amount " + id, ex);
+        }
+    }
+
+    @Override
+    public Optional<Item> deleteById(UUID userId, Long id) {
+        try (ShardContext.Scope shard = shardRouter.forUser(userId)) {
+            return jpa.deleteByIdReturning(userId, id);
         } catch (DataIntegrityViolationException ex) {
             throw new RepositoryException("Constraint violation while deleting Item " + id, ex);
         } catch (DataAccessException ex) {
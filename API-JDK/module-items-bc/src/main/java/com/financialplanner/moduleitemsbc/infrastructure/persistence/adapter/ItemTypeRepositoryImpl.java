@@ -1,7 +1,7 @@
 package com.financialplanner.moduleitemsbc.infrastructure.persistence.adapter;
 
 import com.financialplanner.modulecommonbc.exception.DuplicateItemException;
-import com.financialplanner.modulecommonbc.exception.ItemNotFoundException;
+import com.financialplanner.modulecommonbc.exception.DomainValidationException;
 import com.financialplanner.modulecommonbc.exception.RepositoryException;
 import com.financialplanner.moduleitemsbc.domain.repository.ItemTypeRepository;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.ItemType;
@@ -23,11 +23,12 @@ import java.util.Optional;
  * - Retrieve all {@code ItemType} entities from the database
  * - Retrieve an {@code ItemType} by its unique identifier
  * - Obtain a reference to an {@code ItemType} without initialization
- * - Save a new or updated {@code ItemType} into the database
- * - Delete an {@code ItemType} by its unique identifier
+ * - Check that an {@code ItemType} exists, or is still used by items, without loading it
+ * - Save a new or updated {@code ItemType} into the database, or upsert it in one idempotent statement
+ * - Delete an {@code ItemType} by its unique identifier if it exists
  * Custom exceptions ({@code RepositoryException}, {@code DuplicateItemException},
- * and {@code ItemNotFoundException}) are thrown to encapsulate database errors,
- * constraint violations, and cases where specific items are not found.
+ * and {@code DomainValidationException}) are thrown to encapsulate database errors
+ * and constraint violations.
  * This class is annotated with {@code @Component} to enable Spring's
  * component-scanning mechanism to detect and register it as a bean.
  */
@@ -74,6 +75,24 @@ public class ItemTypeRepositoryImpl implements ItemTypeRepository {
         }
     }
 
+    @Override
+    public boolean existsById(Long id) {
+        try {
+            return jpa.existsById(id);
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while fetching ItemType " + id, ex);
+        }
+    }
+
+    @Override
+    public boolean isReferenced(Long id) {
+        try {
+            return jpa.isReferenced(id);
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while checking Items of ItemType " + id, ex);
+        }
+    }
+
     @Override
     public ItemType save(ItemType entity) {
         try {
@@ -85,13 +104,31 @@ public class ItemTypeRepositoryImpl implements ItemTypeRepository {
         }
     }
 
+    /**
+     * Inserts the {@code ItemType} or overwrites its name in one {@code INSERT ... ON CONFLICT DO UPDATE}
+     * statement, so repeating the write is harmless.
+     * @param entity the {@code ItemType} to write
+     */
+    @Override
+    public void upsert(ItemType entity) {
+        try {
+            jpa.upsert(entity.getId(), entity.getName());
+        } catch (DataIntegrityViolationException ex) {
+            throw new DomainValidationException("ItemType " + entity.getId() + " violates a data constraint");
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while saving ItemType " + entity.getId(), ex);
+        }
+    }
+
+    /**
+     * Deletes the {@code ItemType} with the given ID if it exists, so repeating the delete is harmless.
+     * @param id the unique identifier of the {@code ItemType} to delete
+     * @return {@code true} if a row was deleted
+     */
     @Override
-    public void deleteById(Long id) {
+    public boolean deleteById(Long id) {
         try {
-            if (!jpa.existsById(id)) {
-                throw new ItemNotFoundException("ItemType " + id + " not found");
-            }
-            jpa.deleteById(id);
+            return jpa.deleteIfExists(id) > 0;
         } catch (DataIntegrityViolationException ex) {
             throw new RepositoryException("Constraint violation while deleting ItemType " + id, ex);
         } catch (DataAccessException ex) {
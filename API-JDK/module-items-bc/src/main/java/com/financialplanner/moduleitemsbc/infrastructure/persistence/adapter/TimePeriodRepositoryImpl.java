@@ -1,7 +1,7 @@
 package com.financialplanner.moduleitemsbc.infrastructure.persistence.adapter;
 
 import com.financialplanner.modulecommonbc.exception.DuplicateItemException;
-import com.financialplanner.modulecommonbc.exception.ItemNotFoundException;
+import com.financialplanner.modulecommonbc.exception.DomainValidationException;
 import com.financialplanner.modulecommonbc.exception.RepositoryException;
 import com.financialplanner.moduleitemsbc.domain.repository.TimePeriodRepository;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.TimePeriod;
@@ -31,7 +31,10 @@ import java.util.Optional;
  * entity by its ID without fully loading it.
  * - {@code save(TimePeriod timePeriod)}: Persists a new or updated {@code TimePeriod}
  * entity to the database.
- * - {@code deleteById(Long id)}: Deletes a {@code TimePeriod} entity by its unique ID.
+ * - {@code existsById(Long id)} / {@code isReferenced(Long id)}: Checks that a {@code TimePeriod} exists, or is
+ *   still used by items, without loading it.
+ * - {@code upsert(TimePeriod timePeriod)}: Inserts or overwrites a {@code TimePeriod} in one idempotent statement.
+ * - {@code deleteById(Long id)}: Deletes a {@code TimePeriod} entity by its unique ID if it exists.
  * Error Handling:
  * - Translates database-specific exceptions (e.g., {@code DataAccessException},
  * {@code DataIntegrityViolationException}) into domain-specific exceptions.
@@ -72,6 +75,24 @@ public class TimePeriodRepositoryImpl implements TimePeriodRepository {
         }
     }
 
+    @Override
+    public boolean existsById(Long id) {
+        try {
+            return jpa.existsById(id);
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while fetching TimePeriod " + id, ex);
+        }
+    }
+
+    @Override
+    public boolean isReferenced(Long id) {
+        try {
+            return jpa.isReferenced(id);
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while checking Items of TimePeriod " + id, ex);
+        }
+    }
+
     @Override
     public TimePeriod save(TimePeriod timePeriod) {
         try {
@@ -83,13 +104,31 @@ public class TimePeriodRepositoryImpl implements TimePeriodRepository {
         }
     }
 
+    /**
+     * Inserts the {@code TimePeriod} or overwrites its name in one {@code INSERT ... ON CONFLICT DO UPDATE}
+     * statement, so repeating the write is harmless.
+     * @param timePeriod the {@code TimePeriod} to write
+     */
+    @Override
+    public void upsert(TimePeriod timePeriod) {
+        try {
+            jpa.upsert(timePeriod.getId(), timePeriod.getName());
+        } catch (DataIntegrityViolationException ex) {
+            throw new DomainValidationException("TimePeriod " + timePeriod.getId() + " violates a data constraint");
+        } catch (DataAccessException ex) {
+            throw new RepositoryException("Database failure while saving TimePeriod " + timePeriod.getId(), ex);
+        }
+    }
+
+    /**
+     * Deletes the {@code TimePeriod} with the given ID if it exists, so repeating the delete is harmless.
+     * @param id the unique identifier of the {@code TimePeriod} to delete
+     * @return {@code true} if a row was deleted
+     */
     @Override
-    public void deleteById(Long id) {
+    public boolean deleteById(Long id) {
         try {
-            if (!jpa.existsById(id)) {
-                throw new ItemNotFoundException("TimePeriod " + id + " not found");
-            }
-            jpa.deleteById(id);
+            return jpa.deleteIfExists(id) > 0;
         } catch (DataIntegrityViolationException ex) {
             throw new RepositoryException("Constraint violation while deleting TimePeriod " + id, ex);
         } catch (DataAccessException ex) {
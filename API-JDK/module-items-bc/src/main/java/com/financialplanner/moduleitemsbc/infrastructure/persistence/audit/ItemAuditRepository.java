@@ -0,0 +1,45 @@
+package com.financialplanner.moduleitemsbc.infrastructure.persistence.audit;
+
+import com.financialplanner.moduleitemsbc.domain.model.ItemAuditEntry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * JDBC access to the append-only {@code item_audit_log} table. Entries are only ever inserted, on the shard
+ * of the caller's current routing.
+ */
+@Repository
+public class ItemAuditRepository {
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = """
+        insert into fpfl.item_audit_log (changed_at, user_id, item_id, action, version, amount_before, amount_after)
+        values (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbc;
+
+    public ItemAuditRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * Inserts the entries as one JDBC batch per {@value #INSERT_BATCH_SIZE} rows.
+     */
+    public void insertAll(List<ItemAuditEntry> entries) {
+        jdbc.batchUpdate(INSERT_SQL, entries, INSERT_BATCH_SIZE, (ps, e) -> {
+            ps.setTimestamp(1, Timestamp.from(e.changedAt()));
+            ps.setObject(2, e.userId(), Types.OTHER);
+            ps.setLong(3, e.itemId());
+            ps.setString(4, e.action().name());
+            ps.setObject(5, e.version(), Types.BIGINT);
+            ps.setObject(6, e.amountBefore(), Types.DOUBLE);
+            ps.setObject(7, e.amountAfter(), Types.DOUBLE);
+        });
+    }
+}
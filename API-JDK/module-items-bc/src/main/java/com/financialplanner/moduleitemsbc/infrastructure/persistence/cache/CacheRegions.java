@@ -0,0 +1,21 @@
+package com.financialplanner.moduleitemsbc.infrastructure.persistence.cache;
+
+/**
+ * Names of the Hibernate second-level cache regions of the items context. Each region is a bounded cache
+ * configured in {@code hibernate-cache.conf}.
+ */
+public final class CacheRegions {
+
+    /**
+     * The {@code ItemType} and {@code TimePeriod} rows.
+     */
+    public static final String REFERENCE_DATA = "reference-data";
+
+    /**
+     * The per-user item list query results.
+     */
+    public static final String ITEM_LISTS = "item-lists";
+
+    private CacheRegions() {
+    }
+}
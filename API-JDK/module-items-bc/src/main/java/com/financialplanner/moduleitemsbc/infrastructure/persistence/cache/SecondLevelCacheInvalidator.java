@@ -0,0 +1,64 @@
+package com.financialplanner.moduleitemsbc.infrastructure.persistence.cache;
+
+import com.financialplanner.modulecommonbc.invalidation.CacheInvalidation;
+import com.financialplanner.modulecommonbc.invalidation.CacheInvalidationListener;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.ItemType;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.TimePeriod;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts the second-level cache entries that Hibernate cannot invalidate by itself.
+ * Writes through the persistence context invalidate the item list results on their own, but the JDBC
+ * write paths bypass it and other nodes write to the same tables. Cached lists carry no owner that could
+ * be evicted alone, so any such item write drops the whole {@link CacheRegions#ITEM_LISTS} region.
+ */
+@Component
+public class SecondLevelCacheInvalidator implements CacheInvalidationListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Evicts the item lists now and again when the current transaction completes, so a list read by a
+     * concurrent transaction before the commit is not served afterwards.
+     */
+    public void evictAfterWrite() {
+        evictItemLists();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictItemLists();
+                }
+            });
+        }
+    }
+
+    /**
+     * Evicts the entries another node reported as changed.
+     */
+    @Override
+    public void onInvalidation(CacheInvalidation invalidation) {
+        switch (invalidation.kind()) {
+            case ITEMS -> evictItemLists();
+            case ITEM_TYPES -> cache().evictEntityData(ItemType.class);
+            case TIME_PERIODS -> cache().evictEntityData(TimePeriod.class);
+        }
+    }
+
+    private void evictItemLists() {
+        cache().evictQueryRegion(CacheRegions.ITEM_LISTS);
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.getCache()
+                                   .unwrap(Cache.class);
+    }
+}
@@ -0,0 +1,177 @@
+package com.financialplanner.moduleitemsbc.infrastructure.persistence.converter;
+
+import com.financialplanner.moduleitemsbc.domain.model.ItemSchedule;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encoder and parser for the compact {@code schedule_rule} form of an {@link ItemSchedule}.
+ *
+ * A rule is a {@code ;}-separated list of groups. Each group is a one-letter tag followed by its fields,
+ * comma separated, with an empty field for an unset value; a group whose fields are all unset is left out,
+ * so an item without a schedule encodes to the empty string. Groups appear in this order:
+ * <ul>
+ *   <li>{@code W} weekly day of week</li>
+ *   <li>{@code E} every-other-week day of week</li>
+ *   <li>{@code B} bi-monthly day 1, day 2</li>
+ *   <li>{@code M} monthly day of month</li>
+ *   <li>{@code Q} quarterly month and day, four times</li>
+ *   <li>{@code S} semi-annual month and day, twice</li>
+ *   <li>{@code A} annual month, day</li>
+ *   <li>{@code N} nth-weekday day of week, index</li>
+ * </ul>
+ * For example a monthly item on the 31st is {@code M31} and a bi-monthly item on the 1st and 15th is
+ * {@code B1,15}. Migration {@code V6} produces the same text in SQL for existing rows.
+ *
+ * Items repeat a small set of schedules, so parsed rules are cached and shared; decoding a known rule is a
+ * single map lookup.
+ */
+public final class ScheduleRuleCodec {
+
+    private static final String TAGS = "WEBMQSAN";
+    private static final int[] ARITY = {1, 1, 2, 1, 8, 4, 2, 2};
+    private static final int FIELD_COUNT = 21;
+
+    /**
+     * Upper bound on cached rules; rules beyond it are parsed on every read instead of evicting others.
+     */
+    private static final int MAX_CACHED_RULES = 10_000;
+
+    private static final Map<String, ItemSchedule> CACHE = new ConcurrentHashMap<>();
+
+    private ScheduleRuleCodec() {}
+
+    /**
+     * Encodes the schedule in its compact form.
+     *
+     * @param schedule the schedule, {@code null} for none
+     * @return the rule, empty when no field is set
+     */
+    public static String encode(ItemSchedule schedule) {
+        if (schedule == null) {
+            return "";
+        }
+        Integer[] fields = fields(schedule);
+        StringBuilder rule = new StringBuilder(16);
+        int from = 0;
+        for (int g = 0; g < ARITY.length; g++) {
+            int to = from + ARITY[g];
+            if (anySet(fields, from, to)) {
+                if (!rule.isEmpty()) {
+                    rule.append(';');
+                }
+                rule.append(TAGS.charAt(g));
+                for (int f = from; f < to; f++) {
+                    if (f > from) {
+                        rule.append(',');
+                    }
+                    if (fields[f] != null) {
+                        rule.append(fields[f].intValue());
+                    }
+                }
+            }
+            from = to;
+        }
+        return rule.toString();
+    }
+
+    /**
+     * Parses a rule produced by {@link #encode(ItemSchedule)}.
+     *
+     * @param rule the rule, {@code null} or empty for none
+     * @return the schedule; {@link ItemSchedule#NONE} for an empty rule
+     * @throws IllegalArgumentException if the rule is malformed
+     */
+    public static ItemSchedule decode(String rule) {
+        if (rule == null || rule.isEmpty()) {
+            return ItemSchedule.NONE;
+        }
+        ItemSchedule cached = CACHE.get(rule);
+        if (cached != null) {
+            return cached;
+        }
+        ItemSchedule schedule = parse(rule);
+        if (CACHE.size() < MAX_CACHED_RULES) {
+            CACHE.putIfAbsent(rule, schedule);
+        }
+        return schedule;
+    }
+
+    private static ItemSchedule parse(String rule) {
+        Integer[] fields = new Integer[FIELD_COUNT];
+        int pos = 0;
+        int lastGroup = -1;
+        int len = rule.length();
+        while (pos < len) {
+            int group = TAGS.indexOf(rule.charAt(pos));
+            if (group <= lastGroup) {
+                throw invalid(rule);
+            }
+            lastGroup = group;
+            pos++;
+
+            int field = offset(group);
+            for (int k = 0; k < ARITY[group]; k++) {
+                if (k > 0) {
+                    if (pos >= len || rule.charAt(pos) != ',') {
+                        throw invalid(rule);
+                    }
+                    pos++;
+                }
+                int end = pos;
+                while (end < len && rule.charAt(end) != ',' && rule.charAt(end) != ';') {
+                    end++;
+                }
+                if (end > pos) {
+                    try {
+                        fields[field + k] = Integer.parseInt(rule, pos, end, 10);
+                    } catch (NumberFormatException ex) {
+                        throw invalid(rule);
+                    }
+                }
+                pos = end;
+            }
+
+            if (pos < len) {
+                if (rule.charAt(pos) != ';' || pos + 1 == len) {
+                    throw invalid(rule);
+                }
+                pos++;
+            }
+        }
+        return new ItemSchedule(fields[0], fields[1], fields[2], fields[3], fields[4], fields[5], fields[6],
+                                fields[7], fields[8], fields[9], fields[10], fields[11], fields[12], fields[13],
+                                fields[14], fields[15], fields[16], fields[17], fields[18], fields[19], fields[20]);
+    }
+
+    private static Integer[] fields(ItemSchedule s) {
+        return new Integer[] {
+            s.weeklyDow(), s.everyOtherWeekDow(), s.biMonthlyDay1(), s.biMonthlyDay2(), s.monthlyDom(),
+            s.quarterly1Month(), s.quarterly1Day(), s.quarterly2Month(), s.quarterly2Day(),
+            s.quarterly3Month(), s.quarterly3Day(), s.quarterly4Month(), s.quarterly4Day(),
+            s.semiAnnual1Month(), s.semiAnnual1Day(), s.semiAnnual2Month(), s.semiAnnual2Day(),
+            s.annualMoy(), s.annualDom(), s.nthDow(), s.nthIndex()};
+    }
+
+    private static int offset(int group) {
+        int offset = 0;
+        for (int g = 0; g < group; g++) {
+            offset += ARITY[g];
+        }
+        return offset;
+    }
+
+    private static boolean anySet(Integer[] fields, int from, int to) {
+        for (int f = from; f < to; f++) {
+            if (fields[f] != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static IllegalArgumentException invalid(String rule) {
+        return new IllegalArgumentException("Invalid schedule rule: " + rule);
+    }
+}
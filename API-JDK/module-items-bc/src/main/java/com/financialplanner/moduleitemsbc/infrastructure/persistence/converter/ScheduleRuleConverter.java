@@ -0,0 +1,23 @@
+package com.financialplanner.moduleitemsbc.infrastructure.persistence.converter;
+
+import com.financialplanner.moduleitemsbc.domain.model.ItemSchedule;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps an {@link ItemSchedule} to and from its compact {@code schedule_rule} text through
+ * {@link ScheduleRuleCodec}. A missing schedule is stored as the empty rule.
+ */
+@Converter
+public class ScheduleRuleConverter implements AttributeConverter<ItemSchedule, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ItemSchedule schedule) {
+        return ScheduleRuleCodec.encode(schedule);
+    }
+
+    @Override
+    public ItemSchedule convertToEntityAttribute(String rule) {
+        return ScheduleRuleCodec.decode(rule);
+    }
+}
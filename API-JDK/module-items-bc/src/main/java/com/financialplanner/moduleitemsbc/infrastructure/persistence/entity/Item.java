@@ -1,7 +1,10 @@
 package com.financialplanner.moduleitemsbc.infrastructure.persistence.entity;
 
+import com.financialplanner.moduleitemsbc.domain.model.ItemSchedule;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.converter.ScheduleRuleConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.util.UUID;
@@ -9,7 +12,8 @@ import java.util.UUID;
 /**
  * Represents an item entity with associated details including user information,
  * monetary amount, item type, time periods, and various date or recurrence configurations.
- * This entity is mapped to the "items" table in the "fpfl" database schema.
+ * This entity is mapped to the "items" table in the "fpfl" database schema, which is hash-partitioned
+ * on {@code user_id}; queries that filter on the user are pruned to a single partition.
  * It includes various attributes and relationships to define the characteristics
  * and scheduling of an item.
  * Key characteristics include:
@@ -17,13 +21,18 @@ import java.util.UUID;
  * - Attributes for tracking monetary amounts, names, and type relationships.
  * - Date and recurrence configurations for diverse time periods.
  * - Boolean flag to indicate if a date range is required.
+ * - The recurrence fields in compact form ({@code schedule_rule}), kept in step with the sparse columns.
  * Entity relationships:
  * - Many-to-one relationship with the {@link ItemType} entity.
  * - Many-to-one relationship with the {@link TimePeriod} entity.
  */
 @lombok.Data
 @Entity
-@Table(name = "items", schema = "fpfl")
+@Table(name = "items", schema = "fpfl", indexes = {
+    @Index(name = "ix_items_user_id_begin_date", columnList = "user_id, begin_date"),
+    @Index(name = "ix_items_user_id_end_date", columnList = "user_id, end_date"),
+    @Index(name = "ix_items_id", columnList = "id")
+})
 public class Item {
 
     @Id
@@ -141,8 +150,45 @@ public class Item {
     @Column(name = "date_range_req", nullable = false)
     private Boolean DateRangeReq = false;
 
+    /**
+     * The recurrence fields above in compact form, stored in the "schedule_rule" column. Derived from the
+     * sparse columns on every insert and update rather than set directly, so readers that only need the
+     * schedule, such as the ledger projection, can load one short column and reuse the cached parse.
+     */
+    @lombok.Setter(lombok.AccessLevel.NONE)
+    @Convert(converter = ScheduleRuleConverter.class)
+    @Column(name = "schedule_rule", nullable = false, columnDefinition = "text")
+    private ItemSchedule Schedule = ItemSchedule.NONE;
+
+    /**
+     * Optimistic-lock version, incremented by every update. Exposed to clients as the item's ETag so that
+     * conditional updates ({@code If-Match}) can detect concurrent modifications.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long Version;
+
     public Item() {}
 
+    /**
+     * Returns the current recurrence fields as one value.
+     *
+     * @return the schedule built from the sparse recurrence fields
+     */
+    public ItemSchedule schedule() {
+        return new ItemSchedule(WeeklyDow, EveryOtherWeekDow, BiMonthlyDay1, BiMonthlyDay2, MonthlyDom,
+                                Quarterly1Month, Quarterly1Day, Quarterly2Month, Quarterly2Day, Quarterly3Month,
+                                Quarterly3Day, Quarterly4Month, Quarterly4Day, SemiAnnual1Month, SemiAnnual1Day,
+                                SemiAnnual2Month, SemiAnnual2Day, AnnualMoy, AnnualDom, NthDow, NthIndex);
+    }
+
+    @PrePersist
+    @PreUpdate
+    void syncSchedule() {
+        Schedule = schedule();
+    }
+
     /**
      * Constructs an Item with the specified parameters intended for use in creating and updating specific type of
      * item, InitialAmount. This version of Item can only have one entry and only needs the parameters listed below.
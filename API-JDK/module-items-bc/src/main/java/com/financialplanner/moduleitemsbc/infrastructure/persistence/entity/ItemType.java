@@ -1,18 +1,26 @@
 package com.financialplanner.moduleitemsbc.infrastructure.persistence.entity;
 
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.cache.CacheRegions;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Represents an entity for item types in the financial planner system.
  * This class is mapped to the "item_types" table within the "fpfl" schema.
  * It holds the identifier and name of the item type.
+ * Rows are kept in the second-level cache, so the eager association from {@code Item} is resolved without
+ * a query; writes through Hibernate evict the cached row.
  */
 @lombok.Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = CacheRegions.REFERENCE_DATA)
 @Table(name = "item_types", schema = "fpfl")
 public class ItemType {
 
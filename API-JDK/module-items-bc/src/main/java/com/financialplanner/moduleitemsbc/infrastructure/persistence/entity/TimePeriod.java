@@ -1,18 +1,26 @@
 package com.financialplanner.moduleitemsbc.infrastructure.persistence.entity;
 
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.cache.CacheRegions;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Represents a time period entity with a unique identifier and a name.
  * This entity is mapped to the "time_periods" table in the "fpfl" schema.
  * It is used to store information about specific time periods in the system.
+ * Rows are kept in the second-level cache, so the eager association from {@code Item} is resolved without
+ * a query; writes through Hibernate evict the cached row.
  */
 @lombok.Data
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = CacheRegions.REFERENCE_DATA)
 @Table(name = "time_periods", schema = "fpfl")
 public class TimePeriod {
 
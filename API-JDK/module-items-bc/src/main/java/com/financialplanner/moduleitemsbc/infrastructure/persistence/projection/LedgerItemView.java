@@ -0,0 +1,63 @@
+package com.financialplanner.moduleitemsbc.infrastructure.persistence.projection;
+
+import com.financialplanner.moduleitemsbc.domain.model.ItemSchedule;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Immutable, read-only projection of an {@code Item} carrying only what ledger expansion needs:
+ * identity, amount, the item type and time period foreign keys, and the scheduling columns. The display names
+ * of the type and period are not part of the projection; the ledger mapper resolves them from the ids.
+ * It is populated directly by a JPQL constructor expression, so no entities are hydrated, snapshotted
+ * for dirty checking or held in the persistence context.
+ * The query selects the compact schedule rule, which is parsed once per distinct rule and spread into the
+ * scheduling components by the {@link ItemSchedule} constructor.
+ */
+public record LedgerItemView(
+    Long id,
+    UUID userId,
+    String name,
+    Double amount,
+    Long itemTypeId,
+    Long timePeriodId,
+    LocalDate beginDate,
+    LocalDate endDate,
+    Integer weeklyDow,
+    Integer everyOtherWeekDow,
+    Integer biMonthlyDay1,
+    Integer biMonthlyDay2,
+    Integer monthlyDom,
+    Integer quarterly1Month,
+    Integer quarterly1Day,
+    Integer quarterly2Month,
+    Integer quarterly2Day,
+    Integer quarterly3Month,
+    Integer quarterly3Day,
+    Integer quarterly4Month,
+    Integer quarterly4Day,
+    Integer semiAnnual1Month,
+    Integer semiAnnual1Day,
+    Integer semiAnnual2Month,
+    Integer semiAnnual2Day,
+    Integer annualMoy,
+    Integer annualDom,
+    Integer nthDow,
+    Integer nthIndex,
+    Boolean dateRangeReq
+) {
+
+    /**
+     * Creates the projection from a decoded schedule, as selected by the ledger queries.
+     */
+    public LedgerItemView(Long id, UUID userId, String name, Double amount, Long itemTypeId, Long timePeriodId,
+                          LocalDate beginDate, LocalDate endDate, ItemSchedule schedule, Boolean dateRangeReq) {
+        this(id, userId, name, amount, itemTypeId, timePeriodId, beginDate, endDate,
+             schedule.weeklyDow(), schedule.everyOtherWeekDow(), schedule.biMonthlyDay1(), schedule.biMonthlyDay2(),
+             schedule.monthlyDom(), schedule.quarterly1Month(), schedule.quarterly1Day(), schedule.quarterly2Month(),
+             schedule.quarterly2Day(), schedule.quarterly3Month(), schedule.quarterly3Day(),
+             schedule.quarterly4Month(), schedule.quarterly4Day(), schedule.semiAnnual1Month(),
+             schedule.semiAnnual1Day(), schedule.semiAnnual2Month(), schedule.semiAnnual2Day(),
+             schedule.annualMoy(), schedule.annualDom(), schedule.nthDow(), schedule.nthIndex(), dateRangeReq);
+    }
+}
@@ -1,9 +1,18 @@
 package com.financialplanner.moduleitemsbc.infrastructure.persistence.repository.custom;
 
+import com.financialplanner.moduleitemsbc.domain.model.InitialAmountResult;
+import com.financialplanner.moduleitemsbc.domain.model.ItemBatchPatch;
+import com.financialplanner.moduleitemsbc.domain.model.ItemKey;
+import com.financialplanner.moduleitemsbc.domain.model.ItemPageQuery;
+import com.financialplanner.moduleitemsbc.domain.model.ItemUpdateResult;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Custom repository interface for executing complex or non-standard queries
@@ -13,5 +22,21 @@ import java.util.UUID;
 public interface JpaItemRepositoryCustom {
     List<Item> findByUserIdAndItemTypeId(UUID userId, Long itemTypeId);
     List<Item> findByUserId(UUID userId);
+    List<UUID> findUserIds();
+    Stream<Item> streamAll();
+    List<LedgerItemView> findLedgerItemsByUserId(UUID userId);
+    List<LedgerItemView> findLedgerItemsByUserIdInRange(UUID userId, LocalDate start, LocalDate end);
+    List<Item> findPage(ItemPageQuery query);
+    List<Long> insertAll(List<Item> items);
+    Optional<ItemUpdateResult> updateIfVersion(Long id, Item entity, Long expectedVersion);
+    Optional<Item> findByUserIdAndId(UUID userId, Long id);
+    Optional<Item> deleteByIdReturning(UUID userId, Long id);
+    List<Long> updateAll(UUID userId, List<Long> ids, ItemBatchPatch patch);
+    List<Long> deleteAll(UUID userId, List<Long> ids);
+    List<ItemKey> archiveExpired(LocalDate cutoff, int limit);
+    List<Item> findArchivedByUserId(UUID userId);
+    Optional<Double> findInitialAmount(UUID userId);
+    InitialAmountResult upsertInitialAmount(Item entity);
+    Optional<Long> updateInitialAmount(Long id, Item entity);
 }
 
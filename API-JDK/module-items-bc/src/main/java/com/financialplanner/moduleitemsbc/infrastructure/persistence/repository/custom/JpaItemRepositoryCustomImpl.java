@@ -1,27 +1,260 @@
 package com.financialplanner.moduleitemsbc.infrastructure.persistence.repository.custom;
 
+import com.financialplanner.moduleitemsbc.domain.model.InitialAmountResult;
+import com.financialplanner.moduleitemsbc.domain.model.ItemBatchPatch;
+import com.financialplanner.moduleitemsbc.domain.model.ItemKey;
+import com.financialplanner.moduleitemsbc.domain.model.ItemPageQuery;
+import com.financialplanner.moduleitemsbc.domain.model.ItemUpdateResult;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.cache.CacheRegions;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.cache.SecondLevelCacheInvalidator;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.converter.ScheduleRuleCodec;
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.Item;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.ItemType;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.TimePeriod;
+import com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the {@code JpaItemRepositoryCustom} interface. Provides
  * custom query methods for retrieving {@link Item} entities based on specific
  * criteria.
+ * The per-user item lists are served from the Hibernate query cache. The JDBC writes bypass the persistence
+ * context, so each of them evicts the cached lists itself.
+ * A user's initial amount is written with a single upsert arbitrated by the unique initial amount index.
  */
 @Component
 public class JpaItemRepositoryCustomImpl implements JpaItemRepositoryCustom {
 
+    /**
+     * Constructor expression selecting only the ledger columns. The recurrence fields are read from the compact
+     * schedule rule rather than the 21 sparse columns. The item type and time period are read as their foreign
+     * key columns, so neither reference table is joined; a missing time period simply selects null.
+     */
+    private static final String LEDGER_ITEMS_SELECT = """
+        select new com.financialplanner.moduleitemsbc.infrastructure.persistence.projection.LedgerItemView(
+            i.Id, i.UserId, i.Name, i.Amount, i.ItemType.Id, i.TimePeriod.Id,
+            i.BeginDate, i.EndDate, i.Schedule, i.DateRangeReq)
+        from Item i
+        """;
+
+    private static final String LEDGER_ITEMS_JPQL = LEDGER_ITEMS_SELECT + "where i.UserId = :userId";
+
+    private static final String USER_IDS_JPQL = "select distinct i.UserId from Item i order by i.UserId";
+
+    /**
+     * Full-table read in primary key order, fetching the reference data with each row instead of per item.
+     */
+    private static final String STREAM_ALL_JPQL = """
+        select i from Item i
+        join fetch i.ItemType
+        left join fetch i.TimePeriod
+        order by i.Id
+        """;
+
+    /**
+     * Keyset page read; the filters of the request are appended as a where clause.
+     */
+    private static final String PAGE_SELECT = """
+        select i from Item i
+        join fetch i.ItemType
+        left join fetch i.TimePeriod""";
+
+    /**
+     * Rows the JDBC driver buffers per round trip while a full-table read is streamed.
+     */
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * Ledger projection restricted to items that can produce an occurrence in {@code [:start, :end]}.
+     * Mirrors the expanders: the initial amount (type 3) never occurs and is read separately;
+     * one-time items (period 1 or no period) occur only on their begin date; recurring items are dropped
+     * only when they request a date range with both bounds set and that range misses the window.
+     */
+    private static final String LEDGER_ITEMS_IN_RANGE_JPQL = LEDGER_ITEMS_SELECT + """
+        where i.UserId = :userId
+          and i.ItemType.Id <> 3
+          and (((i.TimePeriod.Id is null or i.TimePeriod.Id = 1) and i.BeginDate between :start and :end)
+               or (i.TimePeriod.Id <> 1 and (i.DateRangeReq = false
+                                            or i.BeginDate is null
+                                            or i.EndDate is null
+                                            or (i.BeginDate <= :end and i.EndDate >= :start))))
+        """;
+
+    /**
+     * Insert column list for bulk imports; {@code id} is left to the identity default.
+     */
+    private static final String BULK_INSERT_COLUMNS = """
+        insert into fpfl.items (user_id, name, amount, fk_item_type, fk_time_period, begin_date, end_date,
+            weekly_dow, every_other_week_dow, bi_monthly_day_1, bi_monthly_day_2, monthly_dom,
+            quarterly_1_month, quarterly_1_day, quarterly_2_month, quarterly_2_day,
+            quarterly_3_month, quarterly_3_day, quarterly_4_month, quarterly_4_day,
+            semi_annual_1_month, semi_annual_1_day, semi_annual_2_month, semi_annual_2_day,
+            annual_moy, annual_dom, nth_dow, nth_index, date_range_req, schedule_rule)
+        values """;
+
+    private static final String BULK_INSERT_ROW = "(" + String.join(",", Collections.nCopies(30, "?")) + ")";
+
+    /**
+     * Rows per multi-row insert statement. 1,000 rows of 30 parameters stays well below the
+     * 65,535 bind parameter limit of the PostgreSQL wire protocol.
+     */
+    private static final int BULK_INSERT_CHUNK_SIZE = 1000;
+
+    /**
+     * Set-based update of the user's items; a null parameter keeps the current column value.
+     */
+    private static final String BATCH_UPDATE_SQL = """
+        update fpfl.items
+           set name = coalesce(?, name),
+               amount = coalesce(?, amount),
+               fk_time_period = coalesce(?, fk_time_period),
+               begin_date = coalesce(?, begin_date),
+               end_date = coalesce(?, end_date),
+               date_range_req = coalesce(?, date_range_req),
+               version = version + 1
+         where id = any(?) and user_id = ?
+        returning id
+        """;
+
+    /**
+     * Single-statement update of every item column that also returns the row as it was before. The {@code old}
+     * CTE locks the row by its full {@code (user_id, id)} key, so only the owner's partition is probed, and the
+     * version check appended by the caller compares against the committed version; when it fails nothing is
+     * updated and the old row is returned without a new version.
+     */
+    private static final String ITEM_UPDATE_SQL = """
+        with old as (
+            select *
+              from fpfl.items
+             where user_id = ? and id = ?
+               for update),
+        updated as (
+            update fpfl.items i
+               set user_id = ?, name = ?, amount = ?, fk_item_type = ?, fk_time_period = ?, begin_date = ?, end_date = ?,
+                   weekly_dow = ?, every_other_week_dow = ?, bi_monthly_day_1 = ?, bi_monthly_day_2 = ?, monthly_dom = ?,
+                   quarterly_1_month = ?, quarterly_1_day = ?, quarterly_2_month = ?, quarterly_2_day = ?,
+                   quarterly_3_month = ?, quarterly_3_day = ?, quarterly_4_month = ?, quarterly_4_day = ?,
+                   semi_annual_1_month = ?, semi_annual_1_day = ?, semi_annual_2_month = ?, semi_annual_2_day = ?,
+                   annual_moy = ?, annual_dom = ?, nth_dow = ?, nth_index = ?, date_range_req = ?, schedule_rule = ?,
+                   version = i.version + 1
+              from old
+             where i.id = old.id and i.user_id = old.user_id%s
+            returning i.version)
+        select old.*, updated.version as new_version
+          from old
+          left join updated on true
+        """;
+
+    /**
+     * Single-row deletes returning the deleted row, which carries the owner and previous state. The owner's id
+     * pins the delete to one partition; without it the id index of every partition is probed.
+     */
+    private static final String ITEM_DELETE_SQL = "delete from fpfl.items where user_id = ? and id = ? returning *";
+    private static final String ITEM_DELETE_BY_ID_SQL = "delete from fpfl.items where id = ? returning *";
+
+    private static final String BATCH_DELETE_SQL = """
+        delete from fpfl.items
+         where id = any(?) and user_id = ?
+        returning id
+        """;
+
+    /**
+     * Every column shared by {@code items} and {@code items_archive}, in table order.
+     */
+    private static final String ARCHIVE_COLUMNS = """
+        id, user_id, name, amount, fk_item_type, fk_time_period, begin_date, end_date,
+        weekly_dow, every_other_week_dow, bi_monthly_day_1, bi_monthly_day_2, monthly_dom,
+        quarterly_1_month, quarterly_1_day, quarterly_2_month, quarterly_2_day,
+        quarterly_3_month, quarterly_3_day, quarterly_4_month, quarterly_4_day,
+        semi_annual_1_month, semi_annual_1_day, semi_annual_2_month, semi_annual_2_day,
+        annual_moy, annual_dom, nth_dow, nth_index, date_range_req, schedule_rule, version""";
+
+    /**
+     * Moves one batch of expired items to the archive in a single statement. The predicates mirror the ledger
+     * window pushdown: a one-time item (period 1 or none) only occurs on its begin date, and a recurring item
+     * only stops occurring when it requires its date range and that range has ended. Initial amounts are never
+     * archived. Rows locked by concurrent writers are skipped and picked up by a later batch; the candidate ids
+     * are collected into an array so the delete probes the id index of each partition instead of joining the
+     * whole table.
+     */
+    private static final String ARCHIVE_SQL = """
+        with moved as (
+            delete from fpfl.items
+             where id = any(array(select id
+                                    from fpfl.items
+                                   where fk_item_type <> 3
+                                     and (((fk_time_period is null or fk_time_period = 1) and begin_date < ?)
+                                          or (date_range_req and fk_time_period <> 1 and begin_date is not null
+                                              and end_date < ?))
+                                   limit ?
+                                   for update skip locked))
+            returning %1$s)
+        insert into fpfl.items_archive (%1$s)
+        select %1$s from moved
+        returning user_id, id
+        """.formatted(ARCHIVE_COLUMNS);
+
+    private static final String ARCHIVED_BY_USER_SQL =
+        "select " + ARCHIVE_COLUMNS + " from fpfl.items_archive where user_id = ? order by id";
+
+    private static final String INITIAL_AMOUNT_SQL =
+        "select coalesce(amount, 0) from fpfl.items where user_id = ? and fk_item_type = 3";
+
+    /**
+     * Inserts the user's initial amount or, if the user already has one, overwrites it, in one statement.
+     * The unique partial index on {@code user_id} for item type 3 is the conflict arbiter, so concurrent saves
+     * for the same user serialize on it instead of both inserting. A new row returns version 0, an updated one
+     * its incremented version.
+     */
+    private static final String INITIAL_AMOUNT_UPSERT_SQL = """
+        insert into fpfl.items (user_id, name, amount, fk_item_type, begin_date, date_range_req)
+        values (?, ?, ?, 3, ?, false)
+        on conflict (user_id) where fk_item_type = 3
+        do update set name = excluded.name,
+                      amount = excluded.amount,
+                      begin_date = excluded.begin_date,
+                      version = items.version + 1
+        returning id, version
+        """;
+
+    private static final String INITIAL_AMOUNT_UPDATE_SQL = """
+        update fpfl.items
+           set name = ?, amount = ?, begin_date = ?, version = version + 1
+         where id = ? and user_id = ? and fk_item_type = 3
+        returning version
+        """;
+
     private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final SecondLevelCacheInvalidator cacheInvalidator;
 
-    public JpaItemRepositoryCustomImpl(EntityManager entityManager) {
-        this.entityManager = entityManager;
+    public JpaItemRepositoryCustomImpl(EntityManager entityManager, JdbcTemplate jdbcTemplate,
+                                       SecondLevelCacheInvalidator cacheInvalidator) {
+        this.entityManager    = entityManager;
+        this.jdbcTemplate     = jdbcTemplate;
+        this.cacheInvalidator = cacheInvalidator;
     }
 
     /**
@@ -43,6 +276,8 @@ public class JpaItemRepositoryCustomImpl implements JpaItemRepositoryCustom {
                                                                     .get("Id"), itemTypeId));
 
         return entityManager.createQuery(cq)
+                            .setHint(HibernateHints.HINT_CACHEABLE, true)
+                            .setHint(HibernateHints.HINT_CACHE_REGION, CacheRegions.ITEM_LISTS)
                             .getResultList();
     }
 
@@ -61,6 +296,414 @@ public class JpaItemRepositoryCustomImpl implements JpaItemRepositoryCustom {
 
         cq.where(cb.equal(root.get("UserId"), userId));
 
-        return entityManager.createQuery(cq).getResultList();
+        return entityManager.createQuery(cq)
+                            .setHint(HibernateHints.HINT_CACHEABLE, true)
+                            .setHint(HibernateHints.HINT_CACHE_REGION, CacheRegions.ITEM_LISTS)
+                            .getResultList();
+    }
+
+    /**
+     * Retrieves the distinct identifiers of all users that own at least one item, in ascending order.
+     *
+     * @return the owning user identifiers
+     */
+    @Override
+    public List<UUID> findUserIds() {
+        return entityManager.createQuery(USER_IDS_JPQL, UUID.class)
+                            .getResultList();
+    }
+
+    /**
+     * Streams every item in id order through a forward-only database cursor. The driver fetches
+     * {@value #STREAM_FETCH_SIZE} rows at a time and each item is detached once it has been read, so neither
+     * the JDBC result set nor the persistence context grows with the table. PostgreSQL only honours the
+     * fetch size inside a transaction, and the stream must be consumed and closed before it ends.
+     *
+     * @return a lazy stream of read-only, detached items
+     */
+    @Override
+    public Stream<Item> streamAll() {
+        return entityManager.createQuery(STREAM_ALL_JPQL, Item.class)
+                            .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                            .setHint(HibernateHints.HINT_READ_ONLY, true)
+                            .getResultStream()
+                            .map(item -> {
+                                entityManager.detach(item);
+                                return item;
+                            });
+    }
+
+    /**
+     * Retrieves the ledger projection of every item belonging to the specified user.
+     * Unlike {@link #findByUserId(UUID)} no {@link Item} entities are loaded, so the eager
+     * {@code ItemType}/{@code TimePeriod} associations, dirty-checking snapshots and the
+     * persistence context are bypassed.
+     *
+     * @param userId the unique identifier of the user whose items are to be retrieved
+     * @return the ledger projections of the user's items
+     */
+    @Override
+    public List<LedgerItemView> findLedgerItemsByUserId(UUID userId) {
+        return entityManager.createQuery(LEDGER_ITEMS_JPQL, LedgerItemView.class)
+                            .setParameter("userId", userId)
+                            .getResultList();
+    }
+
+    /**
+     * Retrieves the ledger projection of the user's items that can produce an occurrence inside the
+     * ledger window, pushing the window into SQL so expired one-off and range-bound items are not loaded.
+     * The initial amount item is not included.
+     *
+     * @param userId the unique identifier of the user whose items are to be retrieved
+     * @param start  the first day of the ledger window (inclusive)
+     * @param end    the last day of the ledger window (inclusive)
+     * @return the ledger projections of the user's items relevant to the window
+     */
+    @Override
+    public List<LedgerItemView> findLedgerItemsByUserIdInRange(UUID userId, LocalDate start, LocalDate end) {
+        return entityManager.createQuery(LEDGER_ITEMS_IN_RANGE_JPQL, LedgerItemView.class)
+                            .setParameter("userId", userId)
+                            .setParameter("start", start)
+                            .setParameter("end", end)
+                            .getResultList();
+    }
+
+    /**
+     * Retrieves one keyset page of items ordered by {@code (user_id, id)}, fetching one row more than the
+     * limit so the caller can tell whether another page follows. Seeking past the last key of the previous
+     * page instead of using an offset keeps every page an index range scan, however deep the client pages.
+     *
+     * @param query the filters, the key of the previous page's last item and the page limit
+     * @return up to {@code limit + 1} items in key order
+     */
+    @Override
+    public List<Item> findPage(ItemPageQuery query) {
+        List<String> where = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+        if (query.userId() != null) {
+            where.add("i.UserId = :userId");
+            params.put("userId", query.userId());
+        }
+        if (query.afterId() != null) {
+            if (query.userId() != null) {
+                where.add("i.Id > :afterId");
+            } else {
+                // Row-value comparison, so the (user_id, id) index seeks to the cursor instead of filtering
+                where.add("(i.UserId, i.Id) > (:afterUserId, :afterId)");
+                params.put("afterUserId", query.afterUserId());
+            }
+            params.put("afterId", query.afterId());
+        }
+        if (query.itemTypeId() != null) {
+            where.add("i.ItemType.Id = :itemTypeId");
+            params.put("itemTypeId", query.itemTypeId());
+        }
+        if (query.timePeriodId() != null) {
+            where.add("i.TimePeriod.Id = :timePeriodId");
+            params.put("timePeriodId", query.timePeriodId());
+        }
+        if (query.from() != null) {
+            where.add("(i.EndDate is null or i.EndDate >= :from)");
+            params.put("from", query.from());
+        }
+        if (query.to() != null) {
+            where.add("(i.BeginDate is null or i.BeginDate <= :to)");
+            params.put("to", query.to());
+        }
+        String jpql = PAGE_SELECT + (where.isEmpty() ? "" : " where " + String.join(" and ", where))
+                      + " order by i.UserId, i.Id";
+
+        TypedQuery<Item> page = entityManager.createQuery(jpql, Item.class);
+        params.forEach(page::setParameter);
+        return page.setMaxResults(query.limit() + 1)
+                   .getResultList();
+    }
+
+    /**
+     * Inserts new items with one multi-row {@code INSERT ... RETURNING id} statement per chunk of
+     * {@value #BULK_INSERT_CHUNK_SIZE} rows, bypassing the persistence context. Identity keys would otherwise
+     * force Hibernate to issue one insert round trip per entity.
+     * The generated ids are written back to the given entities, in input order.
+     *
+     * @param items the new items; their ids are ignored
+     * @return the generated ids in input order
+     */
+    @Override
+    public List<Long> insertAll(List<Item> items) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        cacheInvalidator.evictAfterWrite();
+        List<Long> ids = new ArrayList<>(items.size());
+        for (int from = 0; from < items.size(); from += BULK_INSERT_CHUNK_SIZE) {
+            List<Item> chunk = items.subList(from, Math.min(from + BULK_INSERT_CHUNK_SIZE, items.size()));
+            String sql = BULK_INSERT_COLUMNS + String.join(",", Collections.nCopies(chunk.size(), BULK_INSERT_ROW))
+                         + " returning id";
+            List<Long> chunkIds = jdbcTemplate.query(sql, ps -> bindRows(ps, chunk), (rs, rowNum) -> rs.getLong(1));
+            for (int k = 0; k < chunk.size(); k++) {
+                chunk.get(k).setId(chunkIds.get(k));
+            }
+            ids.addAll(chunkIds);
+        }
+        return ids;
+    }
+
+    /**
+     * Applies the patch to the user's items with the given ids in one {@code UPDATE ... RETURNING id} statement.
+     *
+     * @param userId the owner of the items
+     * @param ids    the item identifiers
+     * @param patch  the column changes
+     * @return the ids that were updated
+     */
+    @Override
+    public List<Long> updateAll(UUID userId, List<Long> ids, ItemBatchPatch patch) {
+        cacheInvalidator.evictAfterWrite();
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(BATCH_UPDATE_SQL);
+            ps.setObject(1, patch.name(), Types.VARCHAR);
+            ps.setObject(2, patch.amount(), Types.DOUBLE);
+            ps.setObject(3, patch.timePeriodId(), Types.BIGINT);
+            ps.setObject(4, patch.beginDate(), Types.DATE);
+            ps.setObject(5, patch.endDate(), Types.DATE);
+            ps.setObject(6, patch.dateRangeReq(), Types.BOOLEAN);
+            ps.setArray(7, idArray(ps, ids));
+            ps.setObject(8, userId, Types.OTHER);
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+    }
+
+    /**
+     * Overwrites the owner's item with the given id in one statement, without loading it first, and returns the
+     * row as it was before. The owner is taken from {@code entity}. When {@code expectedVersion} is given the row is only updated if its version still
+     * matches, which makes the write an optimistic compare-and-set.
+     *
+     * @param id              the item identifier
+     * @param entity          the new item values and owner; its id and version are ignored
+     * @param expectedVersion the version the caller based the change on, or {@code null} to update unconditionally
+     * @return the previous state and the new version (null if the version did not match), or empty if the owner
+     *         has no item with the id
+     */
+    @Override
+    public Optional<ItemUpdateResult> updateIfVersion(Long id, Item entity, Long expectedVersion) {
+        String sql = ITEM_UPDATE_SQL.formatted(expectedVersion == null ? "" : " and old.version = ?");
+        cacheInvalidator.evictAfterWrite();
+        List<ItemUpdateResult> results = jdbcTemplate.query(sql, ps -> {
+            ps.setObject(1, entity.getUserId());
+            ps.setLong(2, id);
+            int p = bindItem(ps, 3, entity);
+            if (expectedVersion != null) {
+                ps.setLong(p, expectedVersion);
+            }
+        }, (rs, rowNum) -> new ItemUpdateResult(itemOf(rs), rs.getObject("new_version", Long.class)));
+        return results.stream()
+                      .findFirst();
+    }
+
+    /**
+     * Loads the owner's item with the given id, with its item type and time period, by the full primary key.
+     *
+     * @param userId the owner of the item
+     * @param id     the item identifier
+     * @return the item, or empty if the owner has no item with the id
+     */
+    @Override
+    public Optional<Item> findByUserIdAndId(UUID userId, Long id) {
+        return entityManager.createQuery(PAGE_SELECT + " where i.UserId = :userId and i.Id = :id", Item.class)
+                            .setParameter("userId", userId)
+                            .setParameter("id", id)
+                            .getResultList()
+                            .stream()
+                            .findFirst();
+    }
+
+    /**
+     * Deletes the item with the given id in one {@code DELETE ... RETURNING} statement.
+     *
+     * @param userId the owner of the item, or {@code null} to delete by id alone
+     * @param id     the item identifier
+     * @return the deleted item, detached, or empty if no row matches
+     */
+    @Override
+    public Optional<Item> deleteByIdReturning(UUID userId, Long id) {
+        cacheInvalidator.evictAfterWrite();
+        List<Item> deleted = userId != null
+                             ? jdbcTemplate.query(ITEM_DELETE_SQL, (rs, rowNum) -> itemOf(rs), userId, id)
+                             : jdbcTemplate.query(ITEM_DELETE_BY_ID_SQL, (rs, rowNum) -> itemOf(rs), id);
+        return deleted.stream()
+                      .findFirst();
+    }
+
+    /**
+     * Deletes the user's items with the given ids in one {@code DELETE ... RETURNING id} statement.
+     *
+     * @param userId the owner of the items
+     * @param ids    the item identifiers
+     * @return the ids that were deleted
+     */
+    @Override
+    public List<Long> deleteAll(UUID userId, List<Long> ids) {
+        cacheInvalidator.evictAfterWrite();
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(BATCH_DELETE_SQL);
+            ps.setArray(1, idArray(ps, ids));
+            ps.setObject(2, userId, Types.OTHER);
+            return ps;
+        }, (rs, rowNum) -> rs.getLong(1));
+    }
+
+    /**
+     * Moves up to {@code limit} items that cannot produce an occurrence on or after {@code cutoff} from
+     * {@code items} to {@code items_archive}, in one {@code DELETE ... RETURNING} feeding an insert.
+     *
+     * @param cutoff the first day whose occurrences must stay in the hot table
+     * @param limit  the maximum number of items to move
+     * @return the owners and ids of the moved items
+     */
+    @Override
+    public List<ItemKey> archiveExpired(LocalDate cutoff, int limit) {
+        cacheInvalidator.evictAfterWrite();
+        return jdbcTemplate.query(ARCHIVE_SQL, ps -> {
+            ps.setObject(1, cutoff, Types.DATE);
+            ps.setObject(2, cutoff, Types.DATE);
+            ps.setInt(3, limit);
+        }, (rs, rowNum) -> new ItemKey(rs.getObject(1, UUID.class), rs.getLong(2)));
+    }
+
+    /**
+     * Retrieves the user's archived items in id order. The rows are not entities: the returned items are
+     * detached, and their item type and time period carry only the id.
+     *
+     * @param userId the owner of the items
+     * @return the user's archived items
+     */
+    @Override
+    public List<Item> findArchivedByUserId(UUID userId) {
+        return jdbcTemplate.query(ARCHIVED_BY_USER_SQL, (rs, rowNum) -> itemOf(rs), userId);
+    }
+
+    /**
+     * Retrieves the amount of the user's initial amount item through the unique initial amount index.
+     *
+     * @param userId the owner of the initial amount
+     * @return the amount, or empty if the user has no initial amount
+     */
+    @Override
+    public Optional<Double> findInitialAmount(UUID userId) {
+        return jdbcTemplate.query(INITIAL_AMOUNT_SQL, (rs, rowNum) -> rs.getDouble(1), userId)
+                           .stream()
+                           .findFirst();
+    }
+
+    /**
+     * Inserts or overwrites the user's initial amount in one {@code INSERT ... ON CONFLICT DO UPDATE} statement.
+     * The generated or existing id and the new version are written back to the entity.
+     *
+     * @param entity the initial amount values; its id and version are ignored
+     * @return the saved entity and whether it was inserted
+     */
+    @Override
+    public InitialAmountResult upsertInitialAmount(Item entity) {
+        cacheInvalidator.evictAfterWrite();
+        return jdbcTemplate.query(INITIAL_AMOUNT_UPSERT_SQL, ps -> {
+            ps.setObject(1, entity.getUserId(), Types.OTHER);
+            ps.setObject(2, entity.getName(), Types.VARCHAR);
+            ps.setObject(3, entity.getAmount(), Types.DOUBLE);
+            ps.setObject(4, entity.getBeginDate(), Types.DATE);
+        }, (rs, rowNum) -> {
+            entity.setId(rs.getLong("id"));
+            entity.setVersion(rs.getLong("version"));
+            return new InitialAmountResult(entity, entity.getVersion() == 0);
+        }).getFirst();
+    }
+
+    /**
+     * Overwrites the user's initial amount with the given id in one {@code UPDATE ... RETURNING version}
+     * statement, without loading it first.
+     *
+     * @param id     the item identifier
+     * @param entity the new initial amount values; its id and version are ignored
+     * @return the new version, or empty if the id is not the user's initial amount
+     */
+    @Override
+    public Optional<Long> updateInitialAmount(Long id, Item entity) {
+        cacheInvalidator.evictAfterWrite();
+        List<Long> versions = jdbcTemplate.query(INITIAL_AMOUNT_UPDATE_SQL, ps -> {
+            ps.setObject(1, entity.getName(), Types.VARCHAR);
+            ps.setObject(2, entity.getAmount(), Types.DOUBLE);
+            ps.setObject(3, entity.getBeginDate(), Types.DATE);
+            ps.setLong(4, id);
+            ps.setObject(5, entity.getUserId(), Types.OTHER);
+        }, (rs, rowNum) -> rs.getLong(1));
+        return versions.stream()
+                       .findFirst();
+    }
+
+    /**
+     * Maps a row of {@code items} or {@code items_archive} to a detached item whose item type and time period
+     * carry only the id.
+     */
+    private static Item itemOf(ResultSet rs) throws SQLException {
+        Long timePeriodId = rs.getObject("fk_time_period", Long.class);
+        Item item = new Item(rs.getLong("id"), rs.getObject("user_id", UUID.class), rs.getString("name"),
+                             rs.getObject("amount", Double.class),
+                             new ItemType(rs.getLong("fk_item_type"), null),
+                             timePeriodId == null ? null : new TimePeriod(timePeriodId, null),
+                             rs.getObject("begin_date", LocalDate.class), rs.getObject("end_date", LocalDate.class),
+                             rs.getObject("weekly_dow", Integer.class), rs.getObject("every_other_week_dow", Integer.class),
+                             rs.getObject("bi_monthly_day_1", Integer.class), rs.getObject("bi_monthly_day_2", Integer.class),
+                             rs.getObject("monthly_dom", Integer.class),
+                             rs.getObject("quarterly_1_month", Integer.class), rs.getObject("quarterly_1_day", Integer.class),
+                             rs.getObject("quarterly_2_month", Integer.class), rs.getObject("quarterly_2_day", Integer.class),
+                             rs.getObject("quarterly_3_month", Integer.class), rs.getObject("quarterly_3_day", Integer.class),
+                             rs.getObject("quarterly_4_month", Integer.class), rs.getObject("quarterly_4_day", Integer.class),
+                             rs.getObject("semi_annual_1_month", Integer.class), rs.getObject("semi_annual_1_day", Integer.class),
+                             rs.getObject("semi_annual_2_month", Integer.class), rs.getObject("semi_annual_2_day", Integer.class),
+                             rs.getObject("annual_moy", Integer.class), rs.getObject("annual_dom", Integer.class),
+                             rs.getObject("nth_dow", Integer.class), rs.getObject("nth_index", Integer.class),
+                             rs.getBoolean("date_range_req"));
+        item.setVersion(rs.getLong("version"));
+        return item;
+    }
+
+    private static Array idArray(PreparedStatement ps, List<Long> ids) throws SQLException {
+        return ps.getConnection()
+                 .createArrayOf("bigint", ids.toArray());
+    }
+
+    private static void bindRows(PreparedStatement ps, List<Item> chunk) throws SQLException {
+        int p = 1;
+        for (Item item : chunk) {
+            p = bindItem(ps, p, item);
+        }
+    }
+
+    /**
+     * Binds the 30 item columns shared by the bulk insert and the single-row update, in column order.
+     * The schedule rule is encoded from the sparse recurrence fields, as the entity does on persist.
+     *
+     * @return the next free parameter index
+     */
+    private static int bindItem(PreparedStatement ps, int p, Item item) throws SQLException {
+        ps.setObject(p++, item.getUserId(), Types.OTHER);
+        ps.setObject(p++, item.getName(), Types.VARCHAR);
+        ps.setObject(p++, item.getAmount(), Types.DOUBLE);
+        ps.setObject(p++, item.getItemType().getId(), Types.BIGINT);
+        ps.setObject(p++, item.getTimePeriod() == null ? null : item.getTimePeriod().getId(), Types.BIGINT);
+        ps.setObject(p++, item.getBeginDate(), Types.DATE);
+        ps.setObject(p++, item.getEndDate(), Types.DATE);
+        for (Integer value : new Integer[] {
+                item.getWeeklyDow(), item.getEveryOtherWeekDow(), item.getBiMonthlyDay1(), item.getBiMonthlyDay2(),
+                item.getMonthlyDom(), item.getQuarterly1Month(), item.getQuarterly1Day(),
+                item.getQuarterly2Month(), item.getQuarterly2Day(), item.getQuarterly3Month(),
+                item.getQuarterly3Day(), item.getQuarterly4Month(), item.getQuarterly4Day(),
+                item.getSemiAnnual1Month(), item.getSemiAnnual1Day(), item.getSemiAnnual2Month(),
+                item.getSemiAnnual2Day(), item.getAnnualMoy(), item.getAnnualDom(), item.getNthDow(),
+                item.getNthIndex()}) {
+            ps.setObject(p++, value, Types.INTEGER);
+        }
+        ps.setObject(p++, item.getDateRangeReq(), Types.BOOLEAN);
+        ps.setObject(p++, ScheduleRuleCodec.encode(item.schedule()), Types.VARCHAR);
+        return p;
     }
 }
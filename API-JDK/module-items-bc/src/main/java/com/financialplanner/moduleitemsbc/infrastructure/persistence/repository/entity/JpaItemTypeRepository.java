@@ -2,7 +2,11 @@ package com.financialplanner.moduleitemsbc.infrastructure.persistence.repository
 
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.ItemType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository interface for managing {@code ItemType} entities.
@@ -16,5 +20,20 @@ import org.springframework.stereotype.Repository;
  * management and interaction with persistent storage.
  */
 @Repository
-public interface JpaItemTypeRepository extends JpaRepository<ItemType, Long> {}
+public interface JpaItemTypeRepository extends JpaRepository<ItemType, Long> {
+
+    @Query("select count(i) > 0 from Item i where i.ItemType.Id = :id")
+    boolean isReferenced(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query(value = "insert into fpfl.item_types (id, name) values (:id, :name) "
+                   + "on conflict (id) do update set name = excluded.name", nativeQuery = true)
+    int upsert(@Param("id") Long id, @Param("name") String name);
+
+    @Modifying
+    @Transactional
+    @Query("delete from ItemType t where t.Id = :id")
+    int deleteIfExists(@Param("id") Long id);
+}
 
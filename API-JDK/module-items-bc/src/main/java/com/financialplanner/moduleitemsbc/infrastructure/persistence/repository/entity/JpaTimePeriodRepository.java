@@ -2,7 +2,11 @@ package com.financialplanner.moduleitemsbc.infrastructure.persistence.repository
 
 import com.financialplanner.moduleitemsbc.infrastructure.persistence.entity.TimePeriod;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository interface for managing {@code TimePeriod} entities.
@@ -15,4 +19,19 @@ import org.springframework.stereotype.Repository;
  * facilitate efficient data management and interaction with persistent storage.
  */
 @Repository
-public interface JpaTimePeriodRepository extends JpaRepository<TimePeriod, Long> {}
+public interface JpaTimePeriodRepository extends JpaRepository<TimePeriod, Long> {
+
+    @Query("select count(i) > 0 from Item i where i.TimePeriod.Id = :id")
+    boolean isReferenced(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query(value = "insert into fpfl.time_periods (id, name) values (:id, :name) "
+                   + "on conflict (id) do update set name = excluded.name", nativeQuery = true)
+    int upsert(@Param("id") Long id, @Param("name") String name);
+
+    @Modifying
+    @Transactional
+    @Query("delete from TimePeriod t where t.Id = :id")
+    int deleteIfExists(@Param("id") Long id);
+}
@@ -0,0 +1,30 @@
+-- Append-only audit trail of committed item changes, written in batches by the application's audit writer.
+-- Rows are never updated or deleted: the trigger rejects both, while truncate (not a row-level operation)
+-- stays available for retention. Support looks changes up by user and time or by item.
+
+create table if not exists fpfl.item_audit_log (
+    id            bigint                   generated always as identity,
+    changed_at    timestamp with time zone not null,
+    user_id       uuid,
+    item_id       bigint                   not null,
+    action        varchar(10)              not null,
+    version       bigint,
+    amount_before float(53),
+    amount_after  float(53),
+    constraint pk_item_audit_log primary key (id)
+);
+
+create index if not exists ix_item_audit_log_user_id_changed_at on fpfl.item_audit_log (user_id, changed_at);
+create index if not exists ix_item_audit_log_item_id on fpfl.item_audit_log (item_id);
+
+create or replace function fpfl.item_audit_log_append_only() returns trigger
+    language plpgsql as
+$$
+begin
+    raise exception 'fpfl.item_audit_log is append-only';
+end
+$$;
+
+create trigger tg_item_audit_log_append_only
+    before update or delete on fpfl.item_audit_log
+    for each row execute function fpfl.item_audit_log_append_only();
@@ -0,0 +1,74 @@
+-- Item tables as previously created by Hibernate auto-DDL, plus the reference rows they depend on.
+-- Every statement is guarded so databases that predate versioned migrations (baselined at version 0)
+-- pass through this script unchanged.
+
+create table if not exists fpfl.item_types (
+    id   bigint       not null,
+    name varchar(255) not null,
+    constraint pk_item_types primary key (id)
+);
+
+create table if not exists fpfl.time_periods (
+    id   bigint       not null,
+    name varchar(255) not null,
+    constraint pk_time_periods primary key (id)
+);
+
+create table if not exists fpfl.items (
+    id                   bigint generated by default as identity,
+    user_id              uuid    not null,
+    name                 varchar(255),
+    amount               float(53),
+    fk_item_type         bigint  not null,
+    fk_time_period       bigint,
+    begin_date           date,
+    end_date             date,
+    weekly_dow           integer,
+    every_other_week_dow integer,
+    bi_monthly_day_1     integer,
+    bi_monthly_day_2     integer,
+    monthly_dom          integer,
+    quarterly_1_month    integer,
+    quarterly_1_day      integer,
+    quarterly_2_month    integer,
+    quarterly_2_day      integer,
+    quarterly_3_month    integer,
+    quarterly_3_day      integer,
+    quarterly_4_month    integer,
+    quarterly_4_day      integer,
+    semi_annual_1_month  integer,
+    semi_annual_1_day    integer,
+    semi_annual_2_month  integer,
+    semi_annual_2_day    integer,
+    annual_moy           integer,
+    annual_dom           integer,
+    nth_dow              integer,
+    nth_index            integer,
+    date_range_req       boolean not null,
+    version              bigint  not null default 0,
+    constraint pk_items primary key (id),
+    constraint fk_items_item_type foreign key (fk_item_type) references fpfl.item_types (id),
+    constraint fk_items_time_period foreign key (fk_time_period) references fpfl.time_periods (id)
+);
+
+-- Optimistic-lock column for databases whose items table predates it
+alter table fpfl.items add column if not exists version bigint not null default 0;
+
+insert into fpfl.item_types (id, name)
+values (1, 'Credit'),
+       (2, 'Debit'),
+       (3, 'Initial Amount')
+on conflict (id) do nothing;
+
+insert into fpfl.time_periods (id, name)
+values (1, 'One Time Occurrence'),
+       (2, 'Daily'),
+       (3, 'Weekly'),
+       (4, 'Every Two Weeks'),
+       (5, 'Bi-Monthly'),
+       (6, 'Monthly'),
+       (7, 'Quarterly'),
+       (8, 'Semi-Annually'),
+       (9, 'Annually'),
+       (10, 'Nth-Weekday')
+on conflict (id) do nothing;
@@ -0,0 +1,15 @@
+-- Indexes for the per-user item queries. Each composite index leads with user_id, so a separate
+-- single-column items(user_id) index would only duplicate them.
+
+-- items by user and type (initial amount lookup, typed item lists)
+create index if not exists ix_items_user_id_item_type on fpfl.items (user_id, fk_item_type);
+
+-- at most one initial amount (type 3) per user, found without touching the other items
+create index if not exists ix_items_initial_amount_user_id on fpfl.items (user_id) where fk_item_type = 3;
+
+-- ledger window pushdown
+create index if not exists ix_items_user_id_begin_date on fpfl.items (user_id, begin_date);
+create index if not exists ix_items_user_id_end_date on fpfl.items (user_id, end_date);
+
+-- keyset pagination of GET /items
+create index if not exists ix_items_user_id_id on fpfl.items (user_id, id);
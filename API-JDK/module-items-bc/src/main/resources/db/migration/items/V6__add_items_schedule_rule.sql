@@ -0,0 +1,34 @@
+-- Compact encoding of the sparse recurrence columns, see ScheduleRuleCodec. Groups are ';'-separated, each a
+-- tag letter and its comma-separated fields (empty for null); all-null groups are omitted.
+
+alter table fpfl.items add column if not exists schedule_rule text;
+
+update fpfl.items
+   set schedule_rule = concat_ws(';',
+           'W' || weekly_dow,
+           'E' || every_other_week_dow,
+           case when num_nonnulls(bi_monthly_day_1, bi_monthly_day_2) > 0
+                then 'B' || concat_ws(',', coalesce(bi_monthly_day_1::text, ''), coalesce(bi_monthly_day_2::text, ''))
+           end,
+           'M' || monthly_dom,
+           case when num_nonnulls(quarterly_1_month, quarterly_1_day, quarterly_2_month, quarterly_2_day,
+                                  quarterly_3_month, quarterly_3_day, quarterly_4_month, quarterly_4_day) > 0
+                then 'Q' || concat_ws(',', coalesce(quarterly_1_month::text, ''), coalesce(quarterly_1_day::text, ''),
+                                           coalesce(quarterly_2_month::text, ''), coalesce(quarterly_2_day::text, ''),
+                                           coalesce(quarterly_3_month::text, ''), coalesce(quarterly_3_day::text, ''),
+                                           coalesce(quarterly_4_month::text, ''), coalesce(quarterly_4_day::text, ''))
+           end,
+           case when num_nonnulls(semi_annual_1_month, semi_annual_1_day, semi_annual_2_month, semi_annual_2_day) > 0
+                then 'S' || concat_ws(',', coalesce(semi_annual_1_month::text, ''), coalesce(semi_annual_1_day::text, ''),
+                                           coalesce(semi_annual_2_month::text, ''), coalesce(semi_annual_2_day::text, ''))
+           end,
+           case when num_nonnulls(annual_moy, annual_dom) > 0
+                then 'A' || concat_ws(',', coalesce(annual_moy::text, ''), coalesce(annual_dom::text, ''))
+           end,
+           case when num_nonnulls(nth_dow, nth_index) > 0
+                then 'N' || concat_ws(',', coalesce(nth_dow::text, ''), coalesce(nth_index::text, ''))
+           end)
+ where schedule_rule is null;
+
+alter table fpfl.items alter column schedule_rule set default '';
+alter table fpfl.items alter column schedule_rule set not null;
@@ -0,0 +1,47 @@
+-- Cold storage for items that can no longer produce a ledger occurrence, moved out of fpfl.items in batches
+-- by the item archive job. Rows keep their id and column values; history queries read them by user.
+
+create table if not exists fpfl.items_archive (
+    id                   bigint                   not null,
+    user_id              uuid                     not null,
+    name                 varchar(255),
+    amount               float(53),
+    fk_item_type         bigint                   not null,
+    fk_time_period       bigint,
+    begin_date           date,
+    end_date             date,
+    weekly_dow           integer,
+    every_other_week_dow integer,
+    bi_monthly_day_1     integer,
+    bi_monthly_day_2     integer,
+    monthly_dom          integer,
+    quarterly_1_month    integer,
+    quarterly_1_day      integer,
+    quarterly_2_month    integer,
+    quarterly_2_day      integer,
+    quarterly_3_month    integer,
+    quarterly_3_day      integer,
+    quarterly_4_month    integer,
+    quarterly_4_day      integer,
+    semi_annual_1_month  integer,
+    semi_annual_1_day    integer,
+    semi_annual_2_month  integer,
+    semi_annual_2_day    integer,
+    annual_moy           integer,
+    annual_dom           integer,
+    nth_dow              integer,
+    nth_index            integer,
+    date_range_req       boolean                  not null,
+    schedule_rule        text                     not null default '',
+    version              bigint                   not null default 0,
+    archived_at          timestamp with time zone not null default now(),
+    constraint pk_items_archive primary key (id)
+);
+
+-- history queries by user
+create index if not exists ix_items_archive_user_id_id on fpfl.items_archive (user_id, id);
+
+-- archive candidates: one-time items by date, and recurring items by the end of their required range
+create index if not exists ix_items_one_time_begin_date on fpfl.items (begin_date)
+    where fk_time_period is null or fk_time_period = 1;
+create index if not exists ix_items_range_end_date on fpfl.items (end_date) where date_range_req;
@@ -0,0 +1,98 @@
+-- Hash-partitions fpfl.items on user_id into 16 partitions (fpfl.items_p00 .. fpfl.items_p15).
+-- Per-user queries filter on user_id and are pruned to a single partition, so their index depth and bloat
+-- track one partition rather than the whole table; vacuum and reindex can run partition by partition.
+--
+-- Partitioned tables require the partition key in every unique constraint, so the primary key becomes
+-- (user_id, id). Ids stay unique through the sequence; lookups by id alone use ix_items_id in each partition.
+-- Identity columns on partitioned tables need PostgreSQL 17, so ids come from a sequence default instead.
+
+create table fpfl.items_partitioned (
+    id                   bigint  not null,
+    user_id              uuid    not null,
+    name                 varchar(255),
+    amount               float(53),
+    fk_item_type         bigint  not null,
+    fk_time_period       bigint,
+    begin_date           date,
+    end_date             date,
+    weekly_dow           integer,
+    every_other_week_dow integer,
+    bi_monthly_day_1     integer,
+    bi_monthly_day_2     integer,
+    monthly_dom          integer,
+    quarterly_1_month    integer,
+    quarterly_1_day      integer,
+    quarterly_2_month    integer,
+    quarterly_2_day      integer,
+    quarterly_3_month    integer,
+    quarterly_3_day      integer,
+    quarterly_4_month    integer,
+    quarterly_4_day      integer,
+    semi_annual_1_month  integer,
+    semi_annual_1_day    integer,
+    semi_annual_2_month  integer,
+    semi_annual_2_day    integer,
+    annual_moy           integer,
+    annual_dom           integer,
+    nth_dow              integer,
+    nth_index            integer,
+    date_range_req       boolean not null,
+    schedule_rule        text    not null default '',
+    version              bigint  not null default 0
+) partition by hash (user_id);
+
+do $$
+begin
+    for r in 0..15 loop
+        execute format('create table fpfl.%I partition of fpfl.items_partitioned for values with (modulus 16, remainder %s)',
+                       'items_p' || lpad(r::text, 2, '0'), r);
+    end loop;
+end
+$$;
+
+insert into fpfl.items_partitioned (
+    id, user_id, name, amount, fk_item_type, fk_time_period, begin_date, end_date,
+    weekly_dow, every_other_week_dow, bi_monthly_day_1, bi_monthly_day_2, monthly_dom,
+    quarterly_1_month, quarterly_1_day, quarterly_2_month, quarterly_2_day,
+    quarterly_3_month, quarterly_3_day, quarterly_4_month, quarterly_4_day,
+    semi_annual_1_month, semi_annual_1_day, semi_annual_2_month, semi_annual_2_day,
+    annual_moy, annual_dom, nth_dow, nth_index, date_range_req, schedule_rule, version)
+select id, user_id, name, amount, fk_item_type, fk_time_period, begin_date, end_date,
+       weekly_dow, every_other_week_dow, bi_monthly_day_1, bi_monthly_day_2, monthly_dom,
+       quarterly_1_month, quarterly_1_day, quarterly_2_month, quarterly_2_day,
+       quarterly_3_month, quarterly_3_day, quarterly_4_month, quarterly_4_day,
+       semi_annual_1_month, semi_annual_1_day, semi_annual_2_month, semi_annual_2_day,
+       annual_moy, annual_dom, nth_dow, nth_index, date_range_req, schedule_rule, version
+from fpfl.items;
+
+-- Dropping the old table also drops its identity sequence and indexes, freeing their names
+drop table fpfl.items;
+alter table fpfl.items_partitioned rename to items;
+
+-- Archived items keep their ids, so new ids continue after both tables
+create sequence fpfl.items_id_seq owned by fpfl.items.id;
+select setval('fpfl.items_id_seq',
+              greatest((select max(id) from fpfl.items), (select max(id) from fpfl.items_archive), 0) + 1,
+              false);
+alter table fpfl.items alter column id set default nextval('fpfl.items_id_seq');
+
+alter table fpfl.items add constraint pk_items primary key (user_id, id);
+alter table fpfl.items add constraint fk_items_item_type foreign key (fk_item_type) references fpfl.item_types (id);
+alter table fpfl.items add constraint fk_items_time_period foreign key (fk_time_period) references fpfl.time_periods (id);
+
+-- lookups by id alone (get, update, delete); one probe per partition
+create index ix_items_id on fpfl.items (id);
+
+-- per-user indexes from V4; the primary key now serves keyset pagination on (user_id, id)
+create index ix_items_user_id_item_type on fpfl.items (user_id, fk_item_type);
+create index ix_items_initial_amount_user_id on fpfl.items (user_id) where fk_item_type = 3;
+create index ix_items_user_id_begin_date on fpfl.items (user_id, begin_date);
+create index ix_items_user_id_end_date on fpfl.items (user_id, end_date);
+
+-- archive candidates from V7
+create index ix_items_one_time_begin_date on fpfl.items (begin_date)
+    where fk_time_period is null or fk_time_period = 1;
+create index ix_items_range_end_date on fpfl.items (end_date) where date_range_req;
+
+-- autovacuum analyzes the partitions but never the partitioned parent
+analyze fpfl.items;
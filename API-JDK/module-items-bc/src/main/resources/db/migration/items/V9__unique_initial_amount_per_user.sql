@@ -0,0 +1,34 @@
+-- A user has at most one initial amount item (item type 3). The unique partial index replaces the plain one
+-- from V8 and is the arbiter of the initial amount upsert (insert ... on conflict (user_id) where fk_item_type = 3).
+-- It includes the partition key, so it can be enforced on the hash-partitioned table.
+
+-- Earlier check-then-insert creates could race. Keep each user's most edited initial amount (highest version,
+-- then newest id) and move the others to the archive, where support can still find and restore them.
+with ranked as (
+    select user_id, id,
+           row_number() over (partition by user_id order by version desc, id desc) as rn
+      from fpfl.items
+     where fk_item_type = 3),
+moved as (
+    delete from fpfl.items i
+     using ranked r
+     where i.user_id = r.user_id
+       and i.id = r.id
+       and r.rn > 1
+    returning i.*)
+insert into fpfl.items_archive (id, user_id, name, amount, fk_item_type, fk_time_period, begin_date, end_date,
+                                weekly_dow, every_other_week_dow, bi_monthly_day_1, bi_monthly_day_2, monthly_dom,
+                                quarterly_1_month, quarterly_1_day, quarterly_2_month, quarterly_2_day,
+                                quarterly_3_month, quarterly_3_day, quarterly_4_month, quarterly_4_day,
+                                semi_annual_1_month, semi_annual_1_day, semi_annual_2_month, semi_annual_2_day,
+                                annual_moy, annual_dom, nth_dow, nth_index, date_range_req, schedule_rule, version)
+select id, user_id, name, amount, fk_item_type, fk_time_period, begin_date, end_date,
+       weekly_dow, every_other_week_dow, bi_monthly_day_1, bi_monthly_day_2, monthly_dom,
+       quarterly_1_month, quarterly_1_day, quarterly_2_month, quarterly_2_day,
+       quarterly_3_month, quarterly_3_day, quarterly_4_month, quarterly_4_day,
+       semi_annual_1_month, semi_annual_1_day, semi_annual_2_month, semi_annual_2_day,
+       annual_moy, annual_dom, nth_dow, nth_index, date_range_req, schedule_rule, version
+  from moved;
+
+drop index fpfl.ix_items_initial_amount_user_id;
+create unique index ux_items_initial_amount_user_id on fpfl.items (user_id) where fk_item_type = 3;